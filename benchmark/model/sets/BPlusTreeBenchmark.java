@@ -0,0 +1,119 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Classe responsável por comparar o tempo de busca, inserção e percurso completo da árvore B+
+ * com o da árvore convencional.
+ * Não faz parte da suíte de testes: é executada à parte, com as classes do projeto no caminho de classes.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class BPlusTreeBenchmark {
+
+    /**
+     * Método responsável por executar a medição.
+     * @param args Refere-se aos argumentos, que não são usados.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    public static void main(final String[] args) throws KeyUsedException, ElementNotFoundException {
+        final int count = 300000;
+        final List<Integer> keys = new ArrayList<>();
+        for (Integer i = 0; i < count; i++) {
+            keys.add(i);
+        }
+        Collections.shuffle(keys, new Random(14072020));
+        for (int round = 0; round < 2; round++) {
+            final Tree<Integer, Integer> avl = new Tree<>();
+            final BPlusTree<Integer, Integer> bPlusTree = new BPlusTree<>();
+            final long avlInsert = insertAll(avl, keys);
+            final long bPlusInsert = insertAll(bPlusTree, keys);
+            final long avlSearch = searchAll(avl, keys);
+            final long bPlusSearch = searchAll(bPlusTree, keys);
+            final long avlScan = scan(avl);
+            final long bPlusScan = scan(bPlusTree);
+            if (round > 0) {
+                System.out.printf("BPlusTree %,d elementos (ms): inserção AVL %d / B+ %d, busca AVL %d / B+ %d, percurso AVL %d / B+ %d%n",
+                        count, avlInsert, bPlusInsert, avlSearch, bPlusSearch, avlScan, bPlusScan);
+            }
+            if (avl.size() != bPlusTree.size()) {
+                throw new IllegalStateException("As árvores resultaram em tamanhos distintos.");
+            }
+        }
+    }
+
+    /**
+     * Método responsável por inserir dadas chaves em dada árvore.
+     * @param target Refere-se a árvore.
+     * @param keys   Refere-se as chaves.
+     * @return Retorna tempo gasto em milissegundos.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    private static long insertAll(final ITree<Integer, Integer> target, final List<Integer> keys) throws KeyUsedException {
+        final long begin = System.nanoTime();
+        for (final Integer key : keys) {
+            target.insert(key, key);
+        }
+        return (System.nanoTime() - begin) / 1000000;
+    }
+
+    /**
+     * Método responsável por buscar dadas chaves em dada árvore.
+     * @param target Refere-se a árvore.
+     * @param keys   Refere-se as chaves.
+     * @return Retorna tempo gasto em milissegundos.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    private static long searchAll(final ITree<Integer, Integer> target, final List<Integer> keys) throws ElementNotFoundException {
+        final long begin = System.nanoTime();
+        for (final Integer key : keys) {
+            if (!key.equals(target.search(key))) {
+                throw new IllegalStateException("A busca retornou outro elemento.");
+            }
+        }
+        return (System.nanoTime() - begin) / 1000000;
+    }
+
+    /**
+     * Método responsável por percorrer dez vezes todos os elementos de dada árvore.
+     * @param target Refere-se a árvore.
+     * @return Retorna tempo gasto em milissegundos.
+     */
+    private static long scan(final ITree<Integer, Integer> target) {
+        final long[] sum = {0};
+        final long begin = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            target.forEach(false, element -> sum[0] += element);
+        }
+        final long elapsed = (System.nanoTime() - begin) / 1000000;
+        if (sum[0] <= 0) {
+            throw new IllegalStateException("O percurso não visitou os elementos.");
+        }
+        return elapsed;
+    }
+
+}
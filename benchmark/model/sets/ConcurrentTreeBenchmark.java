@@ -0,0 +1,136 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe responsável por medir a vazão da árvore concorrente e da árvore convencional sincronizada
+ * com 1, 4 e 16 linhas de execução, numa carga de 90% de buscas e 10% de alterações.
+ * Não faz parte da suíte de testes: é executada à parte, com as classes do projeto no caminho de classes.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class ConcurrentTreeBenchmark {
+    /**
+     * Refere-se a quantidade de chaves disputadas na medição.
+     */
+    private static final int KEYS = 10000;
+    /**
+     * Refere-se a duração, em milissegundos, de cada medição de vazão.
+     */
+    private static final long DURATION = 200;
+
+    /**
+     * Método responsável por executar a medição.
+     * @param args Refere-se aos argumentos, que não são usados.
+     * @throws InterruptedException Exceção lançada em caso de interrupção da espera.
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        for (final int threads : new int[] {1, 4, 16}) {
+            final Tree<Integer, Integer> synchronizedTree = new Tree<>();
+            final ConcurrentTree<Integer, Integer> concurrentTree = new ConcurrentTree<>();
+            fill(synchronizedTree);
+            fill(concurrentTree);
+            final long synchronizedOperations = measure(threads, () -> {
+                synchronized (synchronizedTree) {
+                    operate(synchronizedTree);
+                }
+            });
+            final long concurrentOperations = measure(threads, () -> operate(concurrentTree));
+            System.out.printf("ConcurrentTree %2d threads: sincronizada %,d op/s, concorrente %,d op/s%n", threads,
+                    synchronizedOperations * 1000 / DURATION, concurrentOperations * 1000 / DURATION);
+        }
+    }
+
+    /**
+     * Método responsável por preencher dada árvore com metade das chaves disputadas.
+     * @param target Refere-se a árvore preenchida.
+     */
+    private static void fill(final ITree<Integer, Integer> target) {
+        for (Integer key = 0; key < KEYS; key += 2) {
+            try {
+                target.insert(key, key);
+            } catch (KeyUsedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por realizar uma operação aleatória em dada árvore.
+     * @param target Refere-se a árvore operada.
+     */
+    private static void operate(final ITree<Integer, Integer> target) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Integer key = random.nextInt(KEYS);
+        if (random.nextInt(10) == 0) {
+            try {
+                target.insert(key, key);
+            } catch (KeyUsedException ex) {
+                try {
+                    target.remove(key);
+                } catch (ElementNotFoundException subEx) {
+                    // A chave foi removida por outra linha de execução.
+                }
+            }
+        } else {
+            target.isContains(key);
+        }
+    }
+
+    /**
+     * Método responsável por medir quantas operações dadas linhas de execução realizam durante a medição.
+     * @param threads   Refere-se a quantidade de linhas de execução.
+     * @param operation Refere-se a operação realizada.
+     * @return Retorna quantidade total de operações realizadas.
+     * @throws InterruptedException Exceção lançada em caso de interrupção da espera.
+     */
+    private static long measure(final int threads, final Runnable operation) throws InterruptedException {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicLong operations = new AtomicLong();
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Thread(() -> {
+                long count = 0;
+                while (running.get()) {
+                    operation.run();
+                    count++;
+                }
+                operations.addAndGet(count);
+            }));
+        }
+        for (final Thread worker : workers) {
+            worker.start();
+        }
+        Thread.sleep(DURATION);
+        running.set(false);
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        return operations.get();
+    }
+
+}
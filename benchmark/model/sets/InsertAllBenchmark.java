@@ -0,0 +1,100 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.DateInvalidException;
+import exceptions.NullObjectException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import model.business.Acquisition;
+import model.business.IAcquisition;
+import model.offers.Expense;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import util.Date;
+
+/**
+ * Classe responsável por medir a inserção em lote de cem mil aquisições em comparação com a inserção individual,
+ * com as aquisições embaralhadas e em ordem de chave.
+ * Não faz parte da suíte de testes: é executada à parte, com as classes do projeto no caminho de classes.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class InsertAllBenchmark {
+
+    /**
+     * Método responsável por executar a medição.
+     * @param args Refere-se aos argumentos, que não são usados.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     */
+    public static void main(final String[] args) throws NullObjectException, DateInvalidException {
+        final IProvider provider = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+        final List<IAcquisition> acquisitions = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            acquisitions.add(new Acquisition(provider, new Expense("Oferta" + i % 1000, 5), 1,
+                    new Date(1 + i % 28, 1 + i / 28 % 12, 2000 + i / 336 % 20)));
+        }
+        Collections.shuffle(acquisitions, new Random(14072020));
+        measure("embaralhadas", acquisitions);
+        final BusinessCollection<IAcquisition> sorted = new BusinessCollection<>();
+        sorted.insertAll(acquisitions);
+        acquisitions.clear();
+        sorted.forEach(false, acquisitions::add);
+        measure("ordenadas", acquisitions);
+    }
+
+    /**
+     * Método responsável por medir a inserção de dadas aquisições em lote e individualmente.
+     * Como a inserção em lote adia a construção dos índices, mede-se também a primeira consulta por fornecedor.
+     * @param description  Refere-se a descrição da disposição das aquisições.
+     * @param acquisitions Refere-se as aquisições.
+     */
+    private static void measure(final String description, final List<IAcquisition> acquisitions) {
+        final IProvider provider = acquisitions.get(0).getProvider();
+        long individualTime = Long.MAX_VALUE;
+        long batchTime = Long.MAX_VALUE;
+        long queryTime = Long.MAX_VALUE;
+        for (int round = 0; round < 20; round++) {
+            final BusinessCollection<IAcquisition> individual = new BusinessCollection<>();
+            long begin = System.nanoTime();
+            acquisitions.forEach(individual::insert);
+            individualTime = Math.min(individualTime, System.nanoTime() - begin);
+            final BusinessCollection<IAcquisition> batch = new BusinessCollection<>();
+            begin = System.nanoTime();
+            batch.insertAll(acquisitions);
+            batchTime = Math.min(batchTime, System.nanoTime() - begin);
+            begin = System.nanoTime();
+            batch.forEachByProvider(provider, acquisition -> {
+            });
+            queryTime = Math.min(queryTime, System.nanoTime() - begin);
+            if (individual.size() != batch.size()) {
+                throw new IllegalStateException("As inserções resultaram em coleções distintas.");
+            }
+        }
+        System.out.printf("Inserção de %d aquisições %s: individual %d ms, em lote %d ms, primeira consulta %d ms%n",
+                acquisitions.size(), description, individualTime / 1000000, batchTime / 1000000, queryTime / 1000000);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.DateInvalidException;
+import exceptions.ElementNotFoundException;
+import exceptions.NullObjectException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import model.business.Acquisition;
+import model.business.IAcquisition;
+import model.offers.Expense;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import util.Date;
+
+/**
+ * Classe responsável por medir o tempo e a alocação por busca usando a chave memorizada das aquisições
+ * e recalculando a chave a cada busca.
+ * Não faz parte da suíte de testes: é executada à parte, com as classes do projeto no caminho de classes.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class MemoizedKeysBenchmark {
+
+    /**
+     * Método responsável por executar a medição.
+     * @param args Refere-se aos argumentos, que não são usados.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    public static void main(final String[] args)
+            throws NullObjectException, DateInvalidException, ElementNotFoundException {
+        final IProvider provider = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+        final BusinessCollection<IAcquisition> collection = new BusinessCollection<>();
+        final int count = 20000;
+        final Acquisition[] acquisitions = new Acquisition[count];
+        final Date[] dates = new Date[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = new Date(1 + i % 28, 1 + i / 28 % 12, 2000 + i / 336);
+            acquisitions[i] = new Acquisition(provider, new Expense("Oferta" + i % 7, 5), 1, dates[i]);
+            collection.insert(acquisitions[i]);
+        }
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int round = 0; round < 3; round++) {
+            long begin = System.nanoTime();
+            long allocated = allocatedBytes(threads);
+            for (int i = 0; i < count; i++) {
+                check(acquisitions[i], collection.search(acquisitions[i].getKey()));
+            }
+            final long memoizedTime = System.nanoTime() - begin;
+            final long memoizedBytes = allocatedBytes(threads) - allocated;
+            begin = System.nanoTime();
+            allocated = allocatedBytes(threads);
+            for (int i = 0; i < count; i++) {
+                check(acquisitions[i], collection.search(acquisitions[i].previewKey(dates[i])));
+            }
+            final long computedTime = System.nanoTime() - begin;
+            final long computedBytes = allocatedBytes(threads) - allocated;
+            if (round == 2) {
+                System.out.printf("Chaves memorizadas por busca: %d ns e %d bytes; recalculadas: %d ns e %d bytes%n",
+                        memoizedTime / count, memoizedBytes / count, computedTime / count, computedBytes / count);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por verificar se a busca encontrou a aquisição esperada.
+     * @param expected Refere-se a aquisição esperada.
+     * @param found    Refere-se a aquisição encontrada.
+     */
+    private static void check(final IAcquisition expected, final IAcquisition found) {
+        if (expected != found) {
+            throw new IllegalStateException("A busca retornou outra aquisição.");
+        }
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de bytes alocados pela linha de execução atual, se disponível.
+     * @param threads Refere-se ao gerenciador das linhas de execução.
+     * @return Retorna quantidade de bytes alocados ou zero se a medição não for suportada.
+     */
+    private static long allocatedBytes(final ThreadMXBean threads) {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        } else {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import exceptions.NullObjectException;
+import model.offers.Expense;
+import model.offers.IExpense;
+import util.IElement;
+
+/**
+ * Classe responsável por medir a redefinição de chave em duas descidas contra a remoção e reinserção
+ * usada anteriormente.
+ * Não faz parte da suíte de testes: é executada à parte, com as classes do projeto no caminho de classes.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class RedefineKeyBenchmark {
+
+    /**
+     * Método responsável por executar a medição.
+     * @param args Refere-se aos argumentos, que não são usados.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção de elemento não encontrado.
+     */
+    public static void main(final String[] args) throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        final Collection<String, IExpense> collection = new Collection<>();
+        final int count = 50000;
+        final IExpense[] expenses = new IExpense[count];
+        for (int i = 0; i < count; i++) {
+            expenses[i] = new Expense("Oferta" + i, 5);
+            collection.insert(expenses[i]);
+        }
+        long rekeyTime = Long.MAX_VALUE;
+        long removalTime = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                collection.redefineKey(expenses[i].getKey(), "Item" + i);
+            }
+            rekeyTime = Math.min(rekeyTime, System.nanoTime() - begin);
+            begin = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                redefineKeyByRemoval(collection, expenses[i].getKey(), "Oferta" + i);
+            }
+            removalTime = Math.min(removalTime, System.nanoTime() - begin);
+        }
+        if (collection.size() != count || collection.search(new Expense("Oferta7", 5).getKey()) != expenses[7]) {
+            throw new IllegalStateException("As redefinições resultaram em coleção incorreta.");
+        }
+        System.out.printf("Redefinição de chave de %d elementos: em duas descidas %d ms, por remoção e reinserção %d ms%n",
+                count, rekeyTime / 1000000, removalTime / 1000000);
+    }
+
+    /**
+     * Método responsável por redefinir a chave de um elemento buscando, removendo e reinserindo-o,
+     * como a coleção fazia antes da mudança de chave em duas descidas.
+     * @param collection Refere-se a coleção.
+     * @param key        Refere-se a chave atual do elemento.
+     * @param newKey     Refere-se a nova chave do elemento.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção de elemento não encontrado.
+     */
+    private static void redefineKeyByRemoval(final Collection<String, IExpense> collection,
+            final Comparable<String> key, final String newKey)
+            throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        final IElement<String> expense = (IElement<String>) collection.search(key);
+        if (collection.isContains(expense.previewKey(newKey))) {
+            throw new KeyUsedException(collection.search(expense.previewKey(newKey)));
+        }
+        collection.remove(key);
+        expense.setKey(newKey);
+        collection.insert((IExpense) expense);
+    }
+
+}
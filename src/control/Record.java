@@ -20,6 +20,7 @@
 package control;
 
 import exceptions.IncompatibleTypeException;
+import exceptions.KeyUsedException;
 import exceptions.NullObjectException;
 import java.io.IOException;
 import model.business.IAcquisition;
@@ -28,6 +29,7 @@ import model.sets.IOrganizationCollection;
 import model.organizations.IProvider;
 import model.sets.BusinessCollection;
 import model.sets.IBusinessCollection;
+import model.sets.OffHeapBusinessCollection;
 import util.FileStream;
 import util.Filter;
 
@@ -44,6 +46,11 @@ public class Record implements IRecord {
      * Refere-se ao número de série da classe.
      */
     private static final long serialVersionUID = 3154611275482929630L;
+    /**
+     * Refere-se a indicativo de que as aquisições são armazenadas fora do heap,
+     * ativado pela propriedade de sistema sdsfinance.offheap.
+     */
+    private static final boolean OFF_HEAP = Boolean.getBoolean("sdsfinance.offheap");
     /**
      * Refere-se a versão da classe.
      */
@@ -67,7 +74,7 @@ public class Record implements IRecord {
     private Record() {
         this.fileName = null;
         providerCollection = new OrganizationCollection<>();
-        acquisitionCollection = new BusinessCollection<>();
+        acquisitionCollection = OFF_HEAP ? new OffHeapBusinessCollection() : new BusinessCollection<>();
     }
 
     /**
@@ -105,7 +112,7 @@ public class Record implements IRecord {
     @Override
     public void clear() {
         providerCollection = new OrganizationCollection<>();
-        acquisitionCollection = new BusinessCollection<>();
+        acquisitionCollection = OFF_HEAP ? new OffHeapBusinessCollection() : new BusinessCollection<>();
         fileName = null;
     }
 
@@ -138,7 +145,7 @@ public class Record implements IRecord {
             final Record controller = (Record) fileStream.getObject();
             if (controller.version == version) {
                 providerCollection = controller.providerCollection;
-                acquisitionCollection = controller.acquisitionCollection;
+                acquisitionCollection = toMode(controller.acquisitionCollection);
             } else {
                 throw new IncompatibleTypeException();
             }
@@ -147,6 +154,31 @@ public class Record implements IRecord {
         }
     }
 
+    /**
+     * Método responsável por adequar dada coleção de aquisições ao modo de armazenamento em uso.
+     * Registros gravados em outro modo têm suas aquisições copiadas para uma coleção do modo em uso; ao deixar
+     * o armazenamento fora do heap, cada linha é copiada para uma aquisição comum, e não apenas referenciada.
+     * @param collection Refere-se a coleção de aquisições.
+     * @return Retorna coleção de aquisições no modo em uso.
+     * @throws IncompatibleTypeException Exceção lançada em caso de no arquivo haverem aquisições de chave repetida.
+     */
+    private static IBusinessCollection<IAcquisition> toMode(final IBusinessCollection<IAcquisition> collection)
+            throws IncompatibleTypeException {
+        if (OFF_HEAP == collection instanceof OffHeapBusinessCollection) {
+            return collection;
+        }
+        try {
+            if (OFF_HEAP) {
+                return new OffHeapBusinessCollection(collection);
+            }
+            final IBusinessCollection<IAcquisition> newCollection = new BusinessCollection<>();
+            newCollection.buildFromSorted(((OffHeapBusinessCollection) collection).copies());
+            return newCollection;
+        } catch (final KeyUsedException ex) {
+            throw new IncompatibleTypeException();
+        }
+    }
+
     /**
      * Método responsável por salvar em arquivo.
      * @param fileName Refere-se ao nome do arquivo.
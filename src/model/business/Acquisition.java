@@ -20,8 +20,10 @@
 package model.business;
 
 import exceptions.NullObjectException;
-import model.offers.IOfferEditable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import model.offers.IOfferVisible;
+import model.offers.OfferVersions;
 import model.organizations.IProvider;
 import util.Converter;
 import util.Date;
@@ -42,9 +44,9 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     private IProvider provider;
     /**
-     * Refere-se a oferta.
+     * Refere-se a versão compartilhada da oferta, que é substituída, e não alterada.
      */
-    private IOfferEditable offer;
+    private IOfferVisible offer;
     /**
      * Refere-se a quantidade de aquisição.
      */
@@ -53,6 +55,15 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      * Refere-se a data de aquisição.
      */
     private Date date;
+    /**
+     * Refere-se a chave memorizada da aquisição, descartada quando seus componentes são alterados.
+     */
+    private transient Comparable<String> cachedKey;
+    /**
+     * Refere-se a chave do fornecedor usada na chave memorizada, pois o fornecedor pode ser alterado
+     * diretamente, sem passar pela aquisição.
+     */
+    private transient Comparable<String> cachedProviderKey;
 
     /**
      * Construtor responsável pelo instanciamento da aquisição.
@@ -63,7 +74,7 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     public Acquisition(final IProvider provider, final IOfferVisible offer, final int amount, final Date date) {
         this.provider = provider;
-        this.offer = (IOfferEditable) offer.duplicate();
+        this.offer = OfferVersions.of(offer);
         this.amount = Converter.toPositive(amount);
         this.date = date;
     }
@@ -119,9 +130,12 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     @Override
     public Comparable<String> getKey() {
-        final String dateString = toString(date.getYear()) + toString(date.getMonth()) + toString(date.getDay());
-        final String key = dateString + provider.getKey() + offer.toString() + offer.getValue();
-        return key.toLowerCase();
+        final Comparable<String> providerKey = provider.getKey();
+        if (cachedKey == null || cachedProviderKey != providerKey) {
+            cachedKey = key(date, provider, offer.toString(), offer.getValue());
+            cachedProviderKey = providerKey;
+        }
+        return cachedKey;
     }
 
     /**
@@ -131,9 +145,7 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     @Override
     public Comparable<String> previewKey(final IProvider provider) {
-        final String dateString = toString(date.getYear()) + toString(date.getMonth()) + toString(date.getDay());
-        final String key = dateString + provider.getKey() + offer.toString() + offer.getValue();
-        return key.toLowerCase();
+        return key(date, provider, offer.toString(), offer.getValue());
     }
 
     /**
@@ -143,9 +155,7 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     @Override
     public Comparable<String> previewKey(final IOfferVisible offer) {
-        final String dateString = toString(date.getYear()) + toString(date.getMonth()) + toString(date.getDay());
-        final String key = dateString + provider.getKey() + offer.toString() + offer.getValue();
-        return key.toLowerCase();
+        return key(date, provider, offer.toString(), offer.getValue());
     }
 
     /**
@@ -155,10 +165,9 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      * @throws NullObjectException Exceção lançada em caso de nome de aquisição nula.
      */
     @Override
-    public Comparable<String> previewKey(String key) throws NullObjectException {
-        final String dateString = toString(date.getYear()) + toString(date.getMonth()) + toString(date.getDay());
-        key = dateString + provider.getKey() + key + offer.getValue();
-        return key.toLowerCase();
+    public Comparable<String> previewKey(final String key) throws NullObjectException {
+        Filter.nullObject(key);
+        return key(date, provider, key, offer.getValue());
     }
 
     /**
@@ -171,9 +180,7 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
         if (offer.getValue() < 0) {
             unitaryValue = unitaryValue * -1;
         }
-        final String dateString = toString(date.getYear()) + toString(date.getMonth()) + toString(date.getDay());
-        final String key = dateString + provider.getKey() + offer.toString() + unitaryValue;
-        return key.toLowerCase();
+        return key(date, provider, offer.toString(), unitaryValue);
     }
 
     /**
@@ -183,9 +190,7 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     @Override
     public Comparable<String> previewKey(final Date date) {
-        final String dateString = toString(date.getYear()) + toString(date.getMonth()) + toString(date.getDay());
-        final String key = dateString + provider.getKey() + offer.toString() + offer.getValue();
-        return key.toLowerCase();
+        return key(date, provider, offer.toString(), offer.getValue());
     }
 
     /**
@@ -195,6 +200,7 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
     @Override
     public void setProvider(final IProvider provider) {
         this.provider = provider;
+        this.cachedKey = null;
     }
 
     /**
@@ -203,7 +209,8 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     @Override
     public void setOffer(final IOfferVisible offer) {
-        this.offer = (IOfferEditable) offer.duplicate();
+        this.offer = OfferVersions.of(offer);
+        this.cachedKey = null;
     }
 
     /**
@@ -213,8 +220,8 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     @Override
     public void setKey(final String key) throws NullObjectException {
-        Filter.nullObject(key);
-        this.offer.setKey(key);
+        this.offer = OfferVersions.withName(offer, key);
+        this.cachedKey = null;
     }
 
     /**
@@ -223,7 +230,8 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
      */
     @Override
     public void setUnitaryValue(final double unitaryValue) {
-        this.offer.setValue(unitaryValue);
+        this.offer = OfferVersions.withValue(offer, unitaryValue);
+        this.cachedKey = null;
     }
 
     /**
@@ -242,20 +250,33 @@ public class Acquisition implements IAcquisition, IBusinessEditable {
     @Override
     public void setDate(final Date date) {
         this.date = date;
+        this.cachedKey = null;
     }
 
     /**
-     * Método responsável por converter para string de dois caracteres, números que expressam dia e mês.
-     * @param number Refere-se ao número que será convertido.
-     * @return Retorna string de dois caracteres que expressam dia e mês.
+     * Método responsável por gerar chave composta de aquisição a partir de seus componentes.
+     * @param date      Refere-se a data da aquisição.
+     * @param provider  Refere-se ao fornecedor da aquisição.
+     * @param offerName Refere-se ao nome da oferta adquirida.
+     * @param value     Refere-se ao valor unitário da oferta adquirida.
+     * @return Retorna chave composta de aquisição.
      */
-    private String toString(final int number) {
-        final String numberStr = Converter.toString(number);
-        if (numberStr.length() < 2) {
-            return "0" + numberStr;
-        } else {
-            return numberStr;
-        }
+    private Comparable<String> key(final Date date, final IProvider provider, final String offerName, final double value) {
+        final int packedDate = date.getYear() * 10000 + date.getMonth() * 100 + date.getDay();
+        final Comparable<?> key = new AcquisitionKey(packedDate, provider.getKey().toString(), offerName.toLowerCase(), value);
+        return (Comparable<String>) key;
+    }
+
+    /**
+     * Método responsável por restaurar a aquisição a partir de um fluxo de objetos,
+     * substituindo a oferta lida pela versão compartilhada equivalente.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException            Exceção lançada em caso de problemas no acesso ao fluxo.
+     * @throws ClassNotFoundException Exceção lançada em caso de não haver uma classe contida no fluxo.
+     */
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        offer = OfferVersions.of(offer);
     }
 
     /**
@@ -0,0 +1,156 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.business;
+
+import java.io.Serializable;
+
+/**
+ * Classe responsável por comportar-se como chave composta de aquisição.
+ * A data é mantida como inteiro no formato aaaammdd e comparada primeiro, de modo que a maior parte
+ * das comparações se resolve sem comparar cadeias de caracteres; o fornecedor, a oferta e o valor
+ * só são comparados entre aquisições de mesma data.
+ * Como a data é comparada primeiro, as aquisições de um período ocupam um intervalo contíguo de chaves,
+ * cujos limites são obtidos por {@link #startOfDay(int)} e {@link #endOfDay(int)}.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public final class AcquisitionKey implements Comparable<AcquisitionKey>, Serializable {
+    /**
+     * Refere-se ao número de série da classe.
+     */
+    private static final long serialVersionUID = 2081650173346195527L;
+    /**
+     * Refere-se a data da aquisição no formato aaaammdd.
+     */
+    private final int date;
+    /**
+     * Refere-se a chave do fornecedor.
+     */
+    private final String provider;
+    /**
+     * Refere-se ao nome da oferta em letras minúsculas.
+     */
+    private final String offer;
+    /**
+     * Refere-se ao valor unitário da oferta.
+     */
+    private final double value;
+
+    /**
+     * Construtor responsável pelo instanciamento da chave de aquisição.
+     * @param date     Refere-se a data da aquisição no formato aaaammdd.
+     * @param provider Refere-se a chave do fornecedor.
+     * @param offer    Refere-se ao nome da oferta em letras minúsculas.
+     * @param value    Refere-se ao valor unitário da oferta.
+     */
+    AcquisitionKey(final int date, final String provider, final String offer, final double value) {
+        this.date = date;
+        this.provider = provider;
+        this.offer = offer;
+        this.value = value;
+    }
+
+    /**
+     * Método responsável por retornar o limite inicial, inclusivo, das chaves de aquisições de dada data.
+     * O limite antecede as chaves de todas as aquisições da data e sucede as de todas as datas anteriores.
+     * @param date Refere-se a data no formato aaaammdd.
+     * @return Retorna limite inicial das chaves da data.
+     */
+    public static Comparable<String> startOfDay(final int date) {
+        final Comparable<?> key = new AcquisitionKey(date, "", "", Double.NEGATIVE_INFINITY);
+        return (Comparable<String>) key;
+    }
+
+    /**
+     * Método responsável por retornar o limite final, exclusivo, das chaves de aquisições de dada data.
+     * O limite sucede as chaves de todas as aquisições da data e antecede as de todas as datas posteriores.
+     * @param date Refere-se a data no formato aaaammdd.
+     * @return Retorna limite final das chaves da data.
+     */
+    public static Comparable<String> endOfDay(final int date) {
+        return startOfDay(date + 1);
+    }
+
+    /**
+     * Método responsável por comparar a chave com outra.
+     * Chaves de outros tipos não são comparáveis e resultam em {@link ClassCastException}, pois a ordem
+     * entre campos não coincide com a ordem da forma textual.
+     * @param key Refere-se a outra chave.
+     * @return Retorna valor negativo, nulo ou positivo se esta chave for menor, igual ou maior que a outra.
+     */
+    @Override
+    public int compareTo(final AcquisitionKey key) {
+        return compareTo(key.date, key.provider, key.offer, key.value);
+    }
+
+    /**
+     * Método responsável por comparar a chave com os componentes de outra, sem que esta precise ser criada.
+     * @param date     Refere-se a data da outra chave no formato aaaammdd.
+     * @param provider Refere-se a chave do fornecedor da outra chave.
+     * @param offer    Refere-se ao nome da oferta da outra chave, em letras minúsculas.
+     * @param value    Refere-se ao valor unitário da outra chave.
+     * @return Retorna valor negativo, nulo ou positivo se esta chave for menor, igual ou maior que a outra.
+     */
+    int compareTo(final int date, final String provider, final String offer, final double value) {
+        int comparisonResult = Integer.compare(this.date, date);
+        if (comparisonResult == 0) {
+            comparisonResult = this.provider.compareTo(provider);
+            if (comparisonResult == 0) {
+                comparisonResult = this.offer.compareTo(offer);
+                if (comparisonResult == 0) {
+                    comparisonResult = Double.compare(this.value, value);
+                }
+            }
+        }
+        return comparisonResult;
+    }
+
+    /**
+     * Método responsável por indicar se a chave é igual a dado objeto.
+     * @param object Refere-se ao objeto.
+     * @return Retorna indicativo de que a chave é igual ao objeto.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        return object instanceof AcquisitionKey && compareTo((AcquisitionKey) object) == 0;
+    }
+
+    /**
+     * Método responsável por retornar o código de dispersão da chave.
+     * @return Retorna código de dispersão da chave.
+     */
+    @Override
+    public int hashCode() {
+        int hash = date;
+        hash = 31 * hash + provider.hashCode();
+        hash = 31 * hash + offer.hashCode();
+        hash = 31 * hash + Double.hashCode(value);
+        return hash;
+    }
+
+    /**
+     * Método responsável por retornar a forma textual da chave, composta por data, fornecedor, oferta e valor.
+     * @return Retorna forma textual da chave.
+     */
+    @Override
+    public String toString() {
+        return (String.format("%08d", date) + provider + offer + value).toLowerCase();
+    }
+
+}
@@ -0,0 +1,851 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.business;
+
+import exceptions.DateInvalidException;
+import exceptions.NullObjectException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+import model.offers.IOfferVisible;
+import model.offers.OfferVersions;
+import model.organizations.IProvider;
+import util.Converter;
+import util.Date;
+import util.Filter;
+import util.IDateVisible;
+
+/**
+ * Classe responsável por comportar-se como armazenamento de aquisições fora do heap.
+ * Cada aquisição ocupa uma linha de tamanho fixo em blocos de memória direta, identificada por seu número:
+ * data no formato aaaammdd, identificadores de fornecedor e de versão de oferta, quantidade, valor unitário e
+ * as posições da linha nos índices por fornecedor e por oferta. Fornecedores e versões de ofertas ficam em
+ * dicionários no heap, cujo tamanho depende da quantidade de fornecedores e ofertas distintos, e não do histórico;
+ * os índices guardam apenas números de linhas em vetores de inteiros.
+ * As aquisições armazenadas são vistas criadas sob demanda, que leem e escrevem diretamente nas linhas.
+ * As linhas são apenas acrescentadas; o espaço de linhas descartadas é recuperado por {@link #compact(int[])}.
+ * @author Everton Bruno Silva dos Santos.
+ */
+final class AcquisitionSlab {
+    /**
+     * Refere-se a quantidade de linhas de cada bloco.
+     */
+    static final int SLAB_ROWS = 4096;
+    /**
+     * Refere-se ao tamanho de cada linha em bytes.
+     */
+    private static final int ROW_BYTES = 32;
+    /**
+     * Refere-se a posição da data na linha.
+     */
+    private static final int DATE = 0;
+    /**
+     * Refere-se a posição do identificador de fornecedor na linha.
+     */
+    private static final int PROVIDER = 4;
+    /**
+     * Refere-se a posição do identificador de versão de oferta na linha.
+     */
+    private static final int OFFER = 8;
+    /**
+     * Refere-se a posição da quantidade na linha.
+     */
+    private static final int AMOUNT = 12;
+    /**
+     * Refere-se a posição do valor unitário na linha.
+     */
+    private static final int VALUE = 16;
+    /**
+     * Refere-se a posição da linha no índice por fornecedor, negativa se a linha não estiver indexada.
+     */
+    private static final int PROVIDER_SLOT = 24;
+    /**
+     * Refere-se a posição da linha no índice por oferta, negativa se a linha não estiver indexada.
+     */
+    private static final int OFFER_SLOT = 28;
+    /**
+     * Refere-se aos blocos de memória direta.
+     */
+    private ArrayList<ByteBuffer> slabs;
+    /**
+     * Refere-se a quantidade de linhas ocupadas nos blocos.
+     */
+    private int rows;
+    /**
+     * Refere-se ao dicionário de fornecedores, indexado por identificador.
+     */
+    private final ArrayList<IProvider> providers;
+    /**
+     * Refere-se aos identificadores dos fornecedores, que são comparados por identidade.
+     */
+    private final IdentityHashMap<IProvider, Integer> providerIds;
+    /**
+     * Refere-se ao dicionário de versões compartilhadas de ofertas, indexado por identificador.
+     */
+    private final ArrayList<IOfferVisible> offers;
+    /**
+     * Refere-se aos nomes das versões de ofertas em letras minúsculas, indexados por identificador.
+     */
+    private final ArrayList<String> offerNames;
+    /**
+     * Refere-se aos identificadores de oferta das versões, indexados por identificador de versão.
+     */
+    private final ArrayList<Integer> offerKinds;
+    /**
+     * Refere-se aos identificadores das versões de ofertas, por tipo, nome e valor.
+     */
+    private final HashMap<List<Object>, Integer> offerIds;
+    /**
+     * Refere-se aos identificadores das ofertas, por chave de oferta.
+     */
+    private final HashMap<Comparable<String>, Integer> kindIds;
+    /**
+     * Refere-se as linhas indexadas de cada fornecedor, por identificador de fornecedor.
+     */
+    private final ArrayList<RowList> providerIndex;
+    /**
+     * Refere-se as linhas indexadas de cada oferta, por identificador de oferta.
+     */
+    private final ArrayList<RowList> offerIndex;
+
+    /**
+     * Construtor responsável pelo instanciamento do armazenamento de aquisições.
+     */
+    AcquisitionSlab() {
+        slabs = new ArrayList<>();
+        rows = 0;
+        providers = new ArrayList<>();
+        providerIds = new IdentityHashMap<>();
+        offers = new ArrayList<>();
+        offerNames = new ArrayList<>();
+        offerKinds = new ArrayList<>();
+        offerIds = new HashMap<>();
+        kindIds = new HashMap<>();
+        providerIndex = new ArrayList<>();
+        offerIndex = new ArrayList<>();
+    }
+
+    /**
+     * Método responsável por armazenar dada aquisição em uma nova linha, fora dos índices.
+     * @param acquisition Refere-se a aquisição.
+     * @return Retorna número da linha, ou o número da própria linha se a aquisição for vista deste armazenamento.
+     */
+    int store(final IAcquisition acquisition) {
+        final int ownRow = rowOf(acquisition);
+        if (ownRow >= 0) {
+            return ownRow;
+        }
+        final int offer = encode(acquisition.getOffer());
+        final int provider = encode(acquisition.getProvider());
+        final int row = allocate();
+        final ByteBuffer buffer = buffer(row);
+        final int offset = offset(row);
+        buffer.putInt(offset + DATE, pack(acquisition.getDate()));
+        buffer.putInt(offset + PROVIDER, provider);
+        buffer.putInt(offset + OFFER, offer);
+        buffer.putInt(offset + AMOUNT, acquisition.getAmount());
+        buffer.putDouble(offset + VALUE, offers.get(offer).getValue());
+        buffer.putInt(offset + PROVIDER_SLOT, -1);
+        buffer.putInt(offset + OFFER_SLOT, -1);
+        return row;
+    }
+
+    /**
+     * Método responsável por retornar o número da linha de dada aquisição.
+     * Vistas anteriores à última compactação não correspondem mais a linhas deste armazenamento.
+     * @param acquisition Refere-se a aquisição.
+     * @return Retorna número da linha, ou valor negativo se a aquisição não for vista atual deste armazenamento.
+     */
+    int rowOf(final Object acquisition) {
+        if (acquisition instanceof Row) {
+            final Row row = (Row) acquisition;
+            if (row.owner() == this && row.isCurrent()) {
+                return row.row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Método responsável por retornar a vista sobre dada linha.
+     * @param row Refere-se ao número da linha.
+     * @return Retorna aquisição que lê e escreve na linha.
+     */
+    IBusinessEditable view(final int row) {
+        return new Row(row);
+    }
+
+    /**
+     * Método responsável por copiar dada linha para uma aquisição comum, que independe deste armazenamento.
+     * @param row Refere-se ao número da linha.
+     * @return Retorna aquisição comum equivalente à linha.
+     */
+    Acquisition copy(final int row) {
+        return new Row(row).copy();
+    }
+
+    /**
+     * Método responsável por comparar dada chave de aquisição à chave de dada linha, sem criar esta última.
+     * @param key Refere-se a chave de aquisição.
+     * @param row Refere-se ao número da linha.
+     * @return Retorna valor negativo, nulo ou positivo se a chave for menor, igual ou maior que a da linha.
+     * @throws ClassCastException Exceção lançada no caso da chave não ser chave de aquisição.
+     */
+    int compare(final Comparable<String> key, final int row) {
+        final ByteBuffer buffer = buffer(row);
+        final int offset = offset(row);
+        return ((AcquisitionKey) (Object) key).compareTo(buffer.getInt(offset + DATE),
+                providers.get(buffer.getInt(offset + PROVIDER)).getKey().toString(),
+                offerNames.get(buffer.getInt(offset + OFFER)), buffer.getDouble(offset + VALUE));
+    }
+
+    /**
+     * Método responsável por incluir dada linha nos índices por fornecedor e por oferta.
+     * @param row Refere-se ao número da linha.
+     */
+    void index(final int row) {
+        final ByteBuffer buffer = buffer(row);
+        final int offset = offset(row);
+        final int offer = buffer.getInt(offset + OFFER);
+        buffer.putInt(offset + PROVIDER_SLOT, providerIndex.get(buffer.getInt(offset + PROVIDER)).add(row));
+        buffer.putInt(offset + OFFER_SLOT, offerIndex.get(offerKinds.get(offer)).add(row));
+    }
+
+    /**
+     * Método responsável por excluir dada linha dos índices por fornecedor e por oferta, se estiver indexada.
+     * A última linha de cada lista passa a ocupar a posição liberada.
+     * @param row Refere-se ao número da linha.
+     */
+    void unindex(final int row) {
+        final ByteBuffer buffer = buffer(row);
+        final int offset = offset(row);
+        final int providerSlot = buffer.getInt(offset + PROVIDER_SLOT);
+        if (providerSlot < 0) {
+            return;
+        }
+        final int offerSlot = buffer.getInt(offset + OFFER_SLOT);
+        final int movedByProvider = providerIndex.get(buffer.getInt(offset + PROVIDER)).remove(providerSlot);
+        if (movedByProvider >= 0) {
+            buffer(movedByProvider).putInt(offset(movedByProvider) + PROVIDER_SLOT, providerSlot);
+        }
+        final int movedByOffer = offerIndex.get(offerKinds.get(buffer.getInt(offset + OFFER))).remove(offerSlot);
+        if (movedByOffer >= 0) {
+            buffer(movedByOffer).putInt(offset(movedByOffer) + OFFER_SLOT, offerSlot);
+        }
+        buffer.putInt(offset + PROVIDER_SLOT, -1);
+        buffer.putInt(offset + OFFER_SLOT, -1);
+    }
+
+    /**
+     * Método responsável por percorrer pelas linhas indexadas de dado fornecedor, sem ordem definida.
+     * @param provider Refere-se ao fornecedor.
+     * @param element  Refere-se as aquisições do fornecedor.
+     */
+    void forEachByProvider(final IProvider provider, final Consumer<? super IAcquisition> element) {
+        final Integer providerId = providerIds.get(provider);
+        if (providerId != null) {
+            final RowList list = providerIndex.get(providerId);
+            for (int i = 0; i < list.size; i++) {
+                element.accept(new Row(list.rows[i]));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por percorrer pelas linhas indexadas de dada oferta de dado fornecedor, sem ordem definida.
+     * Percorre a menor das listas do fornecedor e da oferta, descartando as linhas que não pertencem a outra.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @param element  Refere-se as aquisições da oferta.
+     */
+    void forEachByOffer(final IProvider provider, final IOfferVisible offer, final Consumer<? super IAcquisition> element) {
+        final Integer providerId = providerIds.get(provider);
+        final Integer kindId = kindIds.get(offer.getKey());
+        if (providerId == null || kindId == null) {
+            return;
+        }
+        final RowList byProvider = providerIndex.get(providerId);
+        final RowList byOffer = offerIndex.get(kindId);
+        final boolean providerFirst = byProvider.size <= byOffer.size;
+        final RowList list = providerFirst ? byProvider : byOffer;
+        for (int i = 0; i < list.size; i++) {
+            final int row = list.rows[i];
+            final ByteBuffer buffer = buffer(row);
+            final int offset = offset(row);
+            if (providerFirst ? offerKinds.get(buffer.getInt(offset + OFFER)).equals(kindId)
+                    : buffer.getInt(offset + PROVIDER) == providerId) {
+                element.accept(new Row(row));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por copiar dadas linhas para novos blocos, na ordem dada, descartando as demais.
+     * A linha de posição i passa a ser a linha de número i, e os índices passam a conter somente as linhas copiadas.
+     * Vistas anteriores à compactação continuam legíveis, pois mantêm os blocos antigos, mas deixam de
+     * corresponder a linhas deste armazenamento.
+     * @param kept Refere-se aos números das linhas mantidas.
+     */
+    void compact(final int[] kept) {
+        final ArrayList<ByteBuffer> oldSlabs = slabs;
+        slabs = new ArrayList<>();
+        rows = 0;
+        providerIndex.forEach(RowList::clear);
+        offerIndex.forEach(RowList::clear);
+        for (final int oldRow : kept) {
+            final ByteBuffer oldBuffer = oldSlabs.get(oldRow / SLAB_ROWS);
+            final int oldOffset = offset(oldRow);
+            final int row = allocate();
+            final ByteBuffer buffer = buffer(row);
+            final int offset = offset(row);
+            for (int i = 0; i < ROW_BYTES; i += Long.BYTES) {
+                buffer.putLong(offset + i, oldBuffer.getLong(oldOffset + i));
+            }
+            index(row);
+        }
+    }
+
+    /**
+     * Método responsável por descartar todas as linhas.
+     */
+    void clear() {
+        slabs = new ArrayList<>();
+        rows = 0;
+        providerIndex.forEach(RowList::clear);
+        offerIndex.forEach(RowList::clear);
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de linhas ocupadas, incluindo as descartadas.
+     * @return Retorna quantidade de linhas ocupadas.
+     */
+    int rows() {
+        return rows;
+    }
+
+    /**
+     * Método responsável por retornar o tamanho reservado fora do heap.
+     * @return Retorna tamanho reservado em bytes.
+     */
+    long offHeapSize() {
+        return (long) slabs.size() * SLAB_ROWS * ROW_BYTES;
+    }
+
+    /**
+     * Método responsável por reservar uma nova linha.
+     * @return Retorna número da linha.
+     */
+    private int allocate() {
+        if (rows == slabs.size() * SLAB_ROWS) {
+            slabs.add(ByteBuffer.allocateDirect(SLAB_ROWS * ROW_BYTES));
+        }
+        return rows++;
+    }
+
+    /**
+     * Método responsável por retornar o bloco de dada linha.
+     * @param row Refere-se ao número da linha.
+     * @return Retorna bloco da linha.
+     */
+    private ByteBuffer buffer(final int row) {
+        return slabs.get(row / SLAB_ROWS);
+    }
+
+    /**
+     * Método responsável por retornar a posição de dada linha em seu bloco.
+     * @param row Refere-se ao número da linha.
+     * @return Retorna posição da linha no bloco.
+     */
+    private static int offset(final int row) {
+        return row % SLAB_ROWS * ROW_BYTES;
+    }
+
+    /**
+     * Método responsável por obter o identificador de dado fornecedor, incluindo-o no dicionário se preciso.
+     * @param provider Refere-se ao fornecedor.
+     * @return Retorna identificador do fornecedor.
+     */
+    private int encode(final IProvider provider) {
+        return providerIds.computeIfAbsent(provider, newProvider -> {
+            providers.add(newProvider);
+            providerIndex.add(new RowList());
+            return providers.size() - 1;
+        });
+    }
+
+    /**
+     * Método responsável por obter o identificador da versão de dada oferta, incluindo-a no dicionário se preciso.
+     * A versão é obtida do repositório de versões compartilhadas somente na primeira vez.
+     * @param offer Refere-se a oferta.
+     * @return Retorna identificador da versão da oferta.
+     */
+    private int encode(final IOfferVisible offer) {
+        return offerIds.computeIfAbsent(Arrays.asList(offer.getClass(), offer.toString(), offer.getValue()), key -> {
+            offers.add(OfferVersions.of(offer));
+            offerNames.add(offer.toString().toLowerCase());
+            offerKinds.add(kindIds.computeIfAbsent(offer.getKey(), offerKey -> {
+                offerIndex.add(new RowList());
+                return offerIndex.size() - 1;
+            }));
+            return offers.size() - 1;
+        });
+    }
+
+    /**
+     * Método responsável por converter dada data no formato aaaammdd.
+     * @param date Refere-se a data.
+     * @return Retorna data no formato aaaammdd.
+     */
+    private static int pack(final IDateVisible date) {
+        return date.getYear() * 10000 + date.getMonth() * 100 + date.getDay();
+    }
+
+    /**
+     * Método responsável por gerar chave composta de aquisição a partir de seus componentes.
+     * @param date      Refere-se a data no formato aaaammdd.
+     * @param provider  Refere-se ao fornecedor.
+     * @param offerName Refere-se ao nome da oferta em letras minúsculas.
+     * @param value     Refere-se ao valor unitário.
+     * @return Retorna chave composta de aquisição.
+     */
+    private static Comparable<String> key(final int date, final IProvider provider, final String offerName, final double value) {
+        final Comparable<?> key = new AcquisitionKey(date, provider.getKey().toString(), offerName, value);
+        return (Comparable<String>) key;
+    }
+
+    /**
+     * Classe responsável por comportar-se como lista de números de linhas de um índice.
+     * @author Everton Bruno Silva dos Santos.
+     */
+    private static final class RowList {
+        /**
+         * Refere-se aos números das linhas.
+         */
+        private int[] rows = new int[4];
+        /**
+         * Refere-se a quantidade de linhas da lista.
+         */
+        private int size;
+
+        /**
+         * Método responsável por acrescentar dada linha ao fim da lista.
+         * @param row Refere-se ao número da linha.
+         * @return Retorna posição da linha na lista.
+         */
+        private int add(final int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size] = row;
+            return size++;
+        }
+
+        /**
+         * Método responsável por remover a linha de dada posição, movendo para esta a última linha da lista.
+         * @param slot Refere-se a posição da linha.
+         * @return Retorna número da linha movida, ou valor negativo se a linha removida era a última.
+         */
+        private int remove(final int slot) {
+            size--;
+            if (slot == size) {
+                return -1;
+            }
+            rows[slot] = rows[size];
+            return rows[slot];
+        }
+
+        /**
+         * Método responsável por esvaziar a lista.
+         */
+        private void clear() {
+            size = 0;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como aquisição armazenada em uma linha.
+     * A chave e a data são geradas no primeiro uso e reaproveitadas enquanto os campos da linha dos quais foram
+     * geradas não mudam, ainda que a linha seja alterada por outra vista.
+     * As alterações de fornecedor e de oferta mantêm a linha nos índices correspondentes.
+     * @author Everton Bruno Silva dos Santos.
+     */
+    private final class Row implements IAcquisition, IBusinessEditable {
+        /**
+         * Refere-se ao número de série da classe.
+         */
+        private static final long serialVersionUID = 5096482154012764843L;
+        /**
+         * Refere-se ao número da linha.
+         */
+        private final int row;
+        /**
+         * Refere-se ao bloco da linha.
+         */
+        private final ByteBuffer buffer;
+        /**
+         * Refere-se a posição da linha no bloco.
+         */
+        private final int offset;
+        /**
+         * Refere-se a chave gerada no primeiro uso, ou referência nula se deve ser gerada.
+         */
+        private transient Comparable<String> cachedKey;
+        /**
+         * Refere-se a chave do fornecedor usada na chave gerada.
+         */
+        private transient Comparable<String> cachedProviderKey;
+        /**
+         * Refere-se a data e a versão da oferta da linha usadas na chave gerada.
+         */
+        private transient long cachedStamp;
+        /**
+         * Refere-se a data gerada no primeiro uso, ou referência nula se deve ser gerada.
+         */
+        private transient Date cachedDate;
+
+        /**
+         * Construtor responsável pelo instanciamento da vista sobre dada linha.
+         * @param row Refere-se ao número da linha.
+         */
+        private Row(final int row) {
+            this.row = row;
+            this.buffer = buffer(row);
+            this.offset = offset(row);
+        }
+
+        /**
+         * Método responsável por retornar o armazenamento da linha.
+         * @return Retorna armazenamento da linha.
+         */
+        private AcquisitionSlab owner() {
+            return AcquisitionSlab.this;
+        }
+
+        /**
+         * Método responsável por indicar se a vista ainda corresponde a uma linha do armazenamento,
+         * o que deixa de ocorrer após a compactação ou o esvaziamento.
+         * @return Retorna indicativo de que a vista corresponde a uma linha do armazenamento.
+         */
+        private boolean isCurrent() {
+            return row < rows && slabs.get(row / SLAB_ROWS) == buffer;
+        }
+
+        /**
+         * Método responsável por retornar o fornecedor da aquisição.
+         * @return Retorna fornecedor da aquisição.
+         */
+        @Override
+        public IProvider getProvider() {
+            return providers.get(buffer.getInt(offset + PROVIDER));
+        }
+
+        /**
+         * Método responsável por retornar a oferta da aquisição.
+         * @return Retorna versão compartilhada da oferta da aquisição.
+         */
+        @Override
+        public IOfferVisible getOffer() {
+            return offers.get(offerId());
+        }
+
+        /**
+         * Método responsável por retornar a quantidade da aquisição.
+         * @return Retorna quantidade de aquisição.
+         */
+        @Override
+        public int getAmount() {
+            return buffer.getInt(offset + AMOUNT);
+        }
+
+        /**
+         * Método responsável por retornar o valor total da aquisição.
+         * @return Retorna valor total da aquisição.
+         */
+        @Override
+        public double getTotalValue() {
+            return getAmount() * value();
+        }
+
+        /**
+         * Método responsável por retornar o data da aquisição.
+         * @return Retorna data da aquisição.
+         */
+        @Override
+        public IDateVisible getDate() {
+            if (cachedDate == null || pack(cachedDate) != packedDate()) {
+                cachedDate = date();
+            }
+            return cachedDate;
+        }
+
+        /**
+         * Método responsável por retornar chave comparável.
+         * @return Retorna chave comparável.
+         */
+        @Override
+        public Comparable<String> getKey() {
+            final IProvider provider = getProvider();
+            final Comparable<String> providerKey = provider.getKey();
+            final long stamp = (long) packedDate() << Integer.SIZE | offerId();
+            if (cachedKey == null || cachedProviderKey != providerKey || cachedStamp != stamp) {
+                cachedKey = key(packedDate(), provider, offerNames.get(offerId()), value());
+                cachedProviderKey = providerKey;
+                cachedStamp = stamp;
+            }
+            return cachedKey;
+        }
+
+        /**
+         * Método responsável por pré-visualizar chave da aquisição pós-alterações.
+         * @param provider Refere-se ao novo fornecedor.
+         * @return Retorna pré-visualização de nova chave.
+         */
+        @Override
+        public Comparable<String> previewKey(final IProvider provider) {
+            return key(packedDate(), provider, offerNames.get(offerId()), value());
+        }
+
+        /**
+         * Método responsável por pré-visualizar chave da aquisição pós-alterações.
+         * @param offer Refere-se a nova oferta.
+         * @return Retorna pré-visualização de nova chave.
+         */
+        @Override
+        public Comparable<String> previewKey(final IOfferVisible offer) {
+            return key(packedDate(), getProvider(), offer.toString().toLowerCase(), offer.getValue());
+        }
+
+        /**
+         * Método responsável por pré-visualizar chave da aquisição pós-alterações.
+         * @param key Refere-se ao novo nome.
+         * @return Retorna pré-visualização de nova chave.
+         * @throws NullObjectException Exceção lançada em caso de nome de aquisição nula.
+         */
+        @Override
+        public Comparable<String> previewKey(final String key) throws NullObjectException {
+            Filter.nullObject(key);
+            return key(packedDate(), getProvider(), key.toLowerCase(), value());
+        }
+
+        /**
+         * Método responsável por pré-visualizar chave da aquisição pós-alterações.
+         * @param unitaryValue Refere-se ao novo valor unitário.
+         * @return Retorna pré-visualização de nova chave.
+         */
+        @Override
+        public Comparable<String> previewKey(final double unitaryValue) {
+            final double value = value() < 0 ? unitaryValue * -1 : unitaryValue;
+            return key(packedDate(), getProvider(), offerNames.get(offerId()), value);
+        }
+
+        /**
+         * Método responsável por pré-visualizar chave da aquisição pós-alterações.
+         * @param date Refere-se ao nova data.
+         * @return Retorna pré-visualização de nova chave.
+         */
+        @Override
+        public Comparable<String> previewKey(final Date date) {
+            return key(pack(date), getProvider(), offerNames.get(offerId()), value());
+        }
+
+        /**
+         * Método responsável por alterar o fornecedor da aquisição.
+         * @param provider Refere-se ao novo fornecedor.
+         */
+        @Override
+        public void setProvider(final IProvider provider) {
+            final int providerId = encode(provider);
+            final boolean indexed = unindexCurrent();
+            buffer.putInt(offset + PROVIDER, providerId);
+            reindexCurrent(indexed);
+        }
+
+        /**
+         * Método responsável por alterar a oferta da aquisição.
+         * @param offer Refere-se a nova oferta.
+         */
+        @Override
+        public void setOffer(final IOfferVisible offer) {
+            setOfferId(encode(offer));
+        }
+
+        /**
+         * Método responsável por alterar o nome da oferta da aquisição.
+         * @param key Refere-se ao novo nome de oferta.
+         * @throws NullObjectException Exceção lançada no caso do nome ser nula.
+         */
+        @Override
+        public void setKey(final String key) throws NullObjectException {
+            setOfferId(encode(OfferVersions.withName(getOffer(), key)));
+        }
+
+        /**
+         * Método responsável por alterar o valor unitário da aquisição.
+         * @param unitaryValue Refere-se ao novo valor unitário.
+         */
+        @Override
+        public void setUnitaryValue(final double unitaryValue) {
+            setOfferId(encode(OfferVersions.withValue(getOffer(), unitaryValue)));
+        }
+
+        /**
+         * Método responsável por alterar a quantidade de ofertas da aquisição.
+         * @param amount Refere-se a nova quantidade de ofertas.
+         */
+        @Override
+        public void setAmount(final int amount) {
+            buffer.putInt(offset + AMOUNT, Converter.toPositive(amount));
+        }
+
+        /**
+         * Método responsável por alterar a data da aquisição.
+         * @param date Refere-se a data da aquisição.
+         */
+        @Override
+        public void setDate(final Date date) {
+            buffer.putInt(offset + DATE, pack(date));
+            cachedKey = null;
+            cachedDate = null;
+        }
+
+        /**
+         * Método responsável por alterar a versão da oferta da aquisição, junto ao valor unitário da linha.
+         * @param offerId Refere-se ao identificador da nova versão.
+         */
+        private void setOfferId(final int offerId) {
+            final boolean indexed = unindexCurrent();
+            buffer.putInt(offset + OFFER, offerId);
+            buffer.putDouble(offset + VALUE, offers.get(offerId).getValue());
+            reindexCurrent(indexed);
+        }
+
+        /**
+         * Método responsável por excluir a linha dos índices antes de uma alteração, se a vista for atual.
+         * @return Retorna indicativo de que a linha estava indexada.
+         */
+        private boolean unindexCurrent() {
+            final boolean indexed = isCurrent() && buffer.getInt(offset + PROVIDER_SLOT) >= 0;
+            if (indexed) {
+                unindex(row);
+            }
+            return indexed;
+        }
+
+        /**
+         * Método responsável por reincluir a linha nos índices após uma alteração e descartar a chave gerada.
+         * @param indexed Refere-se a indicativo de que a linha estava indexada.
+         */
+        private void reindexCurrent(final boolean indexed) {
+            if (indexed) {
+                index(row);
+            }
+            cachedKey = null;
+        }
+
+        /**
+         * Método responsável por retornar a data da aquisição no formato aaaammdd.
+         * @return Retorna data no formato aaaammdd.
+         */
+        private int packedDate() {
+            return buffer.getInt(offset + DATE);
+        }
+
+        /**
+         * Método responsável por retornar o identificador da versão da oferta da aquisição.
+         * @return Retorna identificador da versão da oferta.
+         */
+        private int offerId() {
+            return buffer.getInt(offset + OFFER);
+        }
+
+        /**
+         * Método responsável por retornar o valor unitário da aquisição.
+         * @return Retorna valor unitário.
+         */
+        private double value() {
+            return buffer.getDouble(offset + VALUE);
+        }
+
+        /**
+         * Método responsável por gerar a data da aquisição.
+         * @return Retorna data da aquisição.
+         * @throws IllegalStateException Exceção lançada no caso da linha conter data inválida.
+         */
+        private Date date() {
+            final int date = packedDate();
+            try {
+                return new Date(date % 100, date / 100 % 100, date / 10000);
+            } catch (final DateInvalidException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Método responsável por copiar a linha para uma aquisição comum.
+         * @return Retorna aquisição comum equivalente.
+         */
+        private Acquisition copy() {
+            return new Acquisition(getProvider(), getOffer(), getAmount(), date());
+        }
+
+        /**
+         * Método responsável por substituir a aquisição por uma aquisição comum ao ser gravada em fluxo de objetos.
+         * @return Retorna aquisição comum equivalente.
+         */
+        private Object writeReplace() {
+            return copy();
+        }
+
+        /**
+         * Método responsável por indicar se a vista é igual a dado objeto, isto é, se ambos leem a mesma linha.
+         * @param object Refere-se ao objeto.
+         * @return Retorna indicativo de que a vista é igual ao objeto.
+         */
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Row && ((Row) object).buffer == buffer && ((Row) object).offset == offset;
+        }
+
+        /**
+         * Método responsável por retornar o código de dispersão da vista.
+         * @return Retorna código de dispersão da vista.
+         */
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(buffer) + offset;
+        }
+
+        /**
+         * Método responsável por retornar o nome da aquisição.
+         * @return Retorna nome da aquisição.
+         */
+        @Override
+        public String toString() {
+            return getOffer().toString();
+        }
+
+    }
+
+}
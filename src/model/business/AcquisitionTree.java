@@ -0,0 +1,933 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.business;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import model.offers.IOfferVisible;
+import model.organizations.IProvider;
+import model.sets.ITree;
+import util.IElement;
+
+/**
+ * Classe responsável por comportar-se como árvore de aquisições armazenadas fora do heap.
+ * A árvore guarda apenas números de linhas de um {@link AcquisitionSlab}, em ordem crescente de chave, em blocos
+ * de inteiros de tamanho limitado: a busca é binária sobre os blocos e depois dentro do bloco, e as chaves são
+ * comparadas diretamente com os campos das linhas, sem criar chaves nem vistas. O heap ocupado por aquisição é,
+ * portanto, de alguns inteiros, e não de objetos. As aquisições retornadas são vistas criadas sob demanda.
+ * Os elementos inseridos que não forem vistas desta árvore são copiados para novas linhas; as linhas descartadas
+ * são recuperadas no início das inserções, quando passam a ser maioria, e as vistas obtidas antes disso deixam de
+ * corresponder às linhas da árvore. A árvore mantém índices das linhas por fornecedor e por oferta.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public final class AcquisitionTree implements ITree<String, IElement<String>> {
+    /**
+     * Refere-se ao número de série da classe.
+     */
+    private static final long serialVersionUID = -2861475630951382746L;
+    /**
+     * Refere-se a quantidade máxima de linhas de cada bloco.
+     */
+    private static final int BLOCK_ROWS = 512;
+    /**
+     * Refere-se ao armazenamento das linhas.
+     */
+    private transient AcquisitionSlab slab;
+    /**
+     * Refere-se aos blocos de números de linhas, em ordem crescente de chave.
+     */
+    private transient int[][] blocks;
+    /**
+     * Refere-se a quantidade de linhas de cada bloco.
+     */
+    private transient int[] counts;
+    /**
+     * Refere-se a quantidade de blocos ocupados.
+     */
+    private transient int blockCount;
+    /**
+     * Refere-se a quantidade de elementos contidos na árvore.
+     */
+    private transient int size;
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore de aquisições.
+     */
+    public AcquisitionTree() {
+        slab = new AcquisitionSlab();
+        fill(new int[0], 0);
+    }
+
+    /**
+     * Método responsável por retornar o tamanho reservado fora do heap.
+     * @return Retorna tamanho reservado em bytes.
+     */
+    public long offHeapSize() {
+        return slab.offHeapSize();
+    }
+
+    /**
+     * Método responsável por retornar iterador de cópias das aquisições em ordem crescente de chave.
+     * As cópias são aquisições comuns, que permanecem válidas depois que a árvore é alterada ou descartada.
+     * @return Retorna iterador de cópias das aquisições.
+     */
+    public Iterator<IAcquisition> copies() {
+        final Cursor cursor = new Cursor(false);
+        return new Iterator<IAcquisition>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public IAcquisition next() {
+                return slab.copy(cursor.nextRow());
+            }
+        };
+    }
+
+    /**
+     * Método responsável por percorrer pelas aquisições de dado fornecedor, sem ordem definida.
+     * O custo é proporcional à quantidade de aquisições do fornecedor, e não ao tamanho da árvore.
+     * @param provider Refere-se ao fornecedor.
+     * @param element  Refere-se as aquisições do fornecedor.
+     */
+    public void forEachByProvider(final IProvider provider, final Consumer<? super IAcquisition> element) {
+        slab.forEachByProvider(provider, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelas aquisições de dada oferta de dado fornecedor, sem ordem definida.
+     * O custo é proporcional à quantidade de aquisições do fornecedor ou da oferta, e não ao tamanho da árvore.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @param element  Refere-se as aquisições da oferta.
+     */
+    public void forEachByOffer(final IProvider provider, final IOfferVisible offer, final Consumer<? super IAcquisition> element) {
+        slab.forEachByOffer(provider, offer, element);
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos contidos na árvore.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore, descartando suas linhas.
+     */
+    @Override
+    public void clear() {
+        slab.clear();
+        fill(new int[0], 0);
+    }
+
+    /**
+     * Método responsável por indicar se a árvore está vazia.
+     * @return Retorna indicativo de que a árvore está vazia.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Método responsável por indicar se determinado elemento está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna indicativo de que a árvore contém o eventual elemento.
+     */
+    @Override
+    public boolean isContains(final Comparable<String> key) {
+        return index(locate(key)) >= 0;
+    }
+
+    /**
+     * Método responsável por buscar dado elemento que está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna elemento se contido na árvore.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public IElement<String> search(final Comparable<String> key) throws ElementNotFoundException {
+        final long position = locate(key);
+        if (index(position) < 0) {
+            throw new ElementNotFoundException();
+        }
+        return slab.view(rowAt(position));
+    }
+
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public int rank(final Comparable<String> key) throws ElementNotFoundException {
+        final long position = locate(key);
+        if (index(position) < 0) {
+            throw new ElementNotFoundException();
+        }
+        return ordinal(position);
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não ser ocupada por nenhum elemento.
+     */
+    @Override
+    public IElement<String> select(final int index) throws ElementNotFoundException {
+        if (index < 0 || index >= size) {
+            throw new ElementNotFoundException();
+        }
+        return slab.view(rowAt(positionOf(index)));
+    }
+
+    /**
+     * Método responsável por remover dado elemento que está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public void remove(final Comparable<String> key) throws ElementNotFoundException {
+        final long position = locate(key);
+        if (index(position) < 0) {
+            throw new ElementNotFoundException();
+        }
+        slab.unindex(rowAt(position));
+        removeAt(position);
+    }
+
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * Os elementos são avaliados em um único percurso e os blocos são reconstruídos uma única vez.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super IElement<String>> filter) {
+        final int[] kept = new int[size];
+        final int[] removed = new int[size];
+        int keptCount = 0;
+        int removedCount = 0;
+        for (int block = 0; block < blockCount; block++) {
+            for (int i = 0; i < counts[block]; i++) {
+                final int row = blocks[block][i];
+                if (filter.test(slab.view(row))) {
+                    removed[removedCount++] = row;
+                } else {
+                    kept[keptCount++] = row;
+                }
+            }
+        }
+        if (removedCount == 0) {
+            return false;
+        }
+        for (int i = 0; i < removedCount; i++) {
+            slab.unindex(removed[i]);
+        }
+        fill(kept, keptCount);
+        return true;
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @throws KeyUsedException Exceção lançada no caso da chave estar em uso.
+     */
+    @Override
+    public void insert(final Comparable<String> key, final IElement<String> element) throws KeyUsedException {
+        reclaim();
+        final long position = locate(key);
+        if (index(position) >= 0) {
+            throw new KeyUsedException(slab.view(rowAt(position)));
+        }
+        final int row = slab.store((IAcquisition) element);
+        slab.index(row);
+        insertAt(position, row);
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em uma única busca na árvore.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    @Override
+    public IElement<String> compute(final Comparable<String> key,
+            final Function<? super IElement<String>, ? extends IElement<String>> remapping) {
+        reclaim();
+        final long position = locate(key);
+        final boolean found = index(position) >= 0;
+        final IElement<String> newElement = remapping.apply(found ? slab.view(rowAt(position)) : null);
+        if (newElement == null) {
+            if (found) {
+                slab.unindex(rowAt(position));
+                removeAt(position);
+            }
+            return null;
+        } else if (found) {
+            return replaceAt(position, newElement);
+        }
+        final int row = slab.store((IAcquisition) newElement);
+        slab.index(row);
+        insertAt(position, row);
+        return viewOf(newElement, row);
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore ou, se a chave estiver em uso,
+     * combiná-lo ao elemento existente, sem lançar exceção.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    @Override
+    public IElement<String> merge(final Comparable<String> key, final IElement<String> element,
+            final BiFunction<? super IElement<String>, ? super IElement<String>, ? extends IElement<String>> remapping) {
+        return compute(key, currentElement -> currentElement == null ? element : remapping.apply(currentElement, element));
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore somente se a chave estiver livre, sem lançar exceção.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    @Override
+    public IElement<String> putIfAbsent(final Comparable<String> key, final IElement<String> element) {
+        final Object[] currentElement = new Object[1];
+        compute(key, oldElement -> {
+            currentElement[0] = oldElement;
+            return oldElement == null ? element : oldElement;
+        });
+        return (IElement<String>) currentElement[0];
+    }
+
+    /**
+     * Método responsável por mover o elemento de dada chave para outra chave, em no máximo duas buscas na árvore.
+     * A linha é retirada de sua posição antes da segunda busca, pois a função de nova chave pode tê-la alterado,
+     * e só é inserida na nova posição se a chave estiver livre ou a colisão for aceita. Se a mudança for recusada,
+     * a linha volta ao lugar que ocupava, sem nova busca.
+     * @param oldKey      Refere-se a chave atual do elemento.
+     * @param newKey      Refere-se a função que fornece a nova chave a partir do elemento.
+     * @param onCollision Refere-se a função que resolve a colisão com o elemento existente.
+     * @return Retorna elemento que passou a ocupar a nova chave, ou referência nula se a chave atual estiver livre
+     *         ou a mudança for recusada.
+     */
+    @Override
+    public IElement<String> rekey(final Comparable<String> oldKey,
+            final Function<? super IElement<String>, ? extends Comparable<String>> newKey,
+            final BiFunction<? super IElement<String>, ? super IElement<String>, ? extends IElement<String>> onCollision) {
+        final long position = locate(oldKey);
+        if (index(position) < 0) {
+            return null;
+        }
+        final int row = rowAt(position);
+        final IElement<String> element = slab.view(row);
+        final Comparable<String> movedKey = newKey.apply(element);
+        if (compare(oldKey, movedKey) == 0) {
+            return element;
+        }
+        final long vacancy = vacancyOf(position);
+        removeAt(position);
+        final long newPosition = locate(movedKey);
+        if (index(newPosition) < 0) {
+            insertAt(newPosition, row);
+            return element;
+        }
+        final IElement<String> combinedElement = onCollision.apply(slab.view(rowAt(newPosition)), element);
+        if (combinedElement == null) {
+            insertAt(vacancy, row);
+            return null;
+        }
+        slab.unindex(row);
+        return replaceAt(newPosition, combinedElement);
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da árvore por dados elementos.
+     * Se os elementos já estiverem em ordem crescente de chave, os blocos são construídos em tempo linear,
+     * do contrário são ordenados antes da construção. Linhas já contidas na árvore são reaproveitadas.
+     * @param elements Refere-se aos elementos.
+     * @param key      Refere-se a função que fornece a chave de cada elemento.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    @Override
+    public void buildFromSorted(final Iterator<? extends IElement<String>> elements,
+            final Function<? super IElement<String>, ? extends Comparable<String>> key) throws KeyUsedException {
+        final ArrayList<IElement<String>> elementList = new ArrayList<>();
+        final ArrayList<Comparable<String>> keyList = new ArrayList<>();
+        boolean sorted = true;
+        while (elements.hasNext()) {
+            final IElement<String> element = elements.next();
+            final Comparable<String> currentKey = key.apply(element);
+            if (!keyList.isEmpty()) {
+                final int comparisonResult = compare(keyList.get(keyList.size() - 1), currentKey);
+                if (comparisonResult == 0) {
+                    throw new KeyUsedException(elementList.get(elementList.size() - 1));
+                } else if (comparisonResult > 0) {
+                    sorted = false;
+                }
+            }
+            elementList.add(element);
+            keyList.add(currentKey);
+        }
+        final int count = elementList.size();
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        if (!sorted) {
+            Arrays.sort(order, (first, second) -> compare(keyList.get(first), keyList.get(second)));
+            for (int i = 1; i < count; i++) {
+                if (compare(keyList.get(order[i - 1]), keyList.get(order[i])) == 0) {
+                    throw new KeyUsedException(elementList.get(order[i - 1]));
+                }
+            }
+        }
+        for (int block = 0; block < blockCount; block++) {
+            for (int i = 0; i < counts[block]; i++) {
+                slab.unindex(blocks[block][i]);
+            }
+        }
+        final int[] rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = slab.store((IAcquisition) elementList.get(order[i]));
+            slab.index(rows[i]);
+        }
+        fill(rows, count);
+        reclaim();
+    }
+
+    /**
+     * Método responsável por percorrer por todos os elementos contidos na árvore.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos na árvore.
+     */
+    @Override
+    public void forEach(final boolean reverse, final Consumer<? super IElement<String>> element) {
+        forEach(0, size, reverse, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void forEachInRange(final Comparable<String> from, final Comparable<String> to, final boolean reverse,
+            final Consumer<? super IElement<String>> element) {
+        final int begin = from == null ? 0 : lowerBound(from);
+        final int end = to == null ? size : lowerBound(to);
+        if (begin < end) {
+            forEach(begin, end, reverse, element);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void headRange(final Comparable<String> to, final boolean reverse, final Consumer<? super IElement<String>> element) {
+        forEachInRange(null, to, reverse, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void tailRange(final Comparable<String> from, final boolean reverse, final Consumer<? super IElement<String>> element) {
+        forEachInRange(from, null, reverse, element);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public IElement<String> floor(final Comparable<String> key) throws ElementNotFoundException {
+        final long position = locate(key);
+        if (index(position) >= 0) {
+            return slab.view(rowAt(position));
+        }
+        return select(ordinal(position) - 1);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public IElement<String> ceiling(final Comparable<String> key) throws ElementNotFoundException {
+        return select(lowerBound(key));
+    }
+
+    /**
+     * Método responsável por retornar iterador dos elementos contidos na árvore.
+     * O percurso é iterativo e pode ser interrompido a qualquer momento.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na árvore.
+     */
+    @Override
+    public Iterator<IElement<String>> iterator(final boolean reverse) {
+        return new Cursor(reverse);
+    }
+
+    /**
+     * Método responsável por retornar divisor dos elementos contidos na árvore em ordem crescente.
+     * @return Retorna divisor dos elementos contidos na árvore.
+     */
+    @Override
+    public Spliterator<IElement<String>> spliterator() {
+        return Spliterators.spliterator(iterator(false), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Método responsável por comparar duas chaves de aquisição.
+     * @param key      Refere-se a primeira chave.
+     * @param otherKey Refere-se a segunda chave.
+     * @return Retorna valor negativo, nulo ou positivo se a primeira chave for menor, igual ou maior que a segunda.
+     */
+    private static int compare(final Comparable<String> key, final Comparable<String> otherKey) {
+        final Comparable<Object> comparable = (Comparable<Object>) (Comparable<?>) key;
+        return comparable.compareTo(otherKey);
+    }
+
+    /**
+     * Método responsável por localizar dada chave, buscando primeiro o bloco e depois a posição no bloco.
+     * @param key Refere-se a chave.
+     * @return Retorna bloco e posição da chave no bloco, ou o complemento da posição em que seria inserida.
+     */
+    private long locate(final Comparable<String> key) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (slab.compare(key, blocks[middle][counts[middle] - 1]) > 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int first = 0;
+        int last = blockCount == 0 ? -1 : counts[low] - 1;
+        while (first <= last) {
+            final int middle = (first + last) >>> 1;
+            final int comparisonResult = slab.compare(key, blocks[low][middle]);
+            if (comparisonResult > 0) {
+                first = middle + 1;
+            } else if (comparisonResult < 0) {
+                last = middle - 1;
+            } else {
+                return position(low, middle);
+            }
+        }
+        return position(low, ~first);
+    }
+
+    /**
+     * Método responsável por compor a localização de uma linha a partir de seu bloco e de sua posição no bloco.
+     * @param block Refere-se ao bloco.
+     * @param index Refere-se a posição no bloco, ou seu complemento se a linha não estiver presente.
+     * @return Retorna localização composta.
+     */
+    private static long position(final int block, final int index) {
+        return (long) block << 32 | index & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Método responsável por retornar o bloco de dada localização.
+     * @param position Refere-se a localização.
+     * @return Retorna bloco.
+     */
+    private static int block(final long position) {
+        return (int) (position >>> 32);
+    }
+
+    /**
+     * Método responsável por retornar a posição no bloco de dada localização.
+     * @param position Refere-se a localização.
+     * @return Retorna posição no bloco, ou seu complemento se a linha não estiver presente.
+     */
+    private static int index(final long position) {
+        return (int) position;
+    }
+
+    /**
+     * Método responsável por retornar a linha de dada localização.
+     * @param position Refere-se a localização de uma linha presente.
+     * @return Retorna número da linha.
+     */
+    private int rowAt(final long position) {
+        return blocks[block(position)][index(position)];
+    }
+
+    /**
+     * Método responsável por converter dada localização em posição na ordem crescente das chaves.
+     * @param position Refere-se a localização.
+     * @return Retorna posição na ordem, ou a posição em que a linha seria inserida se não estiver presente.
+     */
+    private int ordinal(final long position) {
+        final int block = block(position);
+        final int index = index(position);
+        int ordinal = index >= 0 ? index : ~index;
+        for (int i = 0; i < block; i++) {
+            ordinal += counts[i];
+        }
+        return ordinal;
+    }
+
+    /**
+     * Método responsável por converter dada posição na ordem crescente das chaves em localização.
+     * @param ordinal Refere-se a posição na ordem, menor que a quantidade de elementos.
+     * @return Retorna localização da linha.
+     */
+    private long positionOf(final int ordinal) {
+        int block = 0;
+        int index = ordinal;
+        while (index >= counts[block]) {
+            index -= counts[block];
+            block++;
+        }
+        return position(block, index);
+    }
+
+    /**
+     * Método responsável por retornar a posição na ordem da primeira chave maior ou igual a dada chave.
+     * @param key Refere-se a chave.
+     * @return Retorna posição na ordem.
+     */
+    private int lowerBound(final Comparable<String> key) {
+        return ordinal(locate(key));
+    }
+
+    /**
+     * Método responsável por inserir dada linha na localização em que deveria estar, dividindo o bloco cheio.
+     * @param position Refere-se a localização retornada pela busca, com a posição complementada.
+     * @param row      Refere-se ao número da linha.
+     */
+    private void insertAt(final long position, final int row) {
+        int block = block(position);
+        int index = ~index(position);
+        if (blockCount == 0) {
+            blocks[0] = new int[BLOCK_ROWS];
+            blockCount = 1;
+        } else if (counts[block] == BLOCK_ROWS) {
+            split(block);
+            if (index > BLOCK_ROWS / 2) {
+                index -= BLOCK_ROWS / 2;
+                block++;
+            }
+        }
+        System.arraycopy(blocks[block], index, blocks[block], index + 1, counts[block] - index);
+        blocks[block][index] = row;
+        counts[block]++;
+        size++;
+    }
+
+    /**
+     * Método responsável por dividir dado bloco cheio em dois blocos pela metade.
+     * @param block Refere-se ao bloco.
+     */
+    private void split(final int block) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+            counts = Arrays.copyOf(counts, blockCount * 2);
+        }
+        System.arraycopy(blocks, block + 1, blocks, block + 2, blockCount - block - 1);
+        System.arraycopy(counts, block + 1, counts, block + 2, blockCount - block - 1);
+        blocks[block + 1] = new int[BLOCK_ROWS];
+        System.arraycopy(blocks[block], BLOCK_ROWS / 2, blocks[block + 1], 0, BLOCK_ROWS / 2);
+        counts[block] = BLOCK_ROWS / 2;
+        counts[block + 1] = BLOCK_ROWS / 2;
+        blockCount++;
+    }
+
+    /**
+     * Método responsável por retornar a localização em que a linha de dada localização volta a ficar em ordem
+     * depois de retirada. Se a retirada descartar o bloco, a linha volta ao início do bloco seguinte
+     * ou, se não houver, ao fim do anterior.
+     * @param position Refere-se a localização de uma linha presente.
+     * @return Retorna localização, com a posição complementada, válida após a retirada da linha.
+     */
+    private long vacancyOf(final long position) {
+        final int block = block(position);
+        if (counts[block] > 1 || blockCount == 1) {
+            return position(block, ~index(position));
+        } else if (block < blockCount - 1) {
+            return position(block, ~0);
+        }
+        return position(block - 1, ~counts[block - 1]);
+    }
+
+    /**
+     * Método responsável por retirar a linha de dada localização, descartando o bloco que ficar vazio.
+     * @param position Refere-se a localização de uma linha presente.
+     */
+    private void removeAt(final long position) {
+        final int block = block(position);
+        final int index = index(position);
+        System.arraycopy(blocks[block], index + 1, blocks[block], index, counts[block] - index - 1);
+        counts[block]--;
+        size--;
+        if (counts[block] == 0 && blockCount > 1) {
+            System.arraycopy(blocks, block + 1, blocks, block, blockCount - block - 1);
+            System.arraycopy(counts, block + 1, counts, block, blockCount - block - 1);
+            blockCount--;
+            blocks[blockCount] = null;
+        } else if (counts[block] == 0) {
+            blocks[0] = null;
+            blockCount = 0;
+        }
+    }
+
+    /**
+     * Método responsável por substituir a linha de dada localização pela linha de dado elemento.
+     * @param position Refere-se a localização de uma linha presente.
+     * @param element  Refere-se ao elemento que passa a ocupar a localização.
+     * @return Retorna elemento que passou a ocupar a localização.
+     */
+    private IElement<String> replaceAt(final long position, final IElement<String> element) {
+        final int oldRow = rowAt(position);
+        final int row = slab.store((IAcquisition) element);
+        if (row != oldRow) {
+            slab.unindex(oldRow);
+            slab.index(row);
+            blocks[block(position)][index(position)] = row;
+        }
+        return viewOf(element, row);
+    }
+
+    /**
+     * Método responsável por retornar dado elemento, se for vista de dada linha, ou uma nova vista da linha.
+     * @param element Refere-se ao elemento.
+     * @param row     Refere-se ao número da linha.
+     * @return Retorna vista da linha.
+     */
+    private IElement<String> viewOf(final IElement<String> element, final int row) {
+        return slab.rowOf(element) == row ? element : slab.view(row);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos de dado intervalo de posições na ordem.
+     * @param begin   Refere-se a posição inicial, inclusiva.
+     * @param end     Refere-se a posição final, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    private void forEach(final int begin, final int end, final boolean reverse, final Consumer<? super IElement<String>> element) {
+        if (begin >= end) {
+            return;
+        }
+        final long position = positionOf(reverse ? end - 1 : begin);
+        int block = block(position);
+        int index = index(position);
+        for (int remaining = end - begin; remaining > 0; remaining--) {
+            element.accept(slab.view(blocks[block][index]));
+            if (reverse && --index < 0 && --block >= 0) {
+                index = counts[block] - 1;
+            } else if (!reverse && ++index == counts[block]) {
+                block++;
+                index = 0;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por reconstruir os blocos a partir de dadas linhas em ordem crescente de chave.
+     * Os blocos são preenchidos até três quartos, para que as próximas inserções não os dividam de imediato.
+     * @param rows  Refere-se aos números das linhas.
+     * @param count Refere-se a quantidade de linhas.
+     */
+    private void fill(final int[] rows, final int count) {
+        final int perBlock = BLOCK_ROWS * 3 / 4;
+        blockCount = (count + perBlock - 1) / perBlock;
+        blocks = new int[Math.max(blockCount, 1)][];
+        counts = new int[blocks.length];
+        for (int block = 0; block < blockCount; block++) {
+            blocks[block] = new int[BLOCK_ROWS];
+            counts[block] = Math.min(perBlock, count - block * perBlock);
+            System.arraycopy(rows, block * perBlock, blocks[block], 0, counts[block]);
+        }
+        size = count;
+    }
+
+    /**
+     * Método responsável por recuperar as linhas descartadas quando estas passam a ser maioria.
+     * As linhas mantidas são copiadas em ordem, de modo que a linha de posição i na ordem passa a ser a linha i.
+     */
+    private void reclaim() {
+        if (slab.rows() >= 2 * size + AcquisitionSlab.SLAB_ROWS) {
+            final int[] rows = new int[size];
+            int ordinal = 0;
+            for (int block = 0; block < blockCount; block++) {
+                System.arraycopy(blocks[block], 0, rows, ordinal, counts[block]);
+                ordinal += counts[block];
+            }
+            slab.compact(rows);
+            for (int i = 0; i < size; i++) {
+                rows[i] = i;
+            }
+            fill(rows, size);
+        }
+    }
+
+    /**
+     * Método responsável por gravar a árvore em um fluxo de objetos, como aquisições comuns em ordem crescente.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException Exceção lançada em caso de problemas no acesso ao fluxo.
+     */
+    private void writeObject(final ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(size);
+        for (int block = 0; block < blockCount; block++) {
+            for (int i = 0; i < counts[block]; i++) {
+                stream.writeObject(slab.view(blocks[block][i]));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por restaurar a árvore a partir de um fluxo de objetos, copiando as aquisições gravadas
+     * para um novo armazenamento fora do heap.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException            Exceção lançada em caso de problemas no acesso ao fluxo.
+     * @throws ClassNotFoundException Exceção lançada em caso de não haver uma classe contida no fluxo.
+     */
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        slab = new AcquisitionSlab();
+        final int count = stream.readInt();
+        final int[] rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = slab.store((IAcquisition) stream.readObject());
+            slab.index(rows[i]);
+        }
+        fill(rows, count);
+    }
+
+    /**
+     * Classe responsável por comportar-se como cursor de percurso pelos blocos da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     */
+    private final class Cursor implements Iterator<IElement<String>> {
+        /**
+         * Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private final boolean reverse;
+        /**
+         * Refere-se ao bloco do próximo elemento.
+         */
+        private int block;
+        /**
+         * Refere-se a posição do próximo elemento no bloco.
+         */
+        private int index;
+        /**
+         * Refere-se a quantidade de elementos a percorrer.
+         */
+        private int remaining;
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor posicionado no primeiro elemento.
+         * @param reverse Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private Cursor(final boolean reverse) {
+            this.reverse = reverse;
+            this.remaining = size;
+            this.block = reverse ? blockCount - 1 : 0;
+            this.index = reverse && blockCount > 0 ? counts[block] - 1 : 0;
+        }
+
+        /**
+         * Método responsável por indicar se há elementos a percorrer.
+         * @return Retorna indicativo de que há elementos a percorrer.
+         */
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        /**
+         * Método responsável por retornar o próximo elemento do percurso.
+         * @return Retorna próximo elemento do percurso.
+         * @throws NoSuchElementException Exceção lançada no caso de não haver elementos a percorrer.
+         */
+        @Override
+        public IElement<String> next() {
+            return slab.view(nextRow());
+        }
+
+        /**
+         * Método responsável por retornar o número da linha do próximo elemento do percurso.
+         * @return Retorna número da linha do próximo elemento do percurso.
+         * @throws NoSuchElementException Exceção lançada no caso de não haver elementos a percorrer.
+         */
+        private int nextRow() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            final int row = blocks[block][index];
+            remaining--;
+            if (reverse && --index < 0 && --block >= 0) {
+                index = counts[block] - 1;
+            } else if (!reverse && ++index == counts[block]) {
+                block++;
+                index = 0;
+            }
+            return row;
+        }
+
+    }
+
+}
@@ -40,6 +40,14 @@ public class Expense implements IExpense, IOfferEditable {
      * Refere-se ao valor da despesa.
      */
     private double value;
+    /**
+     * Refere-se a chave memorizada da despesa, descartada quando o nome é alterado.
+     */
+    private transient String cachedKey;
+    /**
+     * Refere-se a indicativo de que a despesa é uma versão compartilhada, que recusa alterações.
+     */
+    private transient boolean shared;
 
     /**
      * Construtor responsável pelo instanciamento da despesa.
@@ -61,9 +69,11 @@ public class Expense implements IExpense, IOfferEditable {
     /**
      * Método responsável por alterar o valor da despesa.
      * @param value Refere-se ao novo valor da despesa.
+     * @throws UnsupportedOperationException Exceção lançada no caso da despesa ser uma versão compartilhada.
      */
     @Override
     public void setValue(final double value) {
+        checkShared();
         this.value = Converter.toNegative(value);
     }
 
@@ -71,11 +81,14 @@ public class Expense implements IExpense, IOfferEditable {
      * Método responsável por alterar o nome da despesa.
      * @param key Refere-se ao novo nome da despesa.
      * @throws NullObjectException Exceção lançada em caso de nome de despesa nulo.
+     * @throws UnsupportedOperationException Exceção lançada no caso da despesa ser uma versão compartilhada.
      */
     @Override
     public void setKey(final String key) throws NullObjectException {
+        checkShared();
         Filter.nullObject(key);
         name = key;
+        cachedKey = null;
     }
 
     /**
@@ -84,7 +97,10 @@ public class Expense implements IExpense, IOfferEditable {
      */
     @Override
     public Comparable<String> getKey() {
-        return name.toLowerCase() + "-";
+        if (cachedKey == null) {
+            cachedKey = name.toLowerCase() + "-";
+        }
+        return cachedKey;
     }
 
     /**
@@ -96,7 +112,7 @@ public class Expense implements IExpense, IOfferEditable {
     @Override
     public Comparable<String> previewKey(final String key) throws NullObjectException {
         Filter.nullObject(key);
-        return key.toLowerCase();
+        return key.toLowerCase() + "-";
     }
 
     /**
@@ -120,6 +136,26 @@ public class Expense implements IExpense, IOfferEditable {
         return expense;
     }
 
+    /**
+     * Método responsável por gerar cópia da despesa que recusa alterações, usada como versão compartilhada.
+     * @return Retorna cópia compartilhável da despesa.
+     */
+    Expense share() {
+        final Expense expense = duplicate();
+        expense.shared = true;
+        return expense;
+    }
+
+    /**
+     * Método responsável por recusar alterações se a despesa for uma versão compartilhada.
+     * @throws UnsupportedOperationException Exceção lançada no caso da despesa ser uma versão compartilhada.
+     */
+    private void checkShared() {
+        if (shared) {
+            throw new UnsupportedOperationException("Versão compartilhada de oferta não pode ser alterada");
+        }
+    }
+
     /**
      * Método responsável por retornar o nome da despesa.
      * @return Retorna nome da despesa.
@@ -40,6 +40,14 @@ public class Income implements IIncome, IOfferEditable {
      * Refere-se ao valor da renda.
      */
     private double value;
+    /**
+     * Refere-se a chave memorizada da renda, descartada quando o nome é alterado.
+     */
+    private transient String cachedKey;
+    /**
+     * Refere-se a indicativo de que a renda é uma versão compartilhada, que recusa alterações.
+     */
+    private transient boolean shared;
 
     /**
      * Construtor responsável pelo instanciamento da renda.
@@ -61,9 +69,11 @@ public class Income implements IIncome, IOfferEditable {
     /**
      * Método responsável por alterar o valor da renda.
      * @param value Refere-se ao novo valor da renda.
+     * @throws UnsupportedOperationException Exceção lançada no caso da renda ser uma versão compartilhada.
      */
     @Override
     public void setValue(final double value) {
+        checkShared();
         this.value = Converter.toPositive(value);
     }
 
@@ -71,11 +81,14 @@ public class Income implements IIncome, IOfferEditable {
      * Método responsável por alterar o nome da renda.
      * @param key Refere-se ao novo nome da renda.
      * @throws NullObjectException Exceção lançada em caso de nome de renda nula.
+     * @throws UnsupportedOperationException Exceção lançada no caso da renda ser uma versão compartilhada.
      */
     @Override
     public void setKey(final String key) throws NullObjectException {
+        checkShared();
         Filter.nullObject(key);
         name = key;
+        cachedKey = null;
     }
 
     /**
@@ -84,7 +97,10 @@ public class Income implements IIncome, IOfferEditable {
      */
     @Override
     public Comparable<String> getKey() {
-        return name.toLowerCase() + "+";
+        if (cachedKey == null) {
+            cachedKey = name.toLowerCase() + "+";
+        }
+        return cachedKey;
     }
 
     /**
@@ -96,7 +112,7 @@ public class Income implements IIncome, IOfferEditable {
     @Override
     public Comparable<String> previewKey(final String key) throws NullObjectException {
         Filter.nullObject(key);
-        return key.toLowerCase();
+        return key.toLowerCase() + "+";
     }
 
     /**
@@ -120,6 +136,26 @@ public class Income implements IIncome, IOfferEditable {
         return income;
     }
 
+    /**
+     * Método responsável por gerar cópia da renda que recusa alterações, usada como versão compartilhada.
+     * @return Retorna cópia compartilhável da renda.
+     */
+    Income share() {
+        final Income income = duplicate();
+        income.shared = true;
+        return income;
+    }
+
+    /**
+     * Método responsável por recusar alterações se a renda for uma versão compartilhada.
+     * @throws UnsupportedOperationException Exceção lançada no caso da renda ser uma versão compartilhada.
+     */
+    private void checkShared() {
+        if (shared) {
+            throw new UnsupportedOperationException("Versão compartilhada de oferta não pode ser alterada");
+        }
+    }
+
     /**
      * Método responsável por retornar o nome da renda.
      * @return Retorna nome da renda.
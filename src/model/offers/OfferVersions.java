@@ -0,0 +1,162 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.offers;
+
+import exceptions.NullObjectException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import util.Filter;
+
+/**
+ * Classe responsável por comportar-se como repositório de versões compartilhadas de ofertas.
+ * Uma versão é uma cópia de oferta por tipo, nome e valor, compartilhada por todas as aquisições que a
+ * referenciam e que recusa alterações: alterações de nome ou de valor geram, ou reaproveitam, outra versão.
+ * As versões são mantidas por referências fracas e descartadas quando nenhuma aquisição as referencia.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public abstract class OfferVersions {
+    /**
+     * Refere-se as versões compartilhadas, indexadas por tipo, nome e valor.
+     */
+    private static final HashMap<List<Object>, Version> VERSIONS = new HashMap<>();
+    /**
+     * Refere-se a fila das versões descartadas, cujas entradas devem ser retiradas do repositório.
+     */
+    private static final ReferenceQueue<IOfferVisible> RELEASED = new ReferenceQueue<>();
+
+    /**
+     * Método responsável por retornar a versão compartilhada equivalente a dada oferta.
+     * @param offer Refere-se a oferta.
+     * @return Retorna versão compartilhada, que recusa alterações.
+     */
+    public static IOfferVisible of(final IOfferVisible offer) {
+        final IOfferVisible version = find(offer.getClass(), offer.toString(), offer.getValue());
+        return version == null ? intern(offer) : version;
+    }
+
+    /**
+     * Método responsável por retornar a versão compartilhada de dada oferta com dado nome.
+     * @param offer Refere-se a oferta.
+     * @param name  Refere-se ao nome da versão.
+     * @return Retorna versão compartilhada, que recusa alterações.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     */
+    public static IOfferVisible withName(final IOfferVisible offer, final String name) throws NullObjectException {
+        Filter.nullObject(name);
+        final IOfferVisible version = find(offer.getClass(), name, offer.getValue());
+        if (version != null) {
+            return version;
+        }
+        final IOfferEditable newVersion = (IOfferEditable) offer.duplicate();
+        newVersion.setKey(name);
+        return intern(newVersion);
+    }
+
+    /**
+     * Método responsável por retornar a versão compartilhada de dada oferta com dado valor.
+     * O valor recebe o sinal do tipo da oferta, como na alteração de valor da própria oferta.
+     * @param offer Refere-se a oferta.
+     * @param value Refere-se ao valor da versão.
+     * @return Retorna versão compartilhada, que recusa alterações.
+     */
+    public static IOfferVisible withValue(final IOfferVisible offer, final double value) {
+        final IOfferVisible version = find(offer.getClass(), offer.toString(), value);
+        if (version != null) {
+            return version;
+        }
+        final IOfferEditable newVersion = (IOfferEditable) offer.duplicate();
+        newVersion.setValue(value);
+        return intern(newVersion);
+    }
+
+    /**
+     * Método responsável por buscar a versão compartilhada de dado tipo, nome e valor.
+     * @param type  Refere-se ao tipo da oferta.
+     * @param name  Refere-se ao nome da oferta.
+     * @param value Refere-se ao valor da oferta.
+     * @return Retorna versão compartilhada, ou referência nula se não houver.
+     */
+    private static synchronized IOfferVisible find(final Class<?> type, final String name, final double value) {
+        final Version version = VERSIONS.get(Arrays.asList(type, name, value));
+        return version == null ? null : version.get();
+    }
+
+    /**
+     * Método responsável por registrar uma cópia compartilhada de dada oferta, se ainda não houver uma equivalente.
+     * As entradas das versões descartadas são retiradas antes do registro.
+     * @param offer Refere-se a oferta.
+     * @return Retorna versão compartilhada.
+     */
+    private static synchronized IOfferVisible intern(final IOfferVisible offer) {
+        for (Reference<? extends IOfferVisible> released = RELEASED.poll(); released != null; released = RELEASED.poll()) {
+            VERSIONS.remove(((Version) released).key, released);
+        }
+        final List<Object> key = Arrays.asList(offer.getClass(), offer.toString(), offer.getValue());
+        final Version version = VERSIONS.get(key);
+        final IOfferVisible sharedOffer = version == null ? null : version.get();
+        if (sharedOffer != null) {
+            return sharedOffer;
+        }
+        final IOfferVisible newVersion = share(offer);
+        VERSIONS.put(key, new Version(key, newVersion));
+        return newVersion;
+    }
+
+    /**
+     * Método responsável por gerar cópia de dada oferta que recusa alterações.
+     * @param offer Refere-se a oferta.
+     * @return Retorna cópia compartilhável da oferta.
+     */
+    private static IOfferVisible share(final IOfferVisible offer) {
+        if (offer instanceof Expense) {
+            return ((Expense) offer).share();
+        }
+        if (offer instanceof Income) {
+            return ((Income) offer).share();
+        }
+        return offer.duplicate();
+    }
+
+    /**
+     * Classe responsável por comportar-se como referência fraca a uma versão, ciente de sua entrada no repositório.
+     */
+    private static final class Version extends WeakReference<IOfferVisible> {
+        /**
+         * Refere-se a chave da versão no repositório.
+         */
+        private final List<Object> key;
+
+        /**
+         * Construtor responsável pelo instanciamento da referência a versão.
+         * @param key     Refere-se a chave da versão no repositório.
+         * @param version Refere-se a versão.
+         */
+        private Version(final List<Object> key, final IOfferVisible version) {
+            super(version, RELEASED);
+            this.key = key;
+        }
+
+    }
+
+}
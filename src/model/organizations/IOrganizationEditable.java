@@ -61,6 +61,18 @@ public interface IOrganizationEditable extends IOrganizationVisible, IElement<St
      */
     public Comparable<String> previewKey(City city);
 
+    /**
+     * Método responsável por pré-visualizar chave da organização após alterar todos os seus campos de uma só vez.
+     * @param key          Refere-se ao novo nome.
+     * @param street       Refere-se a nova rua.
+     * @param neighborhood Refere-se ao novo bairro.
+     * @param city         Refere-se a nova cidade.
+     * @return Retorna pré-visualização da nova chave.
+     * @throws NullObjectException Exceção lançada em caso de nome de organização nula.
+     */
+    public Comparable<String> previewKey(String key, Street street, Neighborhood neighborhood, City city)
+            throws NullObjectException;
+
     /**
      * Método responsável por alterar chave da organização.
      * @param key Refere-se ao novo nome da organização.
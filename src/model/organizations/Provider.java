@@ -62,6 +62,10 @@ public class Provider implements IProvider, IOrganizationEditable {
      * Refere-se a coleção de rendas ofertadas pelo fornecedor.
      */
     private final IOfferCollection<IIncome> incomeCollection;
+    /**
+     * Refere-se a chave memorizada do fornecedor, descartada quando nome ou endereço são alterados.
+     */
+    private transient String cachedKey;
 
     /**
      * Construtor responsável pelo instanciamento do fornecedor.
@@ -132,8 +136,10 @@ public class Provider implements IProvider, IOrganizationEditable {
      */
     @Override
     public Comparable<String> getKey() {
-        final String key = name + city.toString() + neighborhood.toString() + street.toString();
-        return key.toLowerCase();
+        if (cachedKey == null) {
+            cachedKey = (name + city.toString() + neighborhood.toString() + street.toString()).toLowerCase();
+        }
+        return cachedKey;
     }
 
     /**
@@ -182,6 +188,22 @@ public class Provider implements IProvider, IOrganizationEditable {
         return key.toLowerCase();
     }
 
+    /**
+     * Método responsável por pré-visualizar chave do fornecedor após alterar todos os seus campos de uma só vez.
+     * @param key          Refere-se ao novo nome.
+     * @param street       Refere-se a nova rua.
+     * @param neighborhood Refere-se ao novo bairro.
+     * @param city         Refere-se a nova cidade.
+     * @return Retorna pré-visualização da nova chave.
+     * @throws NullObjectException Exceção lançada em caso de nome de fornecedor nulo.
+     */
+    @Override
+    public Comparable<String> previewKey(final String key, final Street street, final Neighborhood neighborhood,
+            final City city) throws NullObjectException {
+        Filter.nullObject(key);
+        return (key + city.toString() + neighborhood.toString() + street.toString()).toLowerCase();
+    }
+
     /**
      * Método responsável por alterar chave do fornecedor.
      * @param key Refere-se ao novo nome do fornecedor.
@@ -191,6 +213,7 @@ public class Provider implements IProvider, IOrganizationEditable {
     public void setKey(final String key) throws NullObjectException {
         Filter.nullObject(key);
         this.name = key;
+        this.cachedKey = null;
     }
 
     /**
@@ -200,6 +223,7 @@ public class Provider implements IProvider, IOrganizationEditable {
     @Override
     public void setStreet(final Street street) {
         this.street = street;
+        this.cachedKey = null;
     }
 
     /**
@@ -209,6 +233,7 @@ public class Provider implements IProvider, IOrganizationEditable {
     @Override
     public void setNeighborhood(final Neighborhood neighborhood) {
         this.neighborhood = neighborhood;
+        this.cachedKey = null;
     }
 
     /**
@@ -218,6 +243,7 @@ public class Provider implements IProvider, IOrganizationEditable {
     @Override
     public void setCity(final City city) {
         this.city = city;
+        this.cachedKey = null;
     }
 
     /**
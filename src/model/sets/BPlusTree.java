@@ -0,0 +1,1349 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.IntegerValueInvalidException;
+import exceptions.KeyUsedException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Classe responsável por comportar-se como árvore B+.
+ * Cada nó guarda até (ramificação - 1) chaves em vetores contíguos e todos os elementos ficam nas folhas,
+ * que são duplamente encadeadas, de modo que os percursos em ordem são caminhadas sequenciais por vetores.
+ * Os nós internos guardam a quantidade de elementos de suas subárvores para posição e seleção.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada na árvore.
+ * @param <E> Refere-se ao tipo de elemento armazenado na árvore.
+ */
+public class BPlusTree<K, E> implements ITree<K, E> {
+    /**
+     * Refere-se ao número de série da classe.
+     */
+    private static final long serialVersionUID = 7519468304171259643L;
+    /**
+     * Refere-se a ramificação padrão da árvore.
+     */
+    public static final int DEFAULT_FAN_OUT = 64;
+    /**
+     * Refere-se a ramificação da árvore, isto é, a quantidade máxima de filhos de um nó interno.
+     */
+    private final int fanOut;
+    /**
+     * Refere-se ao nó raiz da árvore.
+     */
+    private transient Node<K, E> root;
+    /**
+     * Refere-se a primeira folha da árvore.
+     */
+    private transient Leaf<K, E> first;
+    /**
+     * Refere-se a última folha da árvore.
+     */
+    private transient Leaf<K, E> last;
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore B+ com ramificação padrão.
+     */
+    public BPlusTree() {
+        this.fanOut = DEFAULT_FAN_OUT;
+        clear();
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore B+ com dada ramificação.
+     * @param fanOut Refere-se a quantidade máxima de filhos de um nó interno, não inferior a três.
+     * @throws IntegerValueInvalidException Exceção lançada no caso da ramificação ser inferior a três.
+     */
+    public BPlusTree(final int fanOut) throws IntegerValueInvalidException {
+        if (fanOut < 3) {
+            throw new IntegerValueInvalidException(String.valueOf(fanOut));
+        }
+        this.fanOut = fanOut;
+        clear();
+    }
+
+    /**
+     * Método responsável por retornar a ramificação da árvore.
+     * @return Retorna quantidade máxima de filhos de um nó interno.
+     */
+    public int getFanOut() {
+        return fanOut;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos contidos na árvore.
+     */
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    @Override
+    public final void clear() {
+        first = new Leaf<>(fanOut);
+        last = first;
+        root = first;
+    }
+
+    /**
+     * Método responsável por indicar se a árvore está vazia.
+     * @return Retorna indicativo de que a árvore está vazia.
+     */
+    @Override
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    /**
+     * Método responsável por indicar se determinado elemento está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna indicativo de que a árvore contém o eventual elemento.
+     */
+    @Override
+    public boolean isContains(final Comparable<K> key) {
+        return indexOf(findLeaf(key), key) >= 0;
+    }
+
+    /**
+     * Método responsável por buscar dado elemento que está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna elemento se contido na árvore.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public E search(final Comparable<K> key) throws ElementNotFoundException {
+        final Leaf<K, E> leaf = findLeaf(key);
+        final int index = indexOf(leaf, key);
+        if (index < 0) {
+            throw new ElementNotFoundException();
+        } else {
+            return leaf.element(index);
+        }
+    }
+
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public int rank(final Comparable<K> key) throws ElementNotFoundException {
+        int position = 0;
+        Node<K, E> currentNode = root;
+        while (currentNode instanceof Inner) {
+            final Inner<K, E> inner = (Inner<K, E>) currentNode;
+            final int child = childIndex(inner, key);
+            for (int i = 0; i < child; i++) {
+                position += inner.children[i].size;
+            }
+            currentNode = inner.children[child];
+        }
+        final int index = indexOf(currentNode, key);
+        if (index < 0) {
+            throw new ElementNotFoundException();
+        } else {
+            return position + index;
+        }
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não existir na árvore.
+     */
+    @Override
+    public E select(final int index) throws ElementNotFoundException {
+        if (index < 0 || index >= root.size) {
+            throw new ElementNotFoundException();
+        }
+        final int[] position = {index};
+        return findLeafByIndex(position).element(position[0]);
+    }
+
+    /**
+     * Método responsável por remover dado elemento contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public void remove(final Comparable<K> key) throws ElementNotFoundException {
+        remove(key, root);
+        if (root instanceof Inner && root.count == 0) {
+            root = ((Inner<K, E>) root).children[0];
+        }
+    }
+
+    /**
+     * Método responsável por remover dado elemento contido em dada subárvore.
+     * Nós que ficam abaixo da ocupação mínima tomam emprestado de um irmão ou são fundidos a ele.
+     * @param key         Refere-se a chave do elemento.
+     * @param currentNode Refere-se ao nó atual da remoção.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    private void remove(final Comparable<K> key, final Node<K, E> currentNode) throws ElementNotFoundException {
+        if (currentNode instanceof Leaf) {
+            final Leaf<K, E> leaf = (Leaf<K, E>) currentNode;
+            final int index = indexOf(leaf, key);
+            if (index < 0) {
+                throw new ElementNotFoundException();
+            }
+            removeAt(leaf, index);
+        } else {
+            final Inner<K, E> inner = (Inner<K, E>) currentNode;
+            final int child = childIndex(inner, key);
+            remove(key, inner.children[child]);
+            inner.size--;
+            if (isUnderflowed(inner.children[child])) {
+                rebalance(inner, child);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por indicar se dado nó está abaixo da ocupação mínima.
+     * @param currentNode Refere-se ao nó verificado.
+     * @return Retorna indicativo de que o nó está abaixo da ocupação mínima.
+     */
+    private boolean isUnderflowed(final Node<K, E> currentNode) {
+        if (currentNode instanceof Leaf) {
+            return currentNode.count < (fanOut - 1) / 2;
+        } else {
+            return currentNode.count + 1 < (fanOut + 1) / 2;
+        }
+    }
+
+    /**
+     * Método responsável por recompor a ocupação de dado filho junto a um irmão adjacente.
+     * @param parent Refere-se ao nó pai.
+     * @param child  Refere-se a posição do filho abaixo da ocupação mínima.
+     */
+    private void rebalance(final Inner<K, E> parent, final int child) {
+        final int separator = child > 0 ? child - 1 : child;
+        final Node<K, E> left = parent.children[separator];
+        final Node<K, E> right = parent.children[separator + 1];
+        if (left instanceof Leaf) {
+            final Leaf<K, E> leftLeaf = (Leaf<K, E>) left;
+            final Leaf<K, E> rightLeaf = (Leaf<K, E>) right;
+            if (leftLeaf.count + rightLeaf.count <= fanOut - 1) {
+                System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.count, rightLeaf.count);
+                System.arraycopy(rightLeaf.elements, 0, leftLeaf.elements, leftLeaf.count, rightLeaf.count);
+                leftLeaf.count += rightLeaf.count;
+                leftLeaf.size += rightLeaf.size;
+                leftLeaf.next = rightLeaf.next;
+                if (rightLeaf.next == null) {
+                    last = leftLeaf;
+                } else {
+                    rightLeaf.next.previous = leftLeaf;
+                }
+                removeChild(parent, separator);
+            } else if (leftLeaf.count < rightLeaf.count) {
+                leftLeaf.keys[leftLeaf.count] = rightLeaf.keys[0];
+                leftLeaf.elements[leftLeaf.count] = rightLeaf.elements[0];
+                leftLeaf.count++;
+                leftLeaf.size++;
+                System.arraycopy(rightLeaf.keys, 1, rightLeaf.keys, 0, rightLeaf.count - 1);
+                System.arraycopy(rightLeaf.elements, 1, rightLeaf.elements, 0, rightLeaf.count - 1);
+                rightLeaf.count--;
+                rightLeaf.keys[rightLeaf.count] = null;
+                rightLeaf.elements[rightLeaf.count] = null;
+                rightLeaf.size--;
+                parent.keys[separator] = rightLeaf.keys[0];
+            } else {
+                System.arraycopy(rightLeaf.keys, 0, rightLeaf.keys, 1, rightLeaf.count);
+                System.arraycopy(rightLeaf.elements, 0, rightLeaf.elements, 1, rightLeaf.count);
+                leftLeaf.count--;
+                rightLeaf.keys[0] = leftLeaf.keys[leftLeaf.count];
+                rightLeaf.elements[0] = leftLeaf.elements[leftLeaf.count];
+                leftLeaf.keys[leftLeaf.count] = null;
+                leftLeaf.elements[leftLeaf.count] = null;
+                leftLeaf.size--;
+                rightLeaf.count++;
+                rightLeaf.size++;
+                parent.keys[separator] = rightLeaf.keys[0];
+            }
+        } else {
+            final Inner<K, E> leftInner = (Inner<K, E>) left;
+            final Inner<K, E> rightInner = (Inner<K, E>) right;
+            if (leftInner.count + rightInner.count + 1 <= fanOut - 1) {
+                leftInner.keys[leftInner.count] = parent.keys[separator];
+                System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.count + 1, rightInner.count);
+                System.arraycopy(rightInner.children, 0, leftInner.children, leftInner.count + 1, rightInner.count + 1);
+                leftInner.count += rightInner.count + 1;
+                leftInner.size += rightInner.size;
+                removeChild(parent, separator);
+            } else if (leftInner.count < rightInner.count) {
+                final Node<K, E> moved = rightInner.children[0];
+                leftInner.keys[leftInner.count] = parent.keys[separator];
+                leftInner.children[leftInner.count + 1] = moved;
+                leftInner.count++;
+                leftInner.size += moved.size;
+                parent.keys[separator] = rightInner.keys[0];
+                System.arraycopy(rightInner.keys, 1, rightInner.keys, 0, rightInner.count - 1);
+                System.arraycopy(rightInner.children, 1, rightInner.children, 0, rightInner.count);
+                rightInner.count--;
+                rightInner.keys[rightInner.count] = null;
+                rightInner.children[rightInner.count + 1] = null;
+                rightInner.size -= moved.size;
+            } else {
+                final Node<K, E> moved = leftInner.children[leftInner.count];
+                System.arraycopy(rightInner.keys, 0, rightInner.keys, 1, rightInner.count);
+                System.arraycopy(rightInner.children, 0, rightInner.children, 1, rightInner.count + 1);
+                rightInner.keys[0] = parent.keys[separator];
+                rightInner.children[0] = moved;
+                rightInner.count++;
+                rightInner.size += moved.size;
+                parent.keys[separator] = leftInner.keys[leftInner.count - 1];
+                leftInner.count--;
+                leftInner.keys[leftInner.count] = null;
+                leftInner.children[leftInner.count + 1] = null;
+                leftInner.size -= moved.size;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por remover de dado nó interno o filho à direita de dada chave separadora, junto dela.
+     * @param parent    Refere-se ao nó pai.
+     * @param separator Refere-se a posição da chave separadora.
+     */
+    private void removeChild(final Inner<K, E> parent, final int separator) {
+        System.arraycopy(parent.keys, separator + 1, parent.keys, separator, parent.count - separator - 1);
+        System.arraycopy(parent.children, separator + 2, parent.children, separator + 1, parent.count - separator - 1);
+        parent.count--;
+        parent.keys[parent.count] = null;
+        parent.children[parent.count + 1] = null;
+    }
+
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * As folhas são percorridas em sequência e a árvore é reconstruída uma única vez com os elementos mantidos.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        final ArrayList<Comparable<K>> keys = new ArrayList<>();
+        final ArrayList<E> elements = new ArrayList<>();
+        for (Leaf<K, E> leaf = first; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                if (!filter.test(leaf.element(i))) {
+                    keys.add((Comparable<K>) leaf.keys[i]);
+                    elements.add(leaf.element(i));
+                }
+            }
+        }
+        if (keys.size() == size()) {
+            return false;
+        } else {
+            build(keys, elements);
+            return true;
+        }
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @throws KeyUsedException Exceção lançada no caso da chave do elemento estar em uso.
+     */
+    @Override
+    public void insert(final Comparable<K> key, final E element) throws KeyUsedException {
+        growRoot(insert(key, element, root));
+    }
+
+    /**
+     * Método responsável por criar nova raiz acima da atual quando esta for dividida.
+     * @param sibling Refere-se ao irmão à direita criado pela divisão da raiz, ou referência nula se não houve divisão.
+     */
+    private void growRoot(final Node<K, E> sibling) {
+        if (sibling != null) {
+            final Inner<K, E> newRoot = new Inner<>(fanOut);
+            newRoot.keys[0] = firstKey(sibling);
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.count = 1;
+            newRoot.size = root.size + sibling.size;
+            root = newRoot;
+        }
+    }
+
+    /**
+     * Método responsável por inserir dado elemento em dada subárvore, dividindo os nós que excedem a capacidade.
+     * @param key         Refere-se a chave do elemento.
+     * @param element     Refere-se ao elemento.
+     * @param currentNode Refere-se ao nó atual da inserção.
+     * @return Retorna irmão à direita criado pela divisão do nó, ou referência nula se não houve divisão.
+     * @throws KeyUsedException Exceção lançada no caso da chave do elemento estar em uso.
+     */
+    private Node<K, E> insert(final Comparable<K> key, final E element, final Node<K, E> currentNode) throws KeyUsedException {
+        if (currentNode instanceof Leaf) {
+            final Leaf<K, E> leaf = (Leaf<K, E>) currentNode;
+            final int index = indexOf(leaf, key);
+            if (index >= 0) {
+                throw new KeyUsedException(leaf.elements[index]);
+            }
+            return insertAt(leaf, -(index + 1), key, element);
+        } else {
+            final Inner<K, E> inner = (Inner<K, E>) currentNode;
+            final int child = childIndex(inner, key);
+            final Node<K, E> sibling = insert(key, element, inner.children[child]);
+            inner.size++;
+            return sibling == null ? null : addChild(inner, child, sibling);
+        }
+    }
+
+    /**
+     * Método responsável por inserir dado elemento em dada posição de uma folha, dividindo-a se exceder a capacidade.
+     * @param leaf     Refere-se a folha.
+     * @param position Refere-se a posição do elemento na folha.
+     * @param key      Refere-se a chave do elemento.
+     * @param element  Refere-se ao elemento.
+     * @return Retorna irmão à direita criado pela divisão da folha, ou referência nula se não houve divisão.
+     */
+    private Node<K, E> insertAt(final Leaf<K, E> leaf, final int position, final Comparable<K> key, final E element) {
+        System.arraycopy(leaf.keys, position, leaf.keys, position + 1, leaf.count - position);
+        System.arraycopy(leaf.elements, position, leaf.elements, position + 1, leaf.count - position);
+        leaf.keys[position] = key;
+        leaf.elements[position] = element;
+        leaf.count++;
+        leaf.size++;
+        return leaf.count < fanOut ? null : split(leaf);
+    }
+
+    /**
+     * Método responsável por remover o elemento de dada posição de uma folha.
+     * @param leaf  Refere-se a folha.
+     * @param index Refere-se a posição do elemento na folha.
+     */
+    private void removeAt(final Leaf<K, E> leaf, final int index) {
+        System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.count - index - 1);
+        System.arraycopy(leaf.elements, index + 1, leaf.elements, index, leaf.count - index - 1);
+        leaf.count--;
+        leaf.keys[leaf.count] = null;
+        leaf.elements[leaf.count] = null;
+        leaf.size--;
+    }
+
+    /**
+     * Método responsável por incluir em dado nó interno o irmão à direita criado pela divisão de um filho.
+     * @param inner   Refere-se ao nó interno.
+     * @param child   Refere-se a posição do filho dividido.
+     * @param sibling Refere-se ao irmão à direita do filho.
+     * @return Retorna irmão à direita criado pela divisão do nó interno, ou referência nula se não houve divisão.
+     */
+    private Node<K, E> addChild(final Inner<K, E> inner, final int child, final Node<K, E> sibling) {
+        linkChild(inner, child, sibling);
+        return inner.count < fanOut ? null : split(inner);
+    }
+
+    /**
+     * Método responsável por incluir em dado nó interno o irmão à direita de um filho, sem dividir o nó.
+     * O nó pode ficar temporariamente com uma chave além da capacidade, até que seja dividido.
+     * @param inner   Refere-se ao nó interno.
+     * @param child   Refere-se a posição do filho dividido.
+     * @param sibling Refere-se ao irmão à direita do filho.
+     */
+    private void linkChild(final Inner<K, E> inner, final int child, final Node<K, E> sibling) {
+        System.arraycopy(inner.keys, child, inner.keys, child + 1, inner.count - child);
+        System.arraycopy(inner.children, child + 1, inner.children, child + 2, inner.count - child);
+        inner.keys[child] = firstKey(sibling);
+        inner.children[child + 1] = sibling;
+        inner.count++;
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em uma única descida na árvore.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    @Override
+    public E compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping) {
+        final Object[] newElement = new Object[1];
+        growRoot(compute(key, remapping, newElement, root));
+        if (root instanceof Inner && root.count == 0) {
+            root = ((Inner<K, E>) root).children[0];
+        }
+        return (E) newElement[0];
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em dada subárvore.
+     * Nós que excedem a capacidade são divididos e nós que ficam abaixo da ocupação mínima são recompostos.
+     * @param key         Refere-se a chave do elemento.
+     * @param remapping   Refere-se a função que fornece o novo elemento.
+     * @param newElement  Refere-se ao recipiente do elemento que passou a ocupar a chave.
+     * @param currentNode Refere-se ao nó atual da descida.
+     * @return Retorna irmão à direita criado pela divisão do nó, ou referência nula se não houve divisão.
+     */
+    private Node<K, E> compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping,
+            final Object[] newElement, final Node<K, E> currentNode) {
+        if (currentNode instanceof Leaf) {
+            final Leaf<K, E> leaf = (Leaf<K, E>) currentNode;
+            final int index = indexOf(leaf, key);
+            newElement[0] = remapping.apply(index >= 0 ? leaf.element(index) : null);
+            if (newElement[0] == null) {
+                if (index >= 0) {
+                    removeAt(leaf, index);
+                }
+                return null;
+            } else if (index >= 0) {
+                leaf.elements[index] = newElement[0];
+                return null;
+            } else {
+                return insertAt(leaf, -(index + 1), key, (E) newElement[0]);
+            }
+        } else {
+            final Inner<K, E> inner = (Inner<K, E>) currentNode;
+            final int child = childIndex(inner, key);
+            final int childSize = inner.children[child].size;
+            final Node<K, E> sibling = compute(key, remapping, newElement, inner.children[child]);
+            if (sibling != null) {
+                inner.size++;
+                return addChild(inner, child, sibling);
+            } else if (inner.children[child].size < childSize) {
+                inner.size--;
+                if (isUnderflowed(inner.children[child])) {
+                    rebalance(inner, child);
+                }
+            } else if (inner.children[child].size > childSize) {
+                inner.size++;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore ou, se a chave estiver em uso,
+     * combiná-lo ao elemento existente, sem lançar exceção.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    @Override
+    public E merge(final Comparable<K> key, final E element, final BiFunction<? super E, ? super E, ? extends E> remapping) {
+        return compute(key, currentElement -> currentElement == null ? element : remapping.apply(currentElement, element));
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore somente se a chave estiver livre, sem lançar exceção.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    @Override
+    public E putIfAbsent(final Comparable<K> key, final E element) {
+        final Object[] currentElement = new Object[1];
+        compute(key, oldElement -> {
+            currentElement[0] = oldElement;
+            return oldElement == null ? element : oldElement;
+        });
+        return (E) currentElement[0];
+    }
+
+    /**
+     * Método responsável por mover o elemento de dada chave para outra chave, em no máximo duas descidas na árvore.
+     * A primeira descida apenas localiza o elemento; a segunda resolve a colisão na nova chave antes de desligá-lo
+     * da chave atual, de modo que uma mudança recusada não altera a árvore.
+     * @param oldKey      Refere-se a chave atual do elemento.
+     * @param newKey      Refere-se a função que fornece a nova chave a partir do elemento.
+     * @param onCollision Refere-se a função que resolve a colisão com o elemento existente.
+     * @return Retorna elemento que passou a ocupar a nova chave, ou referência nula se a chave atual estiver livre
+     *         ou a mudança for recusada.
+     */
+    @Override
+    public E rekey(final Comparable<K> oldKey, final Function<? super E, ? extends Comparable<K>> newKey,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision) {
+        final Leaf<K, E> leaf = findLeaf(oldKey);
+        final int index = indexOf(leaf, oldKey);
+        if (index < 0) {
+            return null;
+        }
+        final E movedElement = leaf.element(index);
+        final Comparable<K> movedKey = newKey.apply(movedElement);
+        if (oldKey.compareTo((K) movedKey) == 0) {
+            return movedElement;
+        }
+        final Object[] newElement = new Object[1];
+        growRoot(move(oldKey, movedKey, movedElement, onCollision, newElement, root));
+        if (root instanceof Inner && root.count == 0) {
+            root = ((Inner<K, E>) root).children[0];
+        }
+        return (E) newElement[0];
+    }
+
+    /**
+     * Método responsável por mover dado elemento entre duas chaves de dada subárvore em uma única descida.
+     * Enquanto as duas chaves seguem o mesmo filho a descida é compartilhada; no nó em que os caminhos se separam,
+     * a nova chave é resolvida primeiro e a chave atual só é removida se a mudança não for recusada.
+     * O irmão criado pela eventual divisão do lado da nova chave é incluído antes da recomposição do lado da
+     * chave atual, e o nó só é dividido depois de ambos.
+     * @param oldKey       Refere-se a chave atual do elemento.
+     * @param newKey       Refere-se a nova chave do elemento.
+     * @param movedElement Refere-se ao elemento movido.
+     * @param onCollision  Refere-se a função que resolve a colisão com o elemento existente.
+     * @param newElement   Refere-se ao recipiente do elemento que passou a ocupar a nova chave.
+     * @param currentNode  Refere-se ao nó atual da descida.
+     * @return Retorna irmão à direita criado pela divisão do nó, ou referência nula se não houve divisão.
+     */
+    private Node<K, E> move(final Comparable<K> oldKey, final Comparable<K> newKey, final E movedElement,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision, final Object[] newElement, final Node<K, E> currentNode) {
+        if (currentNode instanceof Leaf) {
+            final Leaf<K, E> leaf = (Leaf<K, E>) currentNode;
+            final int index = indexOf(leaf, oldKey);
+            final int position = indexOf(leaf, newKey);
+            if (position >= 0) {
+                newElement[0] = onCollision.apply(leaf.element(position), movedElement);
+                if (newElement[0] != null) {
+                    leaf.elements[position] = newElement[0];
+                    removeAt(leaf, index);
+                }
+            } else {
+                final int insertion = -(position + 1);
+                removeAt(leaf, index);
+                insertAt(leaf, index < insertion ? insertion - 1 : insertion, newKey, movedElement);
+                newElement[0] = movedElement;
+            }
+            return null;
+        }
+        final Inner<K, E> inner = (Inner<K, E>) currentNode;
+        final int oldChild = childIndex(inner, oldKey);
+        final int newChild = childIndex(inner, newKey);
+        if (oldChild == newChild) {
+            final int childSize = inner.children[oldChild].size;
+            final Node<K, E> sibling = move(oldKey, newKey, movedElement, onCollision, newElement, inner.children[oldChild]);
+            if (newElement[0] == null) {
+                return null;
+            }
+            inner.size += inner.children[oldChild].size + (sibling == null ? 0 : sibling.size) - childSize;
+            if (sibling != null) {
+                return addChild(inner, oldChild, sibling);
+            } else if (isUnderflowed(inner.children[oldChild])) {
+                rebalance(inner, oldChild);
+            }
+            return null;
+        }
+        final boolean[] refused = new boolean[1];
+        final int newChildSize = inner.children[newChild].size;
+        final Node<K, E> sibling = compute(newKey, element -> {
+            if (element == null) {
+                return movedElement;
+            }
+            final E combinedElement = onCollision.apply(element, movedElement);
+            refused[0] = combinedElement == null;
+            return refused[0] ? element : combinedElement;
+        }, newElement, inner.children[newChild]);
+        if (refused[0]) {
+            newElement[0] = null;
+            return null;
+        }
+        final int oldChildSize = inner.children[oldChild].size;
+        compute(oldKey, element -> null, new Object[1], inner.children[oldChild]);
+        inner.size += inner.children[newChild].size + (sibling == null ? 0 : sibling.size) - newChildSize
+                + inner.children[oldChild].size - oldChildSize;
+        int child = oldChild;
+        if (sibling != null) {
+            linkChild(inner, newChild, sibling);
+            if (oldChild > newChild) {
+                child++;
+            }
+        }
+        if (isUnderflowed(inner.children[child])) {
+            rebalance(inner, child);
+        }
+        return inner.count < fanOut ? null : split(inner);
+    }
+
+    /**
+     * Método responsável por dividir dada folha cheia, movendo sua metade final para nova folha.
+     * @param leaf Refere-se a folha dividida.
+     * @return Retorna nova folha à direita.
+     */
+    private Leaf<K, E> split(final Leaf<K, E> leaf) {
+        final Leaf<K, E> sibling = new Leaf<>(fanOut);
+        final int remaining = leaf.count / 2;
+        sibling.count = leaf.count - remaining;
+        System.arraycopy(leaf.keys, remaining, sibling.keys, 0, sibling.count);
+        System.arraycopy(leaf.elements, remaining, sibling.elements, 0, sibling.count);
+        for (int i = remaining; i < leaf.count; i++) {
+            leaf.keys[i] = null;
+            leaf.elements[i] = null;
+        }
+        leaf.count = remaining;
+        leaf.size = remaining;
+        sibling.size = sibling.count;
+        sibling.next = leaf.next;
+        sibling.previous = leaf;
+        if (leaf.next == null) {
+            last = sibling;
+        } else {
+            leaf.next.previous = sibling;
+        }
+        leaf.next = sibling;
+        return sibling;
+    }
+
+    /**
+     * Método responsável por dividir dado nó interno cheio, promovendo sua chave central.
+     * @param inner Refere-se ao nó interno dividido.
+     * @return Retorna novo nó interno à direita.
+     */
+    private Inner<K, E> split(final Inner<K, E> inner) {
+        final Inner<K, E> sibling = new Inner<>(fanOut);
+        final int middle = inner.count / 2;
+        sibling.count = inner.count - middle - 1;
+        System.arraycopy(inner.keys, middle + 1, sibling.keys, 0, sibling.count);
+        System.arraycopy(inner.children, middle + 1, sibling.children, 0, sibling.count + 1);
+        for (int i = middle; i < inner.count; i++) {
+            inner.keys[i] = null;
+            inner.children[i + 1] = null;
+        }
+        inner.count = middle;
+        inner.size = 0;
+        for (int i = 0; i <= inner.count; i++) {
+            inner.size += inner.children[i].size;
+        }
+        sibling.size = 0;
+        for (int i = 0; i <= sibling.count; i++) {
+            sibling.size += sibling.children[i].size;
+        }
+        return sibling;
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da árvore por dados elementos.
+     * Se os elementos já estiverem em ordem crescente de chave, a árvore é construída em tempo linear,
+     * preenchendo as folhas e os nós internos nível a nível, do contrário são ordenados antes da construção.
+     * @param elements Refere-se aos elementos.
+     * @param key      Refere-se a função que fornece a chave de cada elemento.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    @Override
+    public void buildFromSorted(final Iterator<? extends E> elements, final Function<? super E, ? extends Comparable<K>> key) throws KeyUsedException {
+        final Tree<K, E> sorted = new Tree<>();
+        sorted.buildFromSorted(elements, key);
+        final ArrayList<Comparable<K>> keys = new ArrayList<>(sorted.size());
+        final ArrayList<E> values = new ArrayList<>(sorted.size());
+        sorted.forEach(false, element -> {
+            keys.add(key.apply(element));
+            values.add(element);
+        });
+        build(keys, values);
+    }
+
+    /**
+     * Método responsável por construir a árvore a partir de chaves ordenadas e distintas.
+     * Os elementos são repartidos igualmente entre as folhas e os filhos igualmente entre os nós internos,
+     * garantindo a ocupação mínima de todos os nós.
+     * @param keys     Refere-se as chaves em ordem crescente.
+     * @param elements Refere-se aos elementos correspondentes às chaves.
+     */
+    private void build(final ArrayList<Comparable<K>> keys, final ArrayList<E> elements) {
+        clear();
+        final int count = keys.size();
+        if (count > 0) {
+            final int leafCount = (count + fanOut - 2) / (fanOut - 1);
+            ArrayList<Node<K, E>> level = new ArrayList<>(leafCount);
+            Leaf<K, E> previous = null;
+            int begin = 0;
+            for (int i = 0; i < leafCount; i++) {
+                final int end = (int) ((long) count * (i + 1) / leafCount);
+                final Leaf<K, E> leaf = new Leaf<>(fanOut);
+                for (int j = begin; j < end; j++) {
+                    leaf.keys[j - begin] = keys.get(j);
+                    leaf.elements[j - begin] = elements.get(j);
+                }
+                leaf.count = end - begin;
+                leaf.size = leaf.count;
+                leaf.previous = previous;
+                if (previous == null) {
+                    first = leaf;
+                } else {
+                    previous.next = leaf;
+                }
+                previous = leaf;
+                level.add(leaf);
+                begin = end;
+            }
+            last = previous;
+            while (level.size() > 1) {
+                final int parentCount = (level.size() + fanOut - 1) / fanOut;
+                final ArrayList<Node<K, E>> parents = new ArrayList<>(parentCount);
+                begin = 0;
+                for (int i = 0; i < parentCount; i++) {
+                    final int end = (int) ((long) level.size() * (i + 1) / parentCount);
+                    final Inner<K, E> inner = new Inner<>(fanOut);
+                    for (int j = begin; j < end; j++) {
+                        inner.children[j - begin] = level.get(j);
+                        inner.size += level.get(j).size;
+                        if (j > begin) {
+                            inner.keys[j - begin - 1] = firstKey(level.get(j));
+                        }
+                    }
+                    inner.count = end - begin - 1;
+                    parents.add(inner);
+                    begin = end;
+                }
+                level = parents;
+            }
+            root = level.get(0);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer por todos os elementos contidos na árvore.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos na árvore.
+     */
+    @Override
+    public void forEach(final boolean reverse, final Consumer<? super E> element) {
+        if (reverse) {
+            for (Leaf<K, E> leaf = last; leaf != null; leaf = leaf.previous) {
+                for (int i = leaf.count - 1; i >= 0; i--) {
+                    element.accept(leaf.element(i));
+                }
+            }
+        } else {
+            for (Leaf<K, E> leaf = first; leaf != null; leaf = leaf.next) {
+                for (int i = 0; i < leaf.count; i++) {
+                    element.accept(leaf.element(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * A folha de partida é localizada por descida na árvore e o percurso segue pelo encadeamento das folhas.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void forEachInRange(final Comparable<K> from, final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        if (reverse) {
+            Leaf<K, E> leaf = to == null ? last : findLeaf(to);
+            int index = to == null ? leaf.count - 1 : insertionPoint(leaf, to) - 1;
+            while (leaf != null) {
+                for (; index >= 0; index--) {
+                    if (from != null && ((Comparable<K>) leaf.keys[index]).compareTo((K) from) < 0) {
+                        return;
+                    }
+                    element.accept(leaf.element(index));
+                }
+                leaf = leaf.previous;
+                index = leaf == null ? -1 : leaf.count - 1;
+            }
+        } else {
+            Leaf<K, E> leaf = from == null ? first : findLeaf(from);
+            int index = from == null ? 0 : insertionPoint(leaf, from);
+            while (leaf != null) {
+                for (; index < leaf.count; index++) {
+                    if (to != null && ((Comparable<K>) leaf.keys[index]).compareTo((K) to) >= 0) {
+                        return;
+                    }
+                    element.accept(leaf.element(index));
+                }
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void headRange(final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(null, to, reverse, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void tailRange(final Comparable<K> from, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(from, null, reverse, element);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E floor(final Comparable<K> key) throws ElementNotFoundException {
+        Leaf<K, E> leaf = findLeaf(key);
+        final int index = indexOf(leaf, key);
+        if (index >= 0) {
+            return leaf.element(index);
+        }
+        final int position = -(index + 1) - 1;
+        if (position >= 0) {
+            return leaf.element(position);
+        }
+        leaf = leaf.previous;
+        if (leaf == null) {
+            throw new ElementNotFoundException();
+        } else {
+            return leaf.element(leaf.count - 1);
+        }
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E ceiling(final Comparable<K> key) throws ElementNotFoundException {
+        Leaf<K, E> leaf = findLeaf(key);
+        final int position = insertionPoint(leaf, key);
+        if (position < leaf.count) {
+            return leaf.element(position);
+        }
+        leaf = leaf.next;
+        if (leaf == null) {
+            throw new ElementNotFoundException();
+        } else {
+            return leaf.element(0);
+        }
+    }
+
+    /**
+     * Método responsável por retornar iterador dos elementos contidos na árvore.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na árvore.
+     */
+    @Override
+    public Iterator<E> iterator(final boolean reverse) {
+        return new Cursor(reverse);
+    }
+
+    /**
+     * Método responsável por retornar divisor dos elementos contidos na árvore em ordem crescente.
+     * @return Retorna divisor dos elementos contidos na árvore.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Cursor(false);
+    }
+
+    /**
+     * Método responsável por localizar a folha em que dada chave está ou estaria contida.
+     * @param key Refere-se a chave procurada.
+     * @return Retorna folha correspondente à chave.
+     */
+    private Leaf<K, E> findLeaf(final Comparable<K> key) {
+        Node<K, E> currentNode = root;
+        while (currentNode instanceof Inner) {
+            final Inner<K, E> inner = (Inner<K, E>) currentNode;
+            currentNode = inner.children[childIndex(inner, key)];
+        }
+        return (Leaf<K, E>) currentNode;
+    }
+
+    /**
+     * Método responsável por localizar a folha que contém dada posição da ordem crescente das chaves.
+     * @param position Refere-se a posição procurada, substituída pela posição correspondente na folha.
+     * @return Retorna folha que contém a posição.
+     */
+    private Leaf<K, E> findLeafByIndex(final int[] position) {
+        Node<K, E> currentNode = root;
+        while (currentNode instanceof Inner) {
+            final Inner<K, E> inner = (Inner<K, E>) currentNode;
+            int child = 0;
+            while (position[0] >= inner.children[child].size) {
+                position[0] -= inner.children[child].size;
+                child++;
+            }
+            currentNode = inner.children[child];
+        }
+        return (Leaf<K, E>) currentNode;
+    }
+
+    /**
+     * Método responsável por retornar a menor chave de dada subárvore.
+     * @param currentNode Refere-se ao nó raiz da subárvore.
+     * @return Retorna menor chave da subárvore.
+     */
+    private Object firstKey(Node<K, E> currentNode) {
+        while (currentNode instanceof Inner) {
+            currentNode = ((Inner<K, E>) currentNode).children[0];
+        }
+        return currentNode.keys[0];
+    }
+
+    /**
+     * Método responsável por buscar por bisseção a posição de dada chave em dado nó.
+     * @param currentNode Refere-se ao nó da busca.
+     * @param key         Refere-se a chave procurada.
+     * @return Retorna posição da chave, ou (-(ponto de inserção) - 1) se a chave não estiver no nó.
+     */
+    private int indexOf(final Node<K, E> currentNode, final Comparable<K> key) {
+        int low = 0;
+        int high = currentNode.count - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparisonResult = ((Comparable<K>) currentNode.keys[middle]).compareTo((K) key);
+            if (comparisonResult < 0) {
+                low = middle + 1;
+            } else if (comparisonResult > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Método responsável por retornar a posição da primeira chave maior ou igual a dada chave em dado nó.
+     * @param currentNode Refere-se ao nó da busca.
+     * @param key         Refere-se a chave de referência.
+     * @return Retorna posição da primeira chave maior ou igual a chave de referência.
+     */
+    private int insertionPoint(final Node<K, E> currentNode, final Comparable<K> key) {
+        final int index = indexOf(currentNode, key);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /**
+     * Método responsável por retornar a posição do filho de dado nó interno que abrange dada chave.
+     * @param inner Refere-se ao nó interno.
+     * @param key   Refere-se a chave procurada.
+     * @return Retorna posição do filho.
+     */
+    private int childIndex(final Inner<K, E> inner, final Comparable<K> key) {
+        final int index = indexOf(inner, key);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    /**
+     * Método responsável por gravar a árvore em um fluxo de objetos.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException Exceção lançada em caso de problemas no acesso ao fluxo.
+     */
+    private void writeObject(final ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(root.size);
+        for (Leaf<K, E> leaf = first; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                stream.writeObject(leaf.keys[i]);
+                stream.writeObject(leaf.elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por restaurar a árvore a partir de um fluxo de objetos.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException            Exceção lançada em caso de problemas no acesso ao fluxo.
+     * @throws ClassNotFoundException Exceção lançada em caso de não haver uma classe contida no fluxo.
+     */
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        final int count = stream.readInt();
+        final ArrayList<Comparable<K>> keys = new ArrayList<>(count);
+        final ArrayList<E> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add((Comparable<K>) stream.readObject());
+            elements.add((E) stream.readObject());
+        }
+        build(keys, elements);
+    }
+
+    /**
+     * Classe responsável por comportar-se como cursor de percurso pelas folhas encadeadas da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     */
+    private class Cursor implements Iterator<E>, Spliterator<E> {
+        /**
+         * Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private final boolean reverse;
+        /**
+         * Refere-se a folha do próximo elemento.
+         */
+        private Leaf<K, E> leaf;
+        /**
+         * Refere-se a posição do próximo elemento na folha.
+         */
+        private int position;
+        /**
+         * Refere-se a posição do próximo elemento do percurso.
+         */
+        private int index;
+        /**
+         * Refere-se a posição que encerra o percurso.
+         */
+        private final int fence;
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor posicionado no primeiro elemento.
+         * @param reverse Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private Cursor(final boolean reverse) {
+            this.reverse = reverse;
+            this.leaf = reverse ? last : first;
+            this.position = reverse ? leaf.count - 1 : 0;
+            this.index = 0;
+            this.fence = root.size;
+        }
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor que assume parte de outro percurso.
+         * @param cursor Refere-se ao cursor cujo estado é copiado.
+         * @param fence  Refere-se a posição que encerra o percurso.
+         */
+        private Cursor(final Cursor cursor, final int fence) {
+            this.reverse = cursor.reverse;
+            this.leaf = cursor.leaf;
+            this.position = cursor.position;
+            this.index = cursor.index;
+            this.fence = fence;
+        }
+
+        /**
+         * Método responsável por indicar se há elementos a percorrer.
+         * @return Retorna indicativo de que há elementos a percorrer.
+         */
+        @Override
+        public boolean hasNext() {
+            return index < fence;
+        }
+
+        /**
+         * Método responsável por retornar o próximo elemento do percurso.
+         * @return Retorna próximo elemento do percurso.
+         */
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (reverse) {
+                while (position < 0) {
+                    leaf = leaf.previous;
+                    position = leaf.count - 1;
+                }
+                index++;
+                return leaf.element(position--);
+            } else {
+                while (position >= leaf.count) {
+                    leaf = leaf.next;
+                    position = 0;
+                }
+                index++;
+                return leaf.element(position++);
+            }
+        }
+
+        /**
+         * Método responsável por consumir o próximo elemento do percurso, se houver.
+         * @param action Refere-se a ação aplicada ao elemento.
+         * @return Retorna indicativo de que havia elemento a consumir.
+         */
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            if (hasNext()) {
+                action.accept(next());
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        /**
+         * Método responsável por consumir todos os elementos restantes do percurso.
+         * @param action Refere-se a ação aplicada a cada elemento.
+         */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            while (hasNext()) {
+                action.accept(next());
+            }
+        }
+
+        /**
+         * Método responsável por dividir o percurso, cedendo sua primeira metade a um novo cursor.
+         * @return Retorna cursor da primeira metade ou referência nula se não houver o que dividir.
+         */
+        @Override
+        public Spliterator<E> trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (reverse || middle <= index) {
+                return null;
+            } else {
+                final Cursor prefix = new Cursor(this, middle);
+                final int[] target = {middle};
+                leaf = findLeafByIndex(target);
+                position = target[0];
+                index = middle;
+                return prefix;
+            }
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de elementos restantes no percurso.
+         * @return Retorna quantidade de elementos restantes.
+         */
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        /**
+         * Método responsável por retornar as características do percurso.
+         * @return Retorna características do percurso.
+         */
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como nó de árvore B+.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <K> Refere-se ao tipo de chave usada no nó.
+     * @param <E> Refere-se ao tipo de elemento armazenado no nó.
+     */
+    private abstract static class Node<K, E> {
+        /**
+         * Refere-se as chaves do nó, em ordem crescente.
+         */
+        protected final Object[] keys;
+        /**
+         * Refere-se a quantidade de chaves contidas no nó.
+         */
+        protected int count;
+        /**
+         * Refere-se a quantidade de elementos da subárvore cuja raiz é o nó.
+         */
+        protected int size;
+
+        /**
+         * Construtor responsável pelo instanciamento do nó.
+         * @param fanOut Refere-se a ramificação da árvore.
+         */
+        protected Node(final int fanOut) {
+            this.keys = new Object[fanOut];
+            this.count = 0;
+            this.size = 0;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como nó interno de árvore B+.
+     * A chave de posição i separa o filho i, cujas chaves lhe são menores, do filho i + 1.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <K> Refere-se ao tipo de chave usada no nó.
+     * @param <E> Refere-se ao tipo de elemento armazenado no nó.
+     */
+    private static final class Inner<K, E> extends Node<K, E> {
+        /**
+         * Refere-se aos filhos do nó.
+         */
+        private final Node<K, E>[] children;
+
+        /**
+         * Construtor responsável pelo instanciamento do nó interno.
+         * @param fanOut Refere-se a ramificação da árvore.
+         */
+        private Inner(final int fanOut) {
+            super(fanOut);
+            this.children = (Node<K, E>[]) new Node<?, ?>[fanOut + 1];
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como folha de árvore B+.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <K> Refere-se ao tipo de chave usada na folha.
+     * @param <E> Refere-se ao tipo de elemento armazenado na folha.
+     */
+    private static final class Leaf<K, E> extends Node<K, E> {
+        /**
+         * Refere-se aos elementos da folha, correspondentes às chaves.
+         */
+        private final Object[] elements;
+        /**
+         * Refere-se a folha anterior.
+         */
+        private Leaf<K, E> previous;
+        /**
+         * Refere-se a folha seguinte.
+         */
+        private Leaf<K, E> next;
+
+        /**
+         * Construtor responsável pelo instanciamento da folha.
+         * @param fanOut Refere-se a ramificação da árvore.
+         */
+        private Leaf(final int fanOut) {
+            super(fanOut);
+            this.elements = new Object[fanOut];
+            this.previous = null;
+            this.next = null;
+        }
+
+        /**
+         * Método responsável por retornar o elemento de dada posição da folha.
+         * @param index Refere-se a posição do elemento.
+         * @return Retorna elemento da posição.
+         */
+        private E element(final int index) {
+            return (E) elements[index];
+        }
+
+    }
+
+}
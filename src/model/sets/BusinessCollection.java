@@ -21,21 +21,55 @@ package model.sets;
 
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.function.Consumer;
 import model.business.IBusinessEditable;
+import model.business.IBusinessVisible;
 import model.offers.IOfferVisible;
 import model.organizations.IProvider;
 import util.Date;
+import util.IElement;
 
 /**
  * Classe responsável por comportar-se como coleção de negócios.
  * @author Everton Bruno Silva dos Santos
  * @param <T> Refere-se ao tipo de negócio.
  */
-public class BusinessCollection<T> extends Collection<String, T> implements IBusinessCollection<T> {
+public class BusinessCollection<T> extends IndexedCollection<String, T> implements IBusinessCollection<T> {
     /**
      * Refere-se ao número de série da classe.
      */
     private static final long serialVersionUID = -4742459143127158906L;
+    /**
+     * Refere-se ao nome do índice dos negócios por fornecedor.
+     */
+    private static final String PROVIDER_INDEX = "provider";
+    /**
+     * Refere-se ao nome do índice dos negócios por oferta de fornecedor.
+     */
+    private static final String OFFER_INDEX = "offer";
+    /**
+     * Refere-se ao espelho colunar dos negócios, ou referência nula se deve ser reconstruído.
+     */
+    private transient BusinessColumns columns;
+
+    /**
+     * Construtor responsável pelo instanciamento da coleção de negócios.
+     */
+    public BusinessCollection() {
+        super();
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da coleção de negócios sobre dada árvore.
+     * @param tree Refere-se a árvore responsável por organizar os negócios.
+     */
+    public BusinessCollection(final ITree<String, IElement<String>> tree) {
+        super(tree);
+    }
 
     /**
      * Método responsável por alterar o fornecedor do negócio.
@@ -45,234 +79,200 @@ public class BusinessCollection<T> extends Collection<String, T> implements IBus
      */
     @Override
     public void setProvider(final Comparable<String> key, final IProvider provider) throws ElementNotFoundException {
-        try {
-            this.redefineKey(key, provider);
-        } catch (final KeyUsedException ex) {
-            ((IBusinessEditable) ex.getElement()).setAmount(((IBusinessEditable) ex.getElement()).getAmount() 
-                    + ((IBusinessEditable) search(key)).getAmount());
-        }
+        update(key, business -> business.setProvider(provider));
     }
 
     /**
-     * Método responsável por alterar o fornecedor do negócio.
-     * @param key      Refere-se a chave do negócio.
-     * @param provider Refere-se ao novo fornecedor.
+     * Método responsável por alterar a oferta negociada.
+     * @param key   Refere-se a chave do negócio.
+     * @param offer Refere-se a nova oferta.
      * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
      */
-    private void redefineKey(final Comparable<String> key, final IProvider provider)
-            throws ElementNotFoundException, KeyUsedException {
-        final IBusinessEditable businessInCurrentState = (IBusinessEditable) super.search(key);
-        try {
-            final IBusinessEditable businessInNewState = (IBusinessEditable) super.search(
-                    businessInCurrentState.previewKey(provider));
-            if (!businessInCurrentState.equals(businessInNewState)) {
-                throw new KeyUsedException(businessInNewState);
-            } else {
-                redefineKey(businessInCurrentState, provider);
-            }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(businessInCurrentState, provider);
-        }
+    @Override
+    public void setOffer(final Comparable<String> key, final IOfferVisible offer) throws ElementNotFoundException {
+        update(key, business -> business.setOffer(offer));
     }
 
     /**
-     * Método responsável por efetuar a redefinição de fornecedor de um negócio.
-     * @param businessInCurrentState Refere-se ao negócio em seu atual estado.
-     * @param newProvider            Refere-se ao novo fornecedor do negócio.
+     * Método responsável por alterar o valor da oferta negociada.
+     * @param key          Refere-se a chave do negócio.
+     * @param unitaryValue Refere-se ao novo valor da oferta.
      * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
      */
-    private void redefineKey(final IBusinessEditable businessInCurrentState, final IProvider newProvider)
-            throws ElementNotFoundException, KeyUsedException {
-        super.remove(businessInCurrentState.getKey());
-        businessInCurrentState.setProvider(newProvider);
-        super.insert((T) businessInCurrentState);
+    @Override
+    public void setUnitaryValue(final Comparable<String> key, final double unitaryValue) throws ElementNotFoundException {
+        update(key, business -> business.setUnitaryValue(unitaryValue));
     }
 
     /**
-     * Método responsável por alterar a oferta negociada.
-     * @param key   Refere-se a chave do negócio.
-     * @param offer Refere-se a nova oferta.
+     * Método responsável por alterar a quantidade da oferta negociada.
+     * @param key    Refere-se a chave do negócio.
+     * @param amount Refere-se a nova quantidade da oferta.
      * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
      */
     @Override
-    public void setOffer(final Comparable<String> key, final IOfferVisible offer) throws ElementNotFoundException {
-        try {
-            this.redefineKey(key, offer);
-        } catch (final KeyUsedException ex) {
-            ((IBusinessEditable) ex.getElement()).setAmount(((IBusinessEditable) ex.getElement()).getAmount() 
-                    + ((IBusinessEditable) search(key)).getAmount());
-        }
+    public void setAmount(final Comparable<String> key, final int amount) throws ElementNotFoundException {
+        ((IBusinessEditable) super.search(key)).setAmount(amount);
+        modified();
     }
 
     /**
-     * Método responsável por alterar a oferta negociada.
-     * @param key   Refere-se a chave do negócio.
-     * @param offer Refere-se a nova oferta.
+     * Método responsável por alterar a data do negócio.
+     * @param key  Refere-se a chave do negócio.
+     * @param date Refere-se a nova data do negócio.
      * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
      */
-    private void redefineKey(final Comparable<String> key, final IOfferVisible offer)
-            throws ElementNotFoundException, KeyUsedException {
-        final IBusinessEditable businessInCurrentState = (IBusinessEditable) super.search(key);
-        try {
-            final IBusinessEditable businessInNewState = (IBusinessEditable) super.search(
-                    businessInCurrentState.previewKey(offer));
-            if (!businessInCurrentState.equals(businessInNewState)) {
-                throw new KeyUsedException(businessInNewState);
-            } else {
-                redefineKey(businessInCurrentState, offer);
-            }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(businessInCurrentState, offer);
-        }
+    @Override
+    public void setDate(final Comparable<String> key, final Date date) throws ElementNotFoundException {
+        update(key, business -> business.setDate(date));
     }
 
     /**
-     * Método responsável por efetuar a redefinição de oferta de um negócio.
-     * @param businessInCurrentState Refere-se ao negócio em seu atual estado.
-     * @param newOffer               Refere-se a nova oferta do negócio.
+     * Método responsável por aplicar dadas alterações a um negócio de uma só vez, reposicionando-o na coleção
+     * uma única vez conforme sua chave final. Se esta estiver em uso por outro negócio, as quantidades de ambos
+     * são somadas neste.
+     * @param key     Refere-se a chave do negócio.
+     * @param changes Refere-se as alterações aplicadas ao negócio.
+     * @return Retorna negócio que passou a ocupar a chave final.
      * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
      */
-    private void redefineKey(final IBusinessEditable businessInCurrentState, final IOfferVisible newOffer)
-            throws ElementNotFoundException, KeyUsedException {
-        super.remove(businessInCurrentState.getKey());
-        businessInCurrentState.setOffer(newOffer);
-        super.insert((T) businessInCurrentState);
+    @Override
+    public T update(final Comparable<String> key, final Consumer<? super IBusinessEditable> changes)
+            throws ElementNotFoundException {
+        return rekey(key, business -> changes.accept((IBusinessEditable) business), BusinessCollection::sumAmounts);
+    }
+
+    /**
+     * Método responsável por inserir dado negócio na coleção.
+     * Se a chave do negócio estiver em uso, sua quantidade é somada ao negócio existente.
+     * @param newElement Refere-se ao elemento.
+     */
+    @Override
+    public void insert(final T newElement) {
+        merge(newElement, BusinessCollection::sumAmounts);
     }
 
     /**
-     * Método responsável por alterar o valor da oferta negociada.
-     * @param key          Refere-se a chave do negócio.
-     * @param unitaryValue Refere-se ao novo valor da oferta.
-     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
+     * Método responsável por inserir dados negócios na coleção de uma só vez.
+     * Negócios de chave repetida têm suas quantidades somadas, como na inserção individual.
+     * @param elements Refere-se aos negócios.
      */
     @Override
-    public void setUnitaryValue(final Comparable<String> key, final double unitaryValue) throws ElementNotFoundException {
+    public void insertAll(final Iterable<? extends T> elements) {
         try {
-            this.redefineKey(key, unitaryValue);
+            super.insertAll(elements, BusinessCollection::sumAmounts);
         } catch (final KeyUsedException ex) {
-            ((IBusinessEditable) ex.getElement()).setAmount(((IBusinessEditable) ex.getElement()).getAmount() 
-                    + ((IBusinessEditable) search(key)).getAmount());
+            throw new IllegalStateException(ex);
         }
     }
 
     /**
-     * Método responsável por alterar o valor da oferta negociada.
-     * @param key          Refere-se a chave do negócio.
-     * @param unitaryValue Refere-se ao novo valor unitário do negócio.
-     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
+     * Método responsável por reposicionar de uma só vez os negócios de dado fornecedor após sua alteração,
+     * transferindo-os a outro fornecedor se este for distinto. As novas chaves são calculadas, os negócios
+     * de chave repetida têm suas quantidades somadas e a coleção é reconstruída em uma única passagem.
+     * @param oldProvider Refere-se ao fornecedor cujos negócios são reposicionados.
+     * @param newProvider Refere-se ao fornecedor que passa a constar nos negócios.
+     * @return Retorna indicativo de que algum negócio foi reposicionado.
      */
-    private void redefineKey(final Comparable<String> key, final double unitaryValue)
-            throws ElementNotFoundException, KeyUsedException {
-        final IBusinessEditable businessInCurrentState = (IBusinessEditable) super.search(key);
+    @Override
+    public boolean rekeyAllForProvider(final IProvider oldProvider, final IProvider newProvider) {
         try {
-            final IBusinessEditable businessInNewState = (IBusinessEditable) super.search(
-                    businessInCurrentState.previewKey(unitaryValue));
-            if (!businessInCurrentState.equals(businessInNewState)) {
-                throw new KeyUsedException(businessInNewState);
-            } else {
-                redefineKey(businessInCurrentState, unitaryValue);
-            }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(businessInCurrentState, unitaryValue);
+            return rekeyAll(business -> ((IBusinessVisible) business).getProvider() == oldProvider, business -> {
+                if (oldProvider != newProvider) {
+                    ((IBusinessEditable) business).setProvider(newProvider);
+                }
+            }, BusinessCollection::sumAmounts);
+        } catch (final KeyUsedException ex) {
+            throw new IllegalStateException(ex);
         }
     }
 
     /**
-     * Método responsável por alterar o valor da oferta negociada.
-     * @param businessInCurrentState Refere-se ao negócio em seu atual estado.
-     * @param unitaryValue           Refere-se ao novo valor unitário do negócio.
-     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
+     * Método responsável por percorrer pelos negócios de dado fornecedor, sem ordem definida.
+     * O custo é proporcional à quantidade de negócios do fornecedor, e não ao tamanho da coleção.
+     * A coleção não deve ser alterada durante o percurso.
+     * @param provider Refere-se ao fornecedor.
+     * @param element  Refere-se aos negócios do fornecedor.
      */
-    private void redefineKey(final IBusinessEditable businessInCurrentState, final double unitaryValue)
-            throws ElementNotFoundException, KeyUsedException {
-        super.remove(businessInCurrentState.getKey());
-        businessInCurrentState.setUnitaryValue(unitaryValue);
-        super.insert((T) businessInCurrentState);
+    @Override
+    public void forEachByProvider(final IProvider provider, final Consumer<? super T> element) {
+        forEachByIndex(PROVIDER_INDEX, provider, element);
     }
 
     /**
-     * Método responsável por alterar a quantidade da oferta negociada.
-     * @param key    Refere-se a chave do negócio.
-     * @param amount Refere-se a nova quantidade da oferta.
-     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
+     * Método responsável por percorrer pelos negócios de dada oferta de dado fornecedor, sem ordem definida.
+     * O custo é proporcional à quantidade de negócios da oferta, e não ao tamanho da coleção.
+     * A coleção não deve ser alterada durante o percurso.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @param element  Refere-se aos negócios da oferta.
      */
     @Override
-    public void setAmount(final Comparable<String> key, final int amount) throws ElementNotFoundException {
-        ((IBusinessEditable) super.search(key)).setAmount(amount);
+    public void forEachByOffer(final IProvider provider, final IOfferVisible offer, final Consumer<? super T> element) {
+        forEachByIndex(OFFER_INDEX, Arrays.asList(provider, offer.getKey()), element);
     }
 
     /**
-     * Método responsável por alterar a data do negócio.
-     * @param key  Refere-se a chave do negócio.
-     * @param date Refere-se a nova data do negócio.
-     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
+     * Método responsável por retornar o espelho colunar dos negócios, voltado a análises.
+     * O espelho é construído no primeiro uso e reaproveitado até a próxima alteração da coleção.
+     * @return Retorna espelho colunar dos negócios.
      */
     @Override
-    public void setDate(final Comparable<String> key, final Date date) throws ElementNotFoundException {
-        try {
-            this.redefineKey(key, date);
-        } catch (final KeyUsedException ex) {
-            ((IBusinessEditable) ex.getElement()).setAmount(((IBusinessEditable) ex.getElement()).getAmount() 
-                    + ((IBusinessEditable) search(key)).getAmount());
+    public BusinessColumns getColumns() {
+        if (columns == null) {
+            columns = new BusinessColumns(this);
         }
+        return columns;
     }
 
     /**
-     * Método responsável por alterar a data do negócio.
-     * @param key  Refere-se a chave do negócio.
-     * @param date Refere-se a nova data do negócio.
-     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
+     * Método responsável por descartar o espelho colunar após cada alteração da coleção.
      */
-    private void redefineKey(final Comparable<String> key, final Date date)
-            throws ElementNotFoundException, KeyUsedException {
-        final IBusinessEditable businessInCurrentState = (IBusinessEditable) super.search(key);
-        try {
-            final IBusinessEditable businessInNewState = (IBusinessEditable) super.search(
-                    businessInCurrentState.previewKey(date));
-            if (!businessInCurrentState.equals(businessInNewState)) {
-                throw new KeyUsedException(businessInNewState);
-            } else {
-                redefineKey(businessInCurrentState, date);
-            }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(businessInCurrentState, date);
-        }
+    @Override
+    protected void modified() {
+        columns = null;
     }
 
     /**
-     * Método responsável por alterar a data do negócio.
-     * @param key  Refere-se a chave do negócio.
-     * @param date Refere-se a nova data do negócio.
-     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outro negócio.
+     * Método responsável por declarar os índices por fornecedor e por oferta de fornecedor.
+     * Fornecedores são comparados por identidade, pois suas chaves mudam quando editados.
      */
-    private void redefineKey(final IBusinessEditable businessInCurrentState, final Date date)
-            throws ElementNotFoundException, KeyUsedException {
-        super.remove(businessInCurrentState.getKey());
-        businessInCurrentState.setDate(date);
-        super.insert((T) businessInCurrentState);
+    @Override
+    protected void declareIndexes() {
+        addIndex(PROVIDER_INDEX, business -> ((IBusinessVisible) business).getProvider(), false, false);
+        addIndex(OFFER_INDEX, business -> {
+            final IBusinessVisible visible = (IBusinessVisible) business;
+            return Arrays.asList(visible.getProvider(), visible.getOffer().getKey());
+        }, false, false);
     }
 
     /**
-     * Método responsável por inserir dado negócio na coleção.
-     * @param newElement Refere-se ao elemento.
+     * Método responsável por somar a quantidade de um negócio a outro negócio equivalente.
+     * @param <T>          Refere-se ao tipo de negócio.
+     * @param myElement    Refere-se ao negócio contido na coleção.
+     * @param addedElement Refere-se ao negócio equivalente.
+     * @return Retorna negócio contido na coleção, com quantidade somada.
      */
-    @Override
-    public void insert(final T newElement) {
+    private static <T> T sumAmounts(final T myElement, final T addedElement) {
+        final IBusinessEditable business = (IBusinessEditable) myElement;
+        business.setAmount(business.getAmount() + ((IBusinessEditable) addedElement).getAmount());
+        return myElement;
+    }
+
+    /**
+     * Método responsável por restaurar a coleção a partir de um fluxo de objetos.
+     * As chaves são recalculadas a partir dos negócios, pois registros antigos as gravavam como texto.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException            Exceção lançada em caso de problemas no acesso ao fluxo.
+     * @throws ClassNotFoundException Exceção lançada em caso de não haver uma classe contida no fluxo.
+     */
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
         try {
-            super.insert(newElement);
+            rebuildKeys();
         } catch (final KeyUsedException ex) {
-            final IBusinessEditable myElement = (IBusinessEditable) ex.getElement();
-            myElement.setAmount(myElement.getAmount() + ((IBusinessEditable) newElement).getAmount());
-
+            throw new InvalidObjectException(ex.getElement().toString());
         }
     }
 
-}
\ No newline at end of file
+}
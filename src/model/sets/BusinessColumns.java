@@ -0,0 +1,411 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import model.business.IBusinessVisible;
+import model.offers.IOfferVisible;
+import model.organizations.IProvider;
+import util.IDateVisible;
+
+/**
+ * Classe responsável por comportar-se como espelho colunar de uma coleção de negócios, voltado a análises.
+ * Cada negócio ocupa uma linha distribuída em vetores primitivos: data no formato aaaammdd, identificadores
+ * de fornecedor e de oferta em dicionários, quantidade e valor unitário em centavos. As linhas ficam em ordem
+ * crescente de data, de modo que totais por período são obtidos em uma única passagem sem criar objetos.
+ * O espelho reflete a coleção no momento de sua construção e não acompanha alterações posteriores; a coleção de
+ * negócios guarda o seu e o descarta a cada alteração, conforme {@link IBusinessCollection#getColumns()}.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class BusinessColumns {
+    /**
+     * Refere-se ao divisor que agrupa datas aaaammdd por dia.
+     */
+    public static final int DAY = 1;
+    /**
+     * Refere-se ao divisor que agrupa datas aaaammdd por mês.
+     */
+    public static final int MONTH = 100;
+    /**
+     * Refere-se ao divisor que agrupa datas aaaammdd por ano.
+     */
+    public static final int YEAR = 10000;
+    /**
+     * Refere-se a quantidade de linhas.
+     */
+    private final int size;
+    /**
+     * Refere-se as datas das linhas no formato aaaammdd.
+     */
+    private final int[] dates;
+    /**
+     * Refere-se aos identificadores de fornecedor das linhas.
+     */
+    private final int[] providers;
+    /**
+     * Refere-se aos identificadores de oferta das linhas.
+     */
+    private final int[] offers;
+    /**
+     * Refere-se as quantidades das linhas.
+     */
+    private final int[] amounts;
+    /**
+     * Refere-se aos valores unitários das linhas em centavos.
+     */
+    private final long[] unitaryCents;
+    /**
+     * Refere-se ao dicionário de fornecedores, indexado por identificador.
+     */
+    private final ArrayList<IProvider> providerDictionary;
+    /**
+     * Refere-se ao dicionário de ofertas, indexado por identificador.
+     */
+    private final ArrayList<IOfferVisible> offerDictionary;
+    /**
+     * Refere-se aos identificadores dos fornecedores, que são comparados por identidade.
+     */
+    private final IdentityHashMap<IProvider, Integer> providerIds;
+    /**
+     * Refere-se aos identificadores das ofertas, por fornecedor e chave de oferta.
+     */
+    private final ArrayList<HashMap<Comparable<String>, Integer>> offerIds;
+
+    /**
+     * Construtor responsável pelo instanciamento do espelho colunar de dada coleção de negócios.
+     * @param collection Refere-se a coleção de negócios.
+     */
+    public BusinessColumns(final ICollection<String, ?> collection) {
+        this(collection.size(), element -> collection.forEach(false, element));
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do espelho colunar dos negócios de dada coleção cujas chaves
+     * pertencem a dado intervalo. Apenas o intervalo é percorrido, de modo que o espelho de um período custa
+     * proporcionalmente aos negócios do período, e não ao tamanho da coleção.
+     * @param collection Refere-se a coleção de negócios.
+     * @param from       Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to         Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     */
+    public BusinessColumns(final ICollection<String, ?> collection, final Comparable<String> from, final Comparable<String> to) {
+        this(count(collection, from, to), element -> collection.forEachInRange(from, to, false, element));
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do espelho colunar de dados negócios.
+     * @param size     Refere-se a quantidade de negócios.
+     * @param elements Refere-se ao percurso pelos negócios, em ordem de chave.
+     */
+    private BusinessColumns(final int size, final Consumer<Consumer<Object>> elements) {
+        this.size = size;
+        dates = new int[size];
+        providers = new int[size];
+        offers = new int[size];
+        amounts = new int[size];
+        unitaryCents = new long[size];
+        providerDictionary = new ArrayList<>();
+        offerDictionary = new ArrayList<>();
+        providerIds = new IdentityHashMap<>();
+        offerIds = new ArrayList<>();
+        final int[] row = {0};
+        final boolean[] sorted = {true};
+        elements.accept(element -> {
+            final IBusinessVisible business = (IBusinessVisible) element;
+            final IDateVisible date = business.getDate();
+            final int i = row[0]++;
+            dates[i] = date.getYear() * YEAR + date.getMonth() * MONTH + date.getDay();
+            providers[i] = encode(business.getProvider());
+            offers[i] = encode(providers[i], business.getOffer());
+            amounts[i] = business.getAmount();
+            unitaryCents[i] = Math.round(business.getOffer().getValue() * 100);
+            sorted[0] = sorted[0] && (i == 0 || dates[i - 1] <= dates[i]);
+        });
+        if (!sorted[0]) {
+            sortByDate();
+        }
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de linhas.
+     * @return Retorna quantidade de linhas.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Método responsável por retornar a data de dada linha.
+     * @param row Refere-se a linha.
+     * @return Retorna data no formato aaaammdd.
+     */
+    public int getDate(final int row) {
+        return dates[check(row)];
+    }
+
+    /**
+     * Método responsável por retornar o identificador de fornecedor de dada linha.
+     * @param row Refere-se a linha.
+     * @return Retorna identificador do fornecedor.
+     */
+    public int getProviderId(final int row) {
+        return providers[check(row)];
+    }
+
+    /**
+     * Método responsável por retornar o identificador de oferta de dada linha.
+     * @param row Refere-se a linha.
+     * @return Retorna identificador da oferta.
+     */
+    public int getOfferId(final int row) {
+        return offers[check(row)];
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de dada linha.
+     * @param row Refere-se a linha.
+     * @return Retorna quantidade.
+     */
+    public int getAmount(final int row) {
+        return amounts[check(row)];
+    }
+
+    /**
+     * Método responsável por retornar o valor unitário de dada linha em centavos.
+     * @param row Refere-se a linha.
+     * @return Retorna valor unitário em centavos.
+     */
+    public long getUnitaryCents(final int row) {
+        return unitaryCents[check(row)];
+    }
+
+    /**
+     * Método responsável por retornar o valor total de dada linha em centavos.
+     * @param row Refere-se a linha.
+     * @return Retorna valor total em centavos.
+     */
+    public long getTotalCents(final int row) {
+        return amounts[check(row)] * unitaryCents[row];
+    }
+
+    /**
+     * Método responsável por retornar o fornecedor de dado identificador.
+     * @param id Refere-se ao identificador.
+     * @return Retorna fornecedor.
+     */
+    public IProvider getProvider(final int id) {
+        return providerDictionary.get(id);
+    }
+
+    /**
+     * Método responsável por retornar a oferta de dado identificador.
+     * @param id Refere-se ao identificador.
+     * @return Retorna oferta.
+     */
+    public IOfferVisible getOffer(final int id) {
+        return offerDictionary.get(id);
+    }
+
+    /**
+     * Método responsável por retornar o identificador de dado fornecedor.
+     * @param provider Refere-se ao fornecedor.
+     * @return Retorna identificador do fornecedor, ou valor negativo se não constar em linha alguma.
+     */
+    public int providerId(final IProvider provider) {
+        final Integer id = providerIds.get(provider);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Método responsável por retornar o identificador de dada oferta de dado fornecedor.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @return Retorna identificador da oferta, ou valor negativo se não constar em linha alguma.
+     */
+    public int offerId(final IProvider provider, final IOfferVisible offer) {
+        final int providerId = providerId(provider);
+        final Integer id = providerId < 0 ? null : offerIds.get(providerId).get(offer.getKey());
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Método responsável por somar o valor total, em centavos, das linhas que satisfazem dado critério.
+     * @param filter Refere-se ao critério, aplicado ao número da linha.
+     * @return Retorna soma dos valores totais em centavos.
+     */
+    public long totalCents(final IntPredicate filter) {
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            if (filter.test(row)) {
+                total += amounts[row] * unitaryCents[row];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Método responsável por somar o valor total, em centavos, das linhas de dado fornecedor.
+     * @param provider Refere-se ao fornecedor.
+     * @return Retorna soma dos valores totais em centavos.
+     */
+    public long totalCents(final IProvider provider) {
+        final int id = providerId(provider);
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            if (providers[row] == id) {
+                total += amounts[row] * unitaryCents[row];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Método responsável por percorrer pelos totais de cada período, em uma única passagem pelas linhas.
+     * @param divisor Refere-se ao divisor que agrupa as datas: {@link #DAY}, {@link #MONTH} ou {@link #YEAR}.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param period  Refere-se aos totais de cada período.
+     */
+    public void forEachPeriod(final int divisor, final boolean reverse, final IPeriodTotals period) {
+        final int step = reverse ? -1 : 1;
+        int row = reverse ? size - 1 : 0;
+        while (row >= 0 && row < size) {
+            final int currentPeriod = dates[row] / divisor;
+            long positiveCents = 0;
+            long negativeCents = 0;
+            do {
+                final long totalCents = amounts[row] * unitaryCents[row];
+                if (totalCents > 0) {
+                    positiveCents += totalCents;
+                } else {
+                    negativeCents += totalCents;
+                }
+                row += step;
+            } while (row >= 0 && row < size && dates[row] / divisor == currentPeriod);
+            period.accept(currentPeriod, positiveCents, negativeCents);
+        }
+    }
+
+    /**
+     * Método responsável por contar os negócios de dada coleção cujas chaves pertencem a dado intervalo.
+     * @param collection Refere-se a coleção de negócios.
+     * @param from       Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to         Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @return Retorna quantidade de negócios do intervalo.
+     */
+    private static int count(final ICollection<String, ?> collection, final Comparable<String> from, final Comparable<String> to) {
+        final int[] counter = {0};
+        collection.forEachInRange(from, to, false, element -> counter[0]++);
+        return counter[0];
+    }
+
+    /**
+     * Método responsável por obter o identificador de dado fornecedor, incluindo-o no dicionário se preciso.
+     * @param provider Refere-se ao fornecedor.
+     * @return Retorna identificador do fornecedor.
+     */
+    private int encode(final IProvider provider) {
+        return providerIds.computeIfAbsent(provider, newProvider -> {
+            providerDictionary.add(newProvider);
+            offerIds.add(new HashMap<>());
+            return providerDictionary.size() - 1;
+        });
+    }
+
+    /**
+     * Método responsável por obter o identificador de dada oferta, incluindo-a no dicionário se preciso.
+     * @param providerId Refere-se ao identificador do fornecedor da oferta.
+     * @param offer      Refere-se a oferta.
+     * @return Retorna identificador da oferta.
+     */
+    private int encode(final int providerId, final IOfferVisible offer) {
+        return offerIds.get(providerId).computeIfAbsent(offer.getKey(), key -> {
+            offerDictionary.add(offer);
+            return offerDictionary.size() - 1;
+        });
+    }
+
+    /**
+     * Método responsável por ordenar as linhas por data, mantendo a ordem relativa das linhas de mesma data.
+     * Só é necessário quando a coleção não é ordenada primeiro por data.
+     */
+    private void sortByDate() {
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (rowOne, rowTwo) -> Integer.compare(dates[rowOne], dates[rowTwo]));
+        permute(dates, order);
+        permute(providers, order);
+        permute(offers, order);
+        permute(amounts, order);
+        final long[] sortedCents = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedCents[i] = unitaryCents[order[i]];
+        }
+        System.arraycopy(sortedCents, 0, unitaryCents, 0, size);
+    }
+
+    /**
+     * Método responsável por reordenar dada coluna conforme dada ordem de linhas.
+     * @param column Refere-se a coluna.
+     * @param order  Refere-se a ordem das linhas.
+     */
+    private void permute(final int[] column, final Integer[] order) {
+        final int[] sortedColumn = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedColumn[i] = column[order[i]];
+        }
+        System.arraycopy(sortedColumn, 0, column, 0, size);
+    }
+
+    /**
+     * Método responsável por verificar se dada linha existe.
+     * @param row Refere-se a linha.
+     * @return Retorna a própria linha.
+     * @throws IndexOutOfBoundsException Exceção lançada no caso da linha não existir.
+     */
+    private int check(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(Integer.toString(row));
+        }
+        return row;
+    }
+
+    /**
+     * Interface responsável por receber os totais de um período.
+     */
+    @FunctionalInterface
+    public interface IPeriodTotals {
+
+        /**
+         * Método responsável por receber os totais de um período.
+         * @param period        Refere-se ao período, que é a data aaaammdd dividida pelo divisor do agrupamento.
+         * @param positiveCents Refere-se a soma dos valores positivos em centavos.
+         * @param negativeCents Refere-se a soma dos valores negativos em centavos.
+         */
+        public void accept(int period, long positiveCents, long negativeCents);
+
+    }
+
+}
@@ -22,7 +22,15 @@ package model.sets;
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
 import exceptions.NullObjectException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import util.IElement;
 
 /**
@@ -48,6 +56,14 @@ public class Collection<K, E> implements ICollection<K, E> {
         this.tree = new Tree<>();
     }
 
+    /**
+     * Construtor responsável pelo instanciamento da coleção sobre dada árvore.
+     * @param tree Refere-se a árvore responsável por organizar os elementos.
+     */
+    public Collection(final ITree<K, IElement<K>> tree) {
+        this.tree = tree;
+    }
+
     /**
      * Método responsável por retornar a quantidade de elementos contidos na coleção.
      * @return Retorna quantidade de elementos contidos na coleção.
@@ -95,6 +111,219 @@ public class Collection<K, E> implements ICollection<K, E> {
         tree.insert(e.getKey(), e);
     }
 
+    /**
+     * Método responsável por inserir dados elementos na coleção de uma só vez.
+     * Os elementos são ordenados por chave e intercalados aos já contidos na coleção em uma única passagem.
+     * @param elements Refere-se aos elementos.
+     * @throws KeyUsedException Exceção lançada no caso da chave de algum elemento estar em uso.
+     */
+    @Override
+    public void insertAll(final Iterable<? extends E> elements) throws KeyUsedException {
+        insertAll(elements, null);
+    }
+
+    /**
+     * Método responsável por inserir dados elementos na coleção de uma só vez, combinando os de chave repetida.
+     * Lotes grandes em relação à coleção são ordenados por chave, intercalados aos elementos contidos na coleção
+     * e reconstruídos em tempo linear. Lotes pequenos são inseridos um a um.
+     * @param elements  Refere-se aos elementos.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento,
+     *                  ou referência nula para que chaves repetidas sejam recusadas.
+     * @throws KeyUsedException Exceção lançada no caso de chave repetida sem função de combinação.
+     */
+    protected void insertAll(final Iterable<? extends E> elements,
+            final BiFunction<? super E, ? super E, ? extends E> remapping) throws KeyUsedException {
+        final ArrayList<IElement<K>> batch = new ArrayList<>();
+        elements.forEach(element -> {
+            batch.add((IElement<K>) element);
+        });
+        if (!isLargeBatch(batch.size())) {
+            for (final IElement<K> element : batch) {
+                if (remapping == null) {
+                    tree.insert(element.getKey(), element);
+                } else {
+                    tree.merge(element.getKey(), element, (myElement, newElement) -> {
+                        return (IElement<K>) remapping.apply((E) myElement, (E) newElement);
+                    });
+                }
+            }
+        } else {
+            final ArrayList<Entry<K>> entries = new ArrayList<>(batch.size());
+            for (final IElement<K> element : batch) {
+                entries.add(new Entry<>(element));
+            }
+            entries.sort(null);
+            tree.buildFromSorted(merge(tree.iterator(false), tree.size(), entries, remapping).iterator(), IElement::getKey);
+        }
+    }
+
+    /**
+     * Método responsável por indicar se um lote de dado tamanho é grande em relação à coleção, caso em que
+     * reconstruí-la em uma única passagem custa menos do que alterá-la elemento a elemento.
+     * @param count Refere-se ao tamanho do lote.
+     * @return Retorna indicativo de que o lote é grande.
+     */
+    protected final boolean isLargeBatch(final int count) {
+        return (long) count * (32 - Integer.numberOfLeadingZeros(tree.size())) >= tree.size();
+    }
+
+    /**
+     * Método responsável por aplicar dada alteração aos elementos que satisfazem dado critério e reposicioná-los
+     * conforme suas novas chaves em uma única reconstrução da coleção, combinando os de chave repetida.
+     * O critério é avaliado em ordem, sem consultar as chaves, que podem já estar desatualizadas.
+     * @param filter    Refere-se ao critério que seleciona os elementos alterados.
+     * @param change    Refere-se a alteração aplicada aos elementos selecionados.
+     * @param remapping Refere-se a função que combina o elemento existente ao elemento alterado,
+     *                  ou referência nula para que chaves repetidas sejam recusadas.
+     * @return Retorna indicativo de que algum elemento foi selecionado.
+     * @throws KeyUsedException Exceção lançada no caso de chave repetida sem função de combinação,
+     *                          caso em que a coleção não é reconstruída.
+     */
+    protected boolean rekeyAll(final Predicate<? super E> filter, final Consumer<? super E> change,
+            final BiFunction<? super E, ? super E, ? extends E> remapping) throws KeyUsedException {
+        final ArrayList<IElement<K>> others = new ArrayList<>(tree.size());
+        final ArrayList<IElement<K>> batch = new ArrayList<>();
+        tree.forEach(false, element -> {
+            (filter.test((E) element) ? batch : others).add(element);
+        });
+        if (batch.isEmpty()) {
+            return false;
+        }
+        final ArrayList<Entry<K>> entries = new ArrayList<>(batch.size());
+        for (final IElement<K> element : batch) {
+            change.accept((E) element);
+            entries.add(new Entry<>(element));
+        }
+        entries.sort(null);
+        tree.buildFromSorted(merge(others.iterator(), others.size(), entries, remapping).iterator(), IElement::getKey);
+        return true;
+    }
+
+    /**
+     * Método responsável por intercalar dado lote ordenado a dados elementos ordenados.
+     * @param current   Refere-se aos elementos em ordem crescente de chave.
+     * @param size      Refere-se a quantidade de elementos.
+     * @param entries   Refere-se ao lote de elementos em ordem crescente de chave.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento,
+     *                  ou referência nula para que chaves repetidas sejam recusadas.
+     * @return Retorna todos os elementos em ordem crescente de chave, sem chaves repetidas.
+     * @throws KeyUsedException Exceção lançada no caso de chave repetida sem função de combinação.
+     */
+    private ArrayList<IElement<K>> merge(final Iterator<IElement<K>> current, final int size, final ArrayList<Entry<K>> entries,
+            final BiFunction<? super E, ? super E, ? extends E> remapping) throws KeyUsedException {
+        final ArrayList<IElement<K>> merged = new ArrayList<>(size + entries.size());
+        IElement<K> next = current.hasNext() ? current.next() : null;
+        Comparable<K> nextKey = next == null ? null : next.getKey();
+        Comparable<K> lastKey = null;
+        for (final Entry<K> entry : entries) {
+            int comparisonResult = next == null ? 1 : nextKey.compareTo((K) entry.key);
+            while (comparisonResult < 0) {
+                merged.add(next);
+                lastKey = nextKey;
+                next = current.hasNext() ? current.next() : null;
+                nextKey = next == null ? null : next.getKey();
+                comparisonResult = next == null ? 1 : nextKey.compareTo((K) entry.key);
+            }
+            if (comparisonResult == 0) {
+                next = combine(next, entry.element, remapping);
+            } else if (lastKey != null && lastKey.compareTo((K) entry.key) == 0) {
+                merged.set(merged.size() - 1, combine(merged.get(merged.size() - 1), entry.element, remapping));
+            } else {
+                merged.add(entry.element);
+                lastKey = entry.key;
+            }
+        }
+        while (next != null) {
+            merged.add(next);
+            next = current.hasNext() ? current.next() : null;
+        }
+        return merged;
+    }
+
+    /**
+     * Método responsável por combinar dois elementos de mesma chave.
+     * @param myElement  Refere-se ao elemento existente.
+     * @param newElement Refere-se ao novo elemento.
+     * @param remapping  Refere-se a função que combina os elementos, ou referência nula para recusá-los.
+     * @return Retorna elemento combinado.
+     * @throws KeyUsedException Exceção lançada no caso de não haver função de combinação.
+     */
+    private IElement<K> combine(final IElement<K> myElement, final IElement<K> newElement,
+            final BiFunction<? super E, ? super E, ? extends E> remapping) throws KeyUsedException {
+        if (remapping == null) {
+            throw new KeyUsedException(myElement);
+        } else {
+            return (IElement<K>) remapping.apply((E) myElement, (E) newElement);
+        }
+    }
+
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        return tree.removeIf(element -> filter.test((E) element));
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em uma única descida na coleção.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    @Override
+    public E compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping) {
+        return (E) tree.compute(key, currentElement -> (IElement<K>) remapping.apply((E) currentElement));
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na coleção ou, se sua chave estiver em uso,
+     * combiná-lo ao elemento existente, sem lançar exceção.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    @Override
+    public E merge(final E element, final BiFunction<? super E, ? super E, ? extends E> remapping) {
+        final IElement<K> e = (IElement<K>) element;
+        return (E) tree.merge(e.getKey(), e, (currentElement, newElement) -> {
+            return (IElement<K>) remapping.apply((E) currentElement, (E) newElement);
+        });
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na coleção somente se sua chave estiver livre, sem lançar exceção.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    @Override
+    public E putIfAbsent(final E element) {
+        final IElement<K> e = (IElement<K>) element;
+        return (E) tree.putIfAbsent(e.getKey(), e);
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da coleção por dados elementos.
+     * Se os elementos já estiverem em ordem crescente de chave, a construção ocorre em tempo linear.
+     * @param elements Refere-se aos elementos.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    @Override
+    public void buildFromSorted(final Iterator<? extends E> elements) throws KeyUsedException {
+        tree.buildFromSorted((Iterator<? extends IElement<K>>) elements, IElement::getKey);
+    }
+
+    /**
+     * Método responsável por reorganizar a coleção conforme as chaves atuais de seus elementos.
+     * Usado quando a forma das chaves muda, como na leitura de registros gravados com chaves antigas.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos passarem a possuir a mesma chave.
+     */
+    protected void rebuildKeys() throws KeyUsedException {
+        tree.buildFromSorted(tree.iterator(false), IElement::getKey);
+    }
+
     /**
      * Método responsável por percorrer por todos os elementos contidos na coleção.
      * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
@@ -118,6 +347,28 @@ public class Collection<K, E> implements ICollection<K, E> {
         return (E) tree.search(key);
     }
 
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public int rank(final Comparable<K> key) throws ElementNotFoundException {
+        return tree.rank(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não ser ocupada por nenhum elemento.
+     */
+    @Override
+    public E select(final int index) throws ElementNotFoundException {
+        return (E) tree.select(index);
+    }
+
     /**
      * Método responsável por remover dado elemento que está contido na coleção.
      * @param key Refere-se a chave do elemento.
@@ -128,6 +379,145 @@ public class Collection<K, E> implements ICollection<K, E> {
         tree.remove(key);
     }
 
+    /**
+     * Método responsável por remover da coleção os elementos de dadas chaves de uma só vez.
+     * Lotes grandes em relação à coleção são ordenados e confrontados com os elementos da coleção em uma única
+     * passagem, seguida de uma única reconstrução. Lotes pequenos são removidos um a um.
+     * @param keys Refere-se as chaves dos elementos.
+     * @return Retorna quantidade de elementos removidos.
+     */
+    @Override
+    public int removeAll(final Iterable<? extends Comparable<K>> keys) {
+        final ArrayList<Comparable<K>> batch = new ArrayList<>();
+        keys.forEach(batch::add);
+        final int size = tree.size();
+        if (!isLargeBatch(batch.size())) {
+            for (final Comparable<K> key : batch) {
+                compute(key, element -> null);
+            }
+        } else {
+            batch.sort((keyOne, keyTwo) -> keyOne.compareTo((K) keyTwo));
+            final ArrayList<E> kept = new ArrayList<>(size);
+            final int[] position = {0};
+            tree.forEach(false, element -> {
+                final Comparable<K> key = element.getKey();
+                while (position[0] < batch.size() && batch.get(position[0]).compareTo((K) key) < 0) {
+                    position[0]++;
+                }
+                if (position[0] == batch.size() || batch.get(position[0]).compareTo((K) key) != 0) {
+                    kept.add((E) element);
+                }
+            });
+            if (kept.size() < size) {
+                try {
+                    buildFromSorted(kept.iterator());
+                } catch (final KeyUsedException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        }
+        return size - tree.size();
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void forEachInRange(final Comparable<K> from, final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        tree.forEachInRange(from, to, reverse, subElement -> {
+            element.accept((E) subElement);
+        });
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void headRange(final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        tree.headRange(to, reverse, subElement -> {
+            element.accept((E) subElement);
+        });
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void tailRange(final Comparable<K> from, final boolean reverse, final Consumer<? super E> element) {
+        tree.tailRange(from, reverse, subElement -> {
+            element.accept((E) subElement);
+        });
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E floor(final Comparable<K> key) throws ElementNotFoundException {
+        return (E) tree.floor(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E ceiling(final Comparable<K> key) throws ElementNotFoundException {
+        return (E) tree.ceiling(key);
+    }
+
+    /**
+     * Método responsável por retornar iterador dos elementos contidos na coleção.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na coleção.
+     */
+    @Override
+    public Iterator<E> iterator(final boolean reverse) {
+        return (Iterator<E>) tree.iterator(reverse);
+    }
+
+    /**
+     * Método responsável por retornar divisor dos elementos contidos na coleção em ordem crescente.
+     * @return Retorna divisor dos elementos contidos na coleção.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return (Spliterator<E>) tree.spliterator();
+    }
+
+    /**
+     * Método responsável por retornar fluxo sequencial dos elementos contidos na coleção em ordem crescente.
+     * @return Retorna fluxo sequencial dos elementos contidos na coleção.
+     */
+    @Override
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Método responsável por retornar fluxo paralelo dos elementos contidos na coleção.
+     * @return Retorna fluxo paralelo dos elementos contidos na coleção.
+     */
+    @Override
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Método responsável por redefinir chave de dado elemento que está contido na coleção.
      * @param currentKey Refere-se a chave atual do elemento.
@@ -139,32 +529,142 @@ public class Collection<K, E> implements ICollection<K, E> {
     @Override
     public void redefineKey(final Comparable<K> currentKey, final K newKey)
             throws ElementNotFoundException, NullObjectException, KeyUsedException {
-        final IElement<K> elementInCurrentState = tree.search(currentKey);
-        try {
-            final IElement<K> elementInNewState = tree.search(elementInCurrentState.previewKey(newKey));
-            if (!elementInCurrentState.equals(elementInNewState)) {
-                throw new KeyUsedException(elementInNewState);
-            } else {
-                redefineKey(elementInCurrentState, newKey);
-            }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(elementInCurrentState, newKey);
-        }
+        redefine(currentKey, newKey);
     }
 
     /**
-     * Método responsável por efetuar a redefinição de chave de um elemento.
-     * @param elementInCurrentState Refere-se ao elemento em seu atual estado.
-     * @param newKey                Refere-se a nova chave do elemento.
+     * Método responsável por redefinir chave de dado elemento que está contido na coleção em no máximo duas descidas.
+     * A nova chave é pré-visualizada a partir do elemento encontrado na primeira descida, sem buscá-lo antes.
+     * @param currentKey Refere-se a chave atual do elemento.
+     * @param newKey     Refere-se a nova chave do elemento.
+     * @return Retorna elemento cuja chave foi redefinida.
      * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
      * @throws NullObjectException      Exceção lançada em caso de string nula.
      * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso.
      */
-    private void redefineKey(final IElement<K> elementInCurrentState, final K newKey)
+    protected E redefine(final Comparable<K> currentKey, final K newKey)
             throws ElementNotFoundException, NullObjectException, KeyUsedException {
-        remove(elementInCurrentState.getKey());
-        elementInCurrentState.setKey(newKey);
-        tree.insert(elementInCurrentState.getKey(), elementInCurrentState);
+        final Object[] elementInCurrentState = new Object[1];
+        final Object[] elementInNewState = new Object[1];
+        final NullObjectException[] invalidKey = new NullObjectException[1];
+        final IElement<K> movedElement = tree.rekey(currentKey, element -> {
+            elementInCurrentState[0] = element;
+            try {
+                return element.previewKey(newKey);
+            } catch (final NullObjectException ex) {
+                invalidKey[0] = ex;
+                return currentKey;
+            }
+        }, (usedElement, element) -> {
+            if (usedElement.equals(element)) {
+                return element;
+            } else {
+                elementInNewState[0] = usedElement;
+                return null;
+            }
+        });
+        if (invalidKey[0] != null) {
+            throw invalidKey[0];
+        } else if (elementInCurrentState[0] == null) {
+            throw new ElementNotFoundException();
+        } else if (movedElement == null) {
+            throw new KeyUsedException(elementInNewState[0]);
+        }
+        final IElement<K> element = (IElement<K>) elementInCurrentState[0];
+        element.setKey(newKey);
+        return (E) element;
+    }
+
+    /**
+     * Método responsável por mover um elemento para dada chave, previamente calculada, e só então aplicar-lhe
+     * a alteração que a produz. A mudança é recusada, sem alterar o elemento, se a chave estiver em uso.
+     * @param key    Refere-se a chave atual do elemento.
+     * @param newKey Refere-se a chave do elemento após a alteração.
+     * @param change Refere-se a alteração aplicada ao elemento.
+     * @return Retorna elemento movido.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     * @throws KeyUsedException         Exceção lançada no caso da nova chave estar em uso por outro elemento.
+     */
+    protected E move(final Comparable<K> key, final Comparable<K> newKey, final Consumer<? super E> change)
+            throws ElementNotFoundException, KeyUsedException {
+        final Object[] usedElement = new Object[1];
+        final IElement<K> element = tree.rekey(key, currentElement -> newKey, (myElement, movedElement) -> {
+            if (myElement.equals(movedElement)) {
+                return movedElement;
+            } else {
+                usedElement[0] = myElement;
+                return null;
+            }
+        });
+        if (usedElement[0] != null) {
+            throw new KeyUsedException(usedElement[0]);
+        } else if (element == null) {
+            throw new ElementNotFoundException();
+        }
+        change.accept((E) element);
+        return (E) element;
+    }
+
+    /**
+     * Método responsável por aplicar dada alteração a um elemento e movê-lo para a chave resultante,
+     * sem remover e reinserir o elemento. A alteração é aplicada na primeira descida, sem buscá-lo antes.
+     * A função de colisão não deve retornar referência nula, pois a alteração já terá sido aplicada.
+     * @param key         Refere-se a chave atual do elemento.
+     * @param change      Refere-se a alteração aplicada ao elemento.
+     * @param onCollision Refere-se a função que combina o elemento existente na nova chave ao elemento movido.
+     * @return Retorna elemento que passou a ocupar a nova chave.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    protected E rekey(final Comparable<K> key, final Consumer<? super E> change,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision) throws ElementNotFoundException {
+        final boolean[] found = new boolean[1];
+        final IElement<K> newElement = tree.rekey(key, element -> {
+            found[0] = true;
+            change.accept((E) element);
+            return element.getKey();
+        }, (usedElement, movedElement) -> {
+            return (IElement<K>) onCollision.apply((E) usedElement, (E) movedElement);
+        });
+        if (!found[0]) {
+            throw new ElementNotFoundException();
+        }
+        return (E) newElement;
+    }
+
+    /**
+     * Classe responsável por comportar-se como par de chave e elemento usado na ordenação de lotes.
+     * A chave é obtida uma única vez por elemento, evitando recalculá-la a cada comparação.
+     * @param <K> Refere-se ao tipo de chave.
+     */
+    private static final class Entry<K> implements Comparable<Entry<K>> {
+        /**
+         * Refere-se a chave do elemento.
+         */
+        private final Comparable<K> key;
+        /**
+         * Refere-se ao elemento.
+         */
+        private final IElement<K> element;
+
+        /**
+         * Construtor responsável pelo instanciamento do par.
+         * @param element Refere-se ao elemento.
+         */
+        private Entry(final IElement<K> element) {
+            this.key = element.getKey();
+            this.element = element;
+        }
+
+        /**
+         * Método responsável por comparar as chaves de dois pares.
+         * @param entry Refere-se ao outro par.
+         * @return Retorna resultado da comparação entre as chaves.
+         */
+        @Override
+        public int compareTo(final Entry<K> entry) {
+            return key.compareTo((K) entry.key);
+        }
+
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,331 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Classe responsável por comportar-se como árvore segura para acesso concorrente.
+ * Cada alteração produz, sob exclusão mútua, uma nova versão da árvore persistente que a fundamenta,
+ * copiando apenas o caminho alterado, e a publica atomicamente. As consultas e percursos não usam
+ * bloqueio algum: operam sobre a versão publicada no momento em que começam, que não muda depois.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada na árvore.
+ * @param <E> Refere-se ao tipo de elemento armazenado na árvore.
+ */
+public class ConcurrentTree<K, E> implements ITree<K, E> {
+    /**
+     * Refere-se ao número de série da classe.
+     */
+    private static final long serialVersionUID = -2897415065230811436L;
+    /**
+     * Refere-se a versão publicada da árvore, que nunca é alterada após a publicação.
+     */
+    private volatile PersistentTree<K, E> version;
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore concorrente.
+     */
+    public ConcurrentTree() {
+        this.version = new PersistentTree<>();
+    }
+
+    /**
+     * Método responsável por retornar cópia da versão atual da árvore, imune a alterações posteriores.
+     * @return Retorna cópia da versão atual da árvore.
+     */
+    public PersistentTree<K, E> snapshot() {
+        return version.snapshot();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos contidos na árvore.
+     */
+    @Override
+    public int size() {
+        return version.size();
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    @Override
+    public synchronized void clear() {
+        version = new PersistentTree<>();
+    }
+
+    /**
+     * Método responsável por indicar se a árvore está vazia.
+     * @return Retorna indicativo de que a árvore está vazia.
+     */
+    @Override
+    public boolean isEmpty() {
+        return version.isEmpty();
+    }
+
+    /**
+     * Método responsável por indicar se determinado elemento está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna indicativo de que a árvore contém o eventual elemento.
+     */
+    @Override
+    public boolean isContains(final Comparable<K> key) {
+        return version.isContains(key);
+    }
+
+    /**
+     * Método responsável por buscar dado elemento que está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna elemento se contido na árvore.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public E search(final Comparable<K> key) throws ElementNotFoundException {
+        return version.search(key);
+    }
+
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public int rank(final Comparable<K> key) throws ElementNotFoundException {
+        return version.rank(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não existir na árvore.
+     */
+    @Override
+    public E select(final int index) throws ElementNotFoundException {
+        return version.select(index);
+    }
+
+    /**
+     * Método responsável por remover dado elemento contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public synchronized void remove(final Comparable<K> key) throws ElementNotFoundException {
+        final PersistentTree<K, E> nextVersion = version.snapshot();
+        nextVersion.remove(key);
+        version = nextVersion;
+    }
+
+    /**
+     * Método responsável por remover atomicamente todos os elementos que satisfazem dado critério.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    @Override
+    public synchronized boolean removeIf(final Predicate<? super E> filter) {
+        final PersistentTree<K, E> nextVersion = version.snapshot();
+        final boolean wasRemoved = nextVersion.removeIf(filter);
+        version = nextVersion;
+        return wasRemoved;
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @throws KeyUsedException Exceção lançada no caso da chave do elemento estar em uso.
+     */
+    @Override
+    public synchronized void insert(final Comparable<K> key, final E element) throws KeyUsedException {
+        final PersistentTree<K, E> nextVersion = version.snapshot();
+        nextVersion.insert(key, element);
+        version = nextVersion;
+    }
+
+    /**
+     * Método responsável por recalcular atomicamente o elemento associado a dada chave.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    @Override
+    public synchronized E compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping) {
+        final PersistentTree<K, E> nextVersion = version.snapshot();
+        final E newElement = nextVersion.compute(key, remapping);
+        version = nextVersion;
+        return newElement;
+    }
+
+    /**
+     * Método responsável por inserir atomicamente dado elemento na árvore ou, se a chave estiver em uso,
+     * combiná-lo ao elemento existente.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    @Override
+    public synchronized E merge(final Comparable<K> key, final E element, final BiFunction<? super E, ? super E, ? extends E> remapping) {
+        final PersistentTree<K, E> nextVersion = version.snapshot();
+        final E newElement = nextVersion.merge(key, element, remapping);
+        version = nextVersion;
+        return newElement;
+    }
+
+    /**
+     * Método responsável por inserir atomicamente dado elemento na árvore somente se a chave estiver livre.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    @Override
+    public synchronized E putIfAbsent(final Comparable<K> key, final E element) {
+        final PersistentTree<K, E> nextVersion = version.snapshot();
+        final E currentElement = nextVersion.putIfAbsent(key, element);
+        version = nextVersion;
+        return currentElement;
+    }
+
+    /**
+     * Método responsável por mover atomicamente o elemento de dada chave para outra chave.
+     * @param oldKey      Refere-se a chave atual do elemento.
+     * @param newKey      Refere-se a função que fornece a nova chave a partir do elemento.
+     * @param onCollision Refere-se a função que resolve a colisão com o elemento existente.
+     * @return Retorna elemento que passou a ocupar a nova chave, ou referência nula se a chave atual estiver livre
+     *         ou a mudança for recusada.
+     */
+    @Override
+    public synchronized E rekey(final Comparable<K> oldKey, final Function<? super E, ? extends Comparable<K>> newKey,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision) {
+        final PersistentTree<K, E> nextVersion = version.snapshot();
+        final E newElement = nextVersion.rekey(oldKey, newKey, onCollision);
+        version = nextVersion;
+        return newElement;
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da árvore por dados elementos.
+     * @param elements Refere-se aos elementos.
+     * @param key      Refere-se a função que fornece a chave de cada elemento.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    @Override
+    public synchronized void buildFromSorted(final Iterator<? extends E> elements, final Function<? super E, ? extends Comparable<K>> key) throws KeyUsedException {
+        final PersistentTree<K, E> nextVersion = new PersistentTree<>();
+        nextVersion.buildFromSorted(elements, key);
+        version = nextVersion;
+    }
+
+    /**
+     * Método responsável por percorrer por todos os elementos contidos na árvore.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos na árvore.
+     */
+    @Override
+    public void forEach(final boolean reverse, final Consumer<? super E> element) {
+        version.forEach(reverse, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void forEachInRange(final Comparable<K> from, final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        version.forEachInRange(from, to, reverse, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void headRange(final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        version.headRange(to, reverse, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void tailRange(final Comparable<K> from, final boolean reverse, final Consumer<? super E> element) {
+        version.tailRange(from, reverse, element);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E floor(final Comparable<K> key) throws ElementNotFoundException {
+        return version.floor(key);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E ceiling(final Comparable<K> key) throws ElementNotFoundException {
+        return version.ceiling(key);
+    }
+
+    /**
+     * Método responsável por retornar iterador dos elementos da versão atual da árvore.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na árvore.
+     */
+    @Override
+    public Iterator<E> iterator(final boolean reverse) {
+        return version.iterator(reverse);
+    }
+
+    /**
+     * Método responsável por retornar divisor dos elementos da versão atual da árvore em ordem crescente.
+     * @return Retorna divisor dos elementos contidos na árvore.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return version.spliterator();
+    }
+
+}
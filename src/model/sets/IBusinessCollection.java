@@ -20,6 +20,8 @@
 package model.sets;
 
 import exceptions.ElementNotFoundException;
+import java.util.function.Consumer;
+import model.business.IBusinessEditable;
 import model.offers.IOfferVisible;
 import model.organizations.IProvider;
 import util.Date;
@@ -78,4 +80,50 @@ public interface IBusinessCollection<T> extends ICollection<String, T> {
     @Override
     public void insert(T newElement);
 
-}
\ No newline at end of file
+    /**
+     * Método responsável por aplicar dadas alterações a um negócio de uma só vez, reposicionando-o uma única vez.
+     * @param key     Refere-se a chave do negócio.
+     * @param changes Refere-se as alterações aplicadas ao negócio.
+     * @return Retorna negócio que passou a ocupar a chave final.
+     * @throws ElementNotFoundException Exceção lançada no caso do negócio não ser encontrado.
+     */
+    public T update(Comparable<String> key, Consumer<? super IBusinessEditable> changes) throws ElementNotFoundException;
+
+    /**
+     * Método responsável por inserir dados negócios na coleção de uma só vez.
+     * @param elements Refere-se aos negócios.
+     */
+    @Override
+    public void insertAll(Iterable<? extends T> elements);
+
+    /**
+     * Método responsável por reposicionar de uma só vez os negócios de dado fornecedor após sua alteração.
+     * @param oldProvider Refere-se ao fornecedor cujos negócios são reposicionados.
+     * @param newProvider Refere-se ao fornecedor que passa a constar nos negócios.
+     * @return Retorna indicativo de que algum negócio foi reposicionado.
+     */
+    public boolean rekeyAllForProvider(IProvider oldProvider, IProvider newProvider);
+
+    /**
+     * Método responsável por percorrer pelos negócios de dado fornecedor.
+     * @param provider Refere-se ao fornecedor.
+     * @param element  Refere-se aos negócios do fornecedor.
+     */
+    public void forEachByProvider(IProvider provider, Consumer<? super T> element);
+
+    /**
+     * Método responsável por percorrer pelos negócios de dada oferta de dado fornecedor.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @param element  Refere-se aos negócios da oferta.
+     */
+    public void forEachByOffer(IProvider provider, IOfferVisible offer, Consumer<? super T> element);
+
+    /**
+     * Método responsável por retornar o espelho colunar dos negócios, voltado a análises.
+     * O espelho é construído no primeiro uso e reaproveitado até a próxima alteração da coleção.
+     * @return Retorna espelho colunar dos negócios.
+     */
+    public BusinessColumns getColumns();
+
+}
@@ -23,7 +23,13 @@ import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
 import exceptions.NullObjectException;
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Interface responsável por fornecer os métodos de coleção.
@@ -64,6 +70,56 @@ public interface ICollection<K, E> extends Serializable {
      */
     public void insert(E element) throws KeyUsedException;
 
+    /**
+     * Método responsável por inserir dados elementos na coleção de uma só vez.
+     * Os elementos são ordenados por chave e intercalados aos já contidos na coleção em uma única passagem.
+     * @param elements Refere-se aos elementos.
+     * @throws KeyUsedException Exceção lançada no caso da chave de algum elemento estar em uso.
+     */
+    public void insertAll(Iterable<? extends E> elements) throws KeyUsedException;
+
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * Os elementos são avaliados em um único percurso e a coleção é reorganizada uma única vez.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    public boolean removeIf(Predicate<? super E> filter);
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em uma única descida na coleção.
+     * A função recebe o elemento atual, ou referência nula se a chave estiver livre, e retorna o elemento
+     * que deve ocupar a chave, o qual deve possuir a mesma chave, ou referência nula para que a chave fique livre.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    public E compute(Comparable<K> key, Function<? super E, ? extends E> remapping);
+
+    /**
+     * Método responsável por inserir dado elemento na coleção ou, se sua chave estiver em uso,
+     * combiná-lo ao elemento existente, sem lançar exceção.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    public E merge(E element, BiFunction<? super E, ? super E, ? extends E> remapping);
+
+    /**
+     * Método responsável por inserir dado elemento na coleção somente se sua chave estiver livre, sem lançar exceção.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    public E putIfAbsent(E element);
+
+    /**
+     * Método responsável por substituir o conteúdo da coleção por dados elementos.
+     * Se os elementos já estiverem em ordem crescente de chave, a construção ocorre em tempo linear.
+     * @param elements Refere-se aos elementos.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    public void buildFromSorted(Iterator<? extends E> elements) throws KeyUsedException;
+
     /**
      * Método responsável por percorrer por todos os elementos contidos na coleção.
      * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
@@ -79,6 +135,22 @@ public interface ICollection<K, E> extends Serializable {
      */
     public E search(Comparable<K> key) throws ElementNotFoundException;
 
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    public int rank(Comparable<K> key) throws ElementNotFoundException;
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não ser ocupada por nenhum elemento.
+     */
+    public E select(int index) throws ElementNotFoundException;
+
     /**
      * Método responsável por remover dado elemento que está contido na coleção.
      * @param key Refere-se a chave do elemento.
@@ -86,6 +158,15 @@ public interface ICollection<K, E> extends Serializable {
      */
     public void remove(Comparable<K> key) throws ElementNotFoundException;
 
+    /**
+     * Método responsável por remover da coleção os elementos de dadas chaves de uma só vez.
+     * As chaves são ordenadas e confrontadas com os elementos da coleção em uma única passagem.
+     * Chaves não encontradas são ignoradas.
+     * @param keys Refere-se as chaves dos elementos.
+     * @return Retorna quantidade de elementos removidos.
+     */
+    public int removeAll(Iterable<? extends Comparable<K>> keys);
+
     /**
      * Método responsável por redefinir chave de dado elemento que está contido na coleção.
      * @param currentKey Refere-se a chave atual do elemento.
@@ -97,4 +178,71 @@ public interface ICollection<K, E> extends Serializable {
     public void redefineKey(Comparable<K> currentKey, K newKey)
             throws ElementNotFoundException, NullObjectException, KeyUsedException;
 
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    public void forEachInRange(Comparable<K> from, Comparable<K> to, boolean reverse, Consumer<? super E> element);
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    public void headRange(Comparable<K> to, boolean reverse, Consumer<? super E> element);
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    public void tailRange(Comparable<K> from, boolean reverse, Consumer<? super E> element);
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    public E floor(Comparable<K> key) throws ElementNotFoundException;
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    public E ceiling(Comparable<K> key) throws ElementNotFoundException;
+
+    /**
+     * Método responsável por retornar iterador dos elementos contidos na coleção.
+     * O percurso é iterativo e pode ser interrompido a qualquer momento.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na coleção.
+     */
+    public Iterator<E> iterator(boolean reverse);
+
+    /**
+     * Método responsável por retornar divisor dos elementos contidos na coleção em ordem crescente.
+     * @return Retorna divisor dos elementos contidos na coleção.
+     */
+    public Spliterator<E> spliterator();
+
+    /**
+     * Método responsável por retornar fluxo sequencial dos elementos contidos na coleção em ordem crescente.
+     * @return Retorna fluxo sequencial dos elementos contidos na coleção.
+     */
+    public Stream<E> stream();
+
+    /**
+     * Método responsável por retornar fluxo paralelo dos elementos contidos na coleção.
+     * @return Retorna fluxo paralelo dos elementos contidos na coleção.
+     */
+    public Stream<E> parallelStream();
+
 }
\ No newline at end of file
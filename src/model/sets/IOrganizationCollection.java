@@ -21,6 +21,8 @@ package model.sets;
 
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
+import exceptions.NullObjectException;
+import java.util.function.Consumer;
 import model.territories.City;
 import model.territories.Neighborhood;
 import model.territories.Street;
@@ -60,4 +62,25 @@ public interface IOrganizationCollection<T> extends ICollection<String, T> {
      */
     public void setCity(Comparable<String> key, City newCity) throws ElementNotFoundException, KeyUsedException;
 
+    /**
+     * Método responsável por alterar nome, rua, bairro e cidade da organização de uma só vez.
+     * @param key             Refere-se a chave da organização.
+     * @param newName         Refere-se ao novo nome da organização.
+     * @param newStreet       Refere-se a nova rua da organização.
+     * @param newNeighborhood Refere-se ao novo bairro da organização.
+     * @param newCity         Refere-se a nova cidade da organização.
+     * @throws ElementNotFoundException Exceção lançada no caso da organização não ser encontrada.
+     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outra organização.
+     * @throws NullObjectException      Exceção lançada em caso de nome nulo.
+     */
+    public void update(Comparable<String> key, String newName, Street newStreet, Neighborhood newNeighborhood,
+            City newCity) throws ElementNotFoundException, KeyUsedException, NullObjectException;
+
+    /**
+     * Método responsável por percorrer pelas organizações de dada cidade, sem ordem definida.
+     * @param city         Refere-se a cidade.
+     * @param organization Refere-se as organizações da cidade.
+     */
+    public void forEachByCity(City city, Consumer<? super T> organization);
+
 }
\ No newline at end of file
@@ -22,7 +22,12 @@ package model.sets;
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Interface responsável por fornecer os métodos de árvore.
@@ -64,6 +69,22 @@ public interface ITree<K, E> extends Serializable {
      */
     public E search(Comparable<K> key) throws ElementNotFoundException;
 
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    public int rank(Comparable<K> key) throws ElementNotFoundException;
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não ser ocupada por nenhum elemento.
+     */
+    public E select(int index) throws ElementNotFoundException;
+
     /**
      * Método responsável por remover dado elemento que está contido na árvore.
      * @param key Refere-se a chave do elemento.
@@ -71,6 +92,14 @@ public interface ITree<K, E> extends Serializable {
      */
     public void remove(Comparable<K> key) throws ElementNotFoundException;
 
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * Os elementos são avaliados em um único percurso e a árvore é reconstruída balanceada uma única vez.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    public boolean removeIf(Predicate<? super E> filter);
+
     /**
      * Método responsável por inserir dado elemento na árvore.
      * @param key     Refere-se a chave do elemento.
@@ -79,6 +108,61 @@ public interface ITree<K, E> extends Serializable {
      */
     public void insert(Comparable<K> key, E element) throws KeyUsedException;
 
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em uma única descida na árvore.
+     * A função recebe o elemento atual, ou referência nula se a chave estiver livre, e retorna o elemento
+     * que deve ocupar a chave, ou referência nula para que a chave fique livre.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    public E compute(Comparable<K> key, Function<? super E, ? extends E> remapping);
+
+    /**
+     * Método responsável por inserir dado elemento na árvore ou, se a chave estiver em uso,
+     * combiná-lo ao elemento existente, sem lançar exceção.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    public E merge(Comparable<K> key, E element, BiFunction<? super E, ? super E, ? extends E> remapping);
+
+    /**
+     * Método responsável por inserir dado elemento na árvore somente se a chave estiver livre, sem lançar exceção.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    public E putIfAbsent(Comparable<K> key, E element);
+
+    /**
+     * Método responsável por mover o elemento de dada chave para outra chave, em no máximo duas descidas na árvore.
+     * A nova chave é obtida do próprio elemento, encontrado na primeira descida, o que dispensa buscá-lo antes.
+     * Se a nova chave estiver em uso, a função de colisão recebe o elemento existente e o elemento movido e
+     * retorna o elemento que deve ocupar a nova chave, ou referência nula para recusar a mudança.
+     * A colisão é resolvida antes de o elemento deixar a chave atual, de modo que a recusa não exige nova descida.
+     * A função de nova chave é aplicada uma única vez; se ela alterar o elemento, a função de colisão não deve
+     * recusar a mudança, pois a alteração não é desfeita.
+     * @param oldKey      Refere-se a chave atual do elemento.
+     * @param newKey      Refere-se a função que fornece a nova chave a partir do elemento.
+     * @param onCollision Refere-se a função que resolve a colisão com o elemento existente.
+     * @return Retorna elemento que passou a ocupar a nova chave, ou referência nula se a chave atual estiver livre
+     *         ou a mudança for recusada, casos em que a árvore permanece inalterada.
+     */
+    public E rekey(Comparable<K> oldKey, Function<? super E, ? extends Comparable<K>> newKey,
+            BiFunction<? super E, ? super E, ? extends E> onCollision);
+
+    /**
+     * Método responsável por substituir o conteúdo da árvore por dados elementos.
+     * Se os elementos já estiverem em ordem crescente de chave, a árvore é construída perfeitamente
+     * balanceada em tempo linear, do contrário são ordenados antes da construção.
+     * @param elements Refere-se aos elementos.
+     * @param key      Refere-se a função que fornece a chave de cada elemento.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    public void buildFromSorted(Iterator<? extends E> elements, Function<? super E, ? extends Comparable<K>> key) throws KeyUsedException;
+
     /**
      * Método responsável por percorrer por todos os elementos contidos na árvore.
      * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
@@ -86,4 +170,59 @@ public interface ITree<K, E> extends Serializable {
      */
     public void forEach(boolean reverse, Consumer<? super E> element);
 
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    public void forEachInRange(Comparable<K> from, Comparable<K> to, boolean reverse, Consumer<? super E> element);
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    public void headRange(Comparable<K> to, boolean reverse, Consumer<? super E> element);
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    public void tailRange(Comparable<K> from, boolean reverse, Consumer<? super E> element);
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    public E floor(Comparable<K> key) throws ElementNotFoundException;
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    public E ceiling(Comparable<K> key) throws ElementNotFoundException;
+
+    /**
+     * Método responsável por retornar iterador dos elementos contidos na árvore.
+     * O percurso é iterativo e pode ser interrompido a qualquer momento.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na árvore.
+     */
+    public Iterator<E> iterator(boolean reverse);
+
+    /**
+     * Método responsável por retornar divisor dos elementos contidos na árvore em ordem crescente.
+     * @return Retorna divisor dos elementos contidos na árvore.
+     */
+    public Spliterator<E> spliterator();
+
 }
\ No newline at end of file
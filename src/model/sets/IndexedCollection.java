@@ -0,0 +1,638 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import exceptions.NullObjectException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import util.IElement;
+
+/**
+ * Classe responsável por comportar-se como coleção dotada de índices secundários.
+ * As subclasses declaram seus índices em {@link #declareIndexes()}, e a coleção os mantém consistentes
+ * em todas as operações que inserem, removem ou reposicionam elementos, inclusive na redefinição de chave.
+ * Os índices não são gravados: são reconstruídos no primeiro uso após a restauração da coleção
+ * ou após a inserção de um lote grande.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada na coleção.
+ * @param <E> Refere-se ao tipo de elemento armazenado na coleção.
+ */
+public class IndexedCollection<K, E> extends Collection<K, E> {
+    /**
+     * Refere-se ao número de série da classe.
+     */
+    private static final long serialVersionUID = 4406125470319052286L;
+    /**
+     * Refere-se aos índices declarados, ou referência nula se ainda não foram construídos.
+     */
+    private transient ArrayList<Index<E>> indexes;
+    /**
+     * Refere-se as chaves sob as quais cada elemento foi indexado, uma por índice.
+     * Permite retirá-lo dos índices mesmo depois de alterado.
+     */
+    private transient Map<E, Object[]> indexedKeys;
+
+    /**
+     * Construtor responsável pelo instanciamento da coleção.
+     */
+    public IndexedCollection() {
+        super();
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da coleção sobre dada árvore.
+     * @param tree Refere-se a árvore responsável por organizar os elementos.
+     */
+    public IndexedCollection(final ITree<K, IElement<K>> tree) {
+        super(tree);
+    }
+
+    /**
+     * Método responsável por declarar os índices secundários da coleção através de {@link #addIndex}.
+     * É invocado uma única vez, antes do primeiro uso dos índices.
+     */
+    protected void declareIndexes() {
+    }
+
+    /**
+     * Método responsável por declarar um índice secundário.
+     * Elementos cuja chave de índice é nula não constam no índice.
+     * @param name    Refere-se ao nome do índice.
+     * @param key     Refere-se a função que extrai do elemento sua chave no índice.
+     * @param unique  Refere-se a indicativo de que dois elementos não podem compartilhar a mesma chave de índice.
+     * @param ordered Refere-se a indicativo de que o índice é ordenado por chave, que deve então ser comparável.
+     */
+    protected final void addIndex(final String name, final Function<? super E, ?> key,
+            final boolean unique, final boolean ordered) {
+        indexes.add(new Index<>(name, key, unique, ordered));
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos que possuem dada chave em dado índice, sem ordem definida.
+     * O custo é proporcional à quantidade de elementos encontrados, e não ao tamanho da coleção.
+     * A coleção não deve ser alterada durante o percurso.
+     * @param name     Refere-se ao nome do índice.
+     * @param indexKey Refere-se a chave no índice.
+     * @param element  Refere-se aos elementos encontrados.
+     */
+    protected void forEachByIndex(final String name, final Object indexKey, final Consumer<? super E> element) {
+        final Set<E> elements = index(name).entries.get(indexKey);
+        if (elements != null) {
+            elements.forEach(element);
+        }
+    }
+
+    /**
+     * Método responsável por buscar o elemento que possui dada chave em dado índice único.
+     * @param name     Refere-se ao nome do índice.
+     * @param indexKey Refere-se a chave no índice.
+     * @return Retorna elemento que possui a chave.
+     * @throws ElementNotFoundException Exceção lançada no caso de nenhum elemento possuir a chave.
+     */
+    protected E searchByIndex(final String name, final Object indexKey) throws ElementNotFoundException {
+        final Set<E> elements = index(name).entries.get(indexKey);
+        if (elements == null) {
+            throw new ElementNotFoundException();
+        }
+        return elements.iterator().next();
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos de dado índice ordenado, em ordem de chave de índice.
+     * Elementos de mesma chave de índice são percorridos sem ordem definida entre si.
+     * A coleção não deve ser alterada durante o percurso.
+     * @param name    Refere-se ao nome do índice.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos do índice.
+     */
+    protected void forEachInIndex(final String name, final boolean reverse, final Consumer<? super E> element) {
+        final Map<Object, Set<E>> entries = index(name).entries;
+        if (!(entries instanceof NavigableMap)) {
+            throw new IllegalArgumentException(name);
+        }
+        final NavigableMap<Object, Set<E>> ordered = (NavigableMap<Object, Set<E>>) entries;
+        (reverse ? ordered.descendingMap() : ordered).values().forEach(elements -> elements.forEach(element));
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na coleção.
+     * @param element Refere-se ao elemento.
+     * @throws KeyUsedException Exceção lançada no caso da chave do elemento, ou de sua chave em índice único,
+     *                          estar em uso.
+     */
+    @Override
+    public void insert(final E element) throws KeyUsedException {
+        checkUnique(element);
+        super.insert(element);
+        index(element);
+        modified();
+    }
+
+    /**
+     * Método responsável por inserir dados elementos na coleção de uma só vez, combinando os de chave repetida.
+     * Lotes grandes em relação à coleção são inseridos sem manter os índices, que são descartados e reconstruídos
+     * de uma só vez no próximo uso, o que custa menos do que atualizá-los elemento a elemento.
+     * @param elements  Refere-se aos elementos.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento,
+     *                  ou referência nula para que chaves repetidas sejam recusadas.
+     * @throws KeyUsedException Exceção lançada no caso de chave repetida sem função de combinação,
+     *                          ou de chave em uso em índice único, pela coleção ou por outro elemento do lote.
+     */
+    @Override
+    protected void insertAll(final Iterable<? extends E> elements,
+            final BiFunction<? super E, ? super E, ? extends E> remapping) throws KeyUsedException {
+        final ArrayList<E> batch = new ArrayList<>();
+        elements.forEach(batch::add);
+        checkUnique(batch);
+        modified();
+        if (isLargeBatch(batch.size())) {
+            discardIndexes();
+            super.insertAll(batch, remapping);
+            return;
+        }
+        batch.forEach(this::index);
+        try {
+            super.insertAll(batch, remapping == null ? null : (myElement, addedElement) -> {
+                final E newElement = remapping.apply(myElement, addedElement);
+                if (newElement != addedElement) {
+                    unindex(addedElement);
+                }
+                if (newElement != myElement) {
+                    unindex(myElement);
+                    index(newElement);
+                }
+                return newElement;
+            });
+        } catch (final KeyUsedException ex) {
+            reindex();
+            throw ex;
+        }
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave, mantendo os índices.
+     * Se o novo elemento violar um índice único, o elemento atual é mantido e a coleção permanece inalterada.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    @Override
+    public E compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping) {
+        indexes();
+        final Object[] currentElement = new Object[1];
+        final E newElement = super.compute(key, element -> {
+            currentElement[0] = element;
+            final E computedElement = remapping.apply(element);
+            if (computedElement != null && computedElement != element) {
+                try {
+                    checkUnique(computedElement, element);
+                } catch (final KeyUsedException ex) {
+                    return element;
+                }
+            }
+            return computedElement;
+        });
+        if (currentElement[0] != newElement) {
+            if (currentElement[0] != null) {
+                unindex((E) currentElement[0]);
+            }
+            if (newElement != null) {
+                index(newElement);
+            }
+        }
+        if (currentElement[0] != null || newElement != null) {
+            modified();
+        }
+        return newElement;
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na coleção ou, se sua chave estiver em uso,
+     * combiná-lo ao elemento existente, mantendo os índices.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    @Override
+    public E merge(final E element, final BiFunction<? super E, ? super E, ? extends E> remapping) {
+        return compute(((IElement<K>) element).getKey(), currentElement -> {
+            return currentElement == null ? element : remapping.apply(currentElement, element);
+        });
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na coleção somente se sua chave estiver livre.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    @Override
+    public E putIfAbsent(final E element) {
+        final boolean[] used = new boolean[1];
+        final E newElement = merge(element, (currentElement, addedElement) -> {
+            used[0] = true;
+            return currentElement;
+        });
+        return used[0] ? newElement : null;
+    }
+
+    /**
+     * Método responsável por remover dado elemento que está contido na coleção.
+     * @param key Refere-se a chave do elemento.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public void remove(final Comparable<K> key) throws ElementNotFoundException {
+        final E element = super.search(key);
+        super.remove(key);
+        unindex(element);
+        modified();
+    }
+
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        if (super.removeIf(filter)) {
+            reindex();
+            modified();
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Método responsável por aplicar dada alteração aos elementos que satisfazem dado critério e reposicioná-los
+     * em uma única reconstrução da coleção, reconstruindo também os índices.
+     * @param filter    Refere-se ao critério que seleciona os elementos alterados.
+     * @param change    Refere-se a alteração aplicada aos elementos selecionados.
+     * @param remapping Refere-se a função que combina o elemento existente ao elemento alterado,
+     *                  ou referência nula para que chaves repetidas sejam recusadas.
+     * @return Retorna indicativo de que algum elemento foi selecionado.
+     * @throws KeyUsedException Exceção lançada no caso de chave repetida sem função de combinação.
+     */
+    @Override
+    protected boolean rekeyAll(final Predicate<? super E> filter, final Consumer<? super E> change,
+            final BiFunction<? super E, ? super E, ? extends E> remapping) throws KeyUsedException {
+        try {
+            return super.rekeyAll(filter, change, remapping);
+        } finally {
+            reindex();
+            modified();
+        }
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da coleção por dados elementos.
+     * @param elements Refere-se aos elementos.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    @Override
+    public void buildFromSorted(final Iterator<? extends E> elements) throws KeyUsedException {
+        try {
+            super.buildFromSorted(elements);
+        } finally {
+            reindex();
+            modified();
+        }
+    }
+
+    /**
+     * Método responsável por redefinir chave de dado elemento que está contido na coleção, mantendo os índices.
+     * @param currentKey Refere-se a chave atual do elemento.
+     * @param newKey     Refere-se a nova chave do elemento.
+     * @return Retorna elemento cuja chave foi redefinida.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     * @throws NullObjectException      Exceção lançada em caso de string nula.
+     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso.
+     */
+    @Override
+    protected E redefine(final Comparable<K> currentKey, final K newKey)
+            throws ElementNotFoundException, NullObjectException, KeyUsedException {
+        final E element = super.redefine(currentKey, newKey);
+        unindex(element);
+        index(element);
+        modified();
+        return element;
+    }
+
+    /**
+     * Método responsável por mover um elemento para dada chave e só então aplicar-lhe a alteração, mantendo os índices.
+     * @param key    Refere-se a chave atual do elemento.
+     * @param newKey Refere-se a chave do elemento após a alteração.
+     * @param change Refere-se a alteração aplicada ao elemento.
+     * @return Retorna elemento movido.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     * @throws KeyUsedException         Exceção lançada no caso da nova chave estar em uso por outro elemento.
+     */
+    @Override
+    protected E move(final Comparable<K> key, final Comparable<K> newKey, final Consumer<? super E> change)
+            throws ElementNotFoundException, KeyUsedException {
+        final E element = super.move(key, newKey, change);
+        unindex(element);
+        index(element);
+        modified();
+        return element;
+    }
+
+    /**
+     * Método responsável por aplicar dada alteração a um elemento e movê-lo para a chave resultante,
+     * mantendo os índices. Índices únicos não são verificados, pois a alteração já terá sido aplicada.
+     * @param key         Refere-se a chave atual do elemento.
+     * @param change      Refere-se a alteração aplicada ao elemento.
+     * @param onCollision Refere-se a função que combina o elemento existente na nova chave ao elemento movido.
+     * @return Retorna elemento que passou a ocupar a nova chave.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    protected E rekey(final Comparable<K> key, final Consumer<? super E> change,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision) throws ElementNotFoundException {
+        final Object[] elements = new Object[2];
+        final E newElement = super.rekey(key, element -> {
+            elements[0] = element;
+            change.accept(element);
+        }, (usedElement, movedElement) -> {
+            elements[1] = usedElement;
+            return onCollision.apply(usedElement, movedElement);
+        });
+        for (final Object element : elements) {
+            if (element != null) {
+                unindex((E) element);
+            }
+        }
+        index(newElement);
+        modified();
+        return newElement;
+    }
+
+    /**
+     * Método responsável por esvaziar a coleção.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        discardIndexes();
+        modified();
+    }
+
+    /**
+     * Método responsável por sinalizar que o conteúdo da coleção foi alterado.
+     * Invocado ao fim de toda operação que insere, remove, altera ou reposiciona elementos; as subclasses que
+     * guardam dados derivados dos elementos o sobrescrevem para descartá-los.
+     */
+    protected void modified() {
+    }
+
+    /**
+     * Método responsável por retornar os índices declarados, construindo-os no primeiro uso.
+     * @return Retorna índices declarados.
+     */
+    private ArrayList<Index<E>> indexes() {
+        final ArrayList<Index<E>> declaredIndexes = declaredIndexes();
+        if (indexedKeys == null && !declaredIndexes.isEmpty()) {
+            indexedKeys = new IdentityHashMap<>(size());
+            forEach(false, this::index);
+        }
+        return declaredIndexes;
+    }
+
+    /**
+     * Método responsável por retornar os índices declarados, sem construir seu conteúdo.
+     * @return Retorna índices declarados.
+     */
+    private ArrayList<Index<E>> declaredIndexes() {
+        if (indexes == null) {
+            indexes = new ArrayList<>();
+            declareIndexes();
+        }
+        return indexes;
+    }
+
+    /**
+     * Método responsável por descartar o conteúdo dos índices, que são reconstruídos no próximo uso.
+     */
+    private void discardIndexes() {
+        if (indexes != null) {
+            indexes.forEach(index -> index.entries.clear());
+        }
+        indexedKeys = null;
+    }
+
+    /**
+     * Método responsável por indicar se algum índice único foi declarado.
+     * @return Retorna indicativo de que há índice único.
+     */
+    private boolean hasUniqueIndex() {
+        for (final Index<E> index : declaredIndexes()) {
+            if (index.unique) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Método responsável por retornar o índice de dado nome.
+     * @param name Refere-se ao nome do índice.
+     * @return Retorna índice de dado nome.
+     * @throws IllegalArgumentException Exceção lançada no caso do índice não ter sido declarado.
+     */
+    private Index<E> index(final String name) {
+        for (final Index<E> index : indexes()) {
+            if (index.name.equals(name)) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    /**
+     * Método responsável por verificar se dado lote pode ser incluído nos índices únicos, tanto em relação aos
+     * elementos da coleção quanto entre os elementos do próprio lote. Elementos do lote de mesma chave
+     * não são confrontados entre si, pois são combinados ou recusados na inserção.
+     * @param batch Refere-se ao lote.
+     * @throws KeyUsedException Exceção lançada no caso de sua chave em índice único estar em uso por outro elemento.
+     */
+    private void checkUnique(final ArrayList<E> batch) throws KeyUsedException {
+        if (!hasUniqueIndex()) {
+            return;
+        }
+        for (final E element : batch) {
+            checkUnique(element);
+        }
+        for (final Index<E> index : indexes()) {
+            if (index.unique) {
+                final Map<Object, E> batchKeys = index.entries instanceof NavigableMap ? new TreeMap<>() : new HashMap<>();
+                for (final E element : batch) {
+                    final Object indexKey = index.key.apply(element);
+                    final E usedElement = indexKey == null ? null : batchKeys.putIfAbsent(indexKey, element);
+                    if (usedElement != null && usedElement != element && ((IElement<K>) usedElement).getKey()
+                            .compareTo((K) ((IElement<K>) element).getKey()) != 0) {
+                        throw new KeyUsedException(usedElement);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por verificar se dado elemento pode ser incluído nos índices únicos.
+     * @param element Refere-se ao elemento.
+     * @throws KeyUsedException Exceção lançada no caso de sua chave em índice único estar em uso por outro elemento.
+     */
+    private void checkUnique(final E element) throws KeyUsedException {
+        checkUnique(element, element);
+    }
+
+    /**
+     * Método responsável por verificar se dado elemento pode substituir outro nos índices únicos.
+     * @param element         Refere-se ao elemento.
+     * @param replacedElement Refere-se ao elemento substituído, cujas chaves não contam como em uso.
+     * @throws KeyUsedException Exceção lançada no caso de sua chave em índice único estar em uso por outro elemento.
+     */
+    private void checkUnique(final E element, final E replacedElement) throws KeyUsedException {
+        if (!hasUniqueIndex()) {
+            return;
+        }
+        for (final Index<E> index : indexes()) {
+            if (index.unique) {
+                final Object indexKey = index.key.apply(element);
+                final Set<E> elements = indexKey == null ? null : index.entries.get(indexKey);
+                if (elements != null) {
+                    for (final E usedElement : elements) {
+                        if (usedElement != element && usedElement != replacedElement) {
+                            throw new KeyUsedException(usedElement);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por incluir dado elemento nos índices, conforme seu estado atual.
+     * @param element Refere-se ao elemento.
+     */
+    private void index(final E element) {
+        final ArrayList<Index<E>> declaredIndexes = indexes();
+        if (declaredIndexes.isEmpty()) {
+            return;
+        }
+        final Object[] keys = new Object[declaredIndexes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            final Index<E> index = declaredIndexes.get(i);
+            keys[i] = index.key.apply(element);
+            if (keys[i] != null) {
+                index.entries.computeIfAbsent(keys[i], key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(element);
+            }
+        }
+        indexedKeys.put(element, keys);
+    }
+
+    /**
+     * Método responsável por excluir dado elemento dos índices, conforme as chaves sob as quais foi indexado.
+     * @param element Refere-se ao elemento.
+     */
+    private void unindex(final E element) {
+        final ArrayList<Index<E>> declaredIndexes = indexes();
+        if (declaredIndexes.isEmpty()) {
+            return;
+        }
+        final Object[] keys = indexedKeys.remove(element);
+        if (keys != null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    final Map<Object, Set<E>> entries = declaredIndexes.get(i).entries;
+                    final Set<E> elements = entries.get(keys[i]);
+                    if (elements != null && elements.remove(element) && elements.isEmpty()) {
+                        entries.remove(keys[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por reconstruir os índices a partir de todos os elementos da coleção.
+     */
+    private void reindex() {
+        if (declaredIndexes().isEmpty()) {
+            return;
+        }
+        indexes().forEach(index -> index.entries.clear());
+        indexedKeys.clear();
+        forEach(false, this::index);
+    }
+
+    /**
+     * Classe responsável por comportar-se como índice secundário.
+     * @param <E> Refere-se ao tipo de elemento indexado.
+     */
+    private static final class Index<E> {
+        /**
+         * Refere-se ao nome do índice.
+         */
+        private final String name;
+        /**
+         * Refere-se a função que extrai do elemento sua chave no índice.
+         */
+        private final Function<? super E, ?> key;
+        /**
+         * Refere-se a indicativo de que a chave de índice não pode ser compartilhada.
+         */
+        private final boolean unique;
+        /**
+         * Refere-se aos elementos agrupados por chave de índice.
+         */
+        private final Map<Object, Set<E>> entries;
+
+        /**
+         * Construtor responsável pelo instanciamento do índice.
+         * @param name    Refere-se ao nome do índice.
+         * @param key     Refere-se a função que extrai do elemento sua chave no índice.
+         * @param unique  Refere-se a indicativo de que a chave de índice não pode ser compartilhada.
+         * @param ordered Refere-se a indicativo de que o índice é ordenado por chave.
+         */
+        private Index(final String name, final Function<? super E, ?> key, final boolean unique, final boolean ordered) {
+            this.name = name;
+            this.key = key;
+            this.unique = unique;
+            this.entries = ordered ? new TreeMap<>() : new HashMap<>();
+        }
+    }
+
+}
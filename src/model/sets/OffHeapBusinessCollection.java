@@ -0,0 +1,126 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.KeyUsedException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import model.business.AcquisitionTree;
+import model.business.IAcquisition;
+import model.offers.IOfferVisible;
+import model.organizations.IProvider;
+
+/**
+ * Classe responsável por comportar-se como coleção de aquisições armazenadas fora do heap.
+ * As aquisições são organizadas por uma {@link AcquisitionTree}, que as copia para linhas fora do heap e mantém
+ * no heap apenas números de linhas, inclusive nos índices por fornecedor e por oferta. Por isso não são
+ * declarados índices secundários: os percursos por fornecedor e por oferta usam os índices da árvore.
+ * As aquisições inseridas não são mantidas, e as retornadas são vistas sobre as linhas, iguais entre si se lerem
+ * a mesma linha: as alterações devem ser feitas através da coleção ou de vistas obtidas desde a última inserção.
+ * Ao ser gravada em fluxo de objetos, a coleção grava aquisições comuns.
+ * @author Everton Bruno Silva dos Santos
+ */
+public class OffHeapBusinessCollection extends BusinessCollection<IAcquisition> {
+    /**
+     * Refere-se ao número de série da classe.
+     */
+    private static final long serialVersionUID = 6214839401583225170L;
+    /**
+     * Refere-se a árvore que organiza as aquisições.
+     */
+    private final AcquisitionTree tree;
+
+    /**
+     * Construtor responsável pelo instanciamento da coleção de aquisições fora do heap.
+     */
+    public OffHeapBusinessCollection() {
+        this(new AcquisitionTree());
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da coleção de aquisições fora do heap com dadas aquisições.
+     * @param collection Refere-se a coleção cujas aquisições são copiadas.
+     * @throws KeyUsedException Exceção lançada no caso de duas aquisições possuírem a mesma chave.
+     */
+    public OffHeapBusinessCollection(final ICollection<String, ? extends IAcquisition> collection) throws KeyUsedException {
+        this();
+        buildFromSorted(collection.iterator(false));
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da coleção de aquisições fora do heap sobre dada árvore.
+     * @param tree Refere-se a árvore que organiza as aquisições.
+     */
+    private OffHeapBusinessCollection(final AcquisitionTree tree) {
+        super(tree);
+        this.tree = tree;
+    }
+
+    /**
+     * Método responsável por retornar o tamanho reservado fora do heap.
+     * @return Retorna tamanho reservado em bytes.
+     */
+    public long offHeapSize() {
+        return tree.offHeapSize();
+    }
+
+    /**
+     * Método responsável por retornar iterador de cópias das aquisições em ordem crescente de chave.
+     * As cópias são aquisições comuns, que permanecem válidas depois que a coleção é alterada ou descartada.
+     * @return Retorna iterador de cópias das aquisições.
+     */
+    public Iterator<IAcquisition> copies() {
+        return tree.copies();
+    }
+
+    /**
+     * Método responsável por percorrer pelos negócios de dado fornecedor, sem ordem definida.
+     * O custo é proporcional à quantidade de negócios do fornecedor, e não ao tamanho da coleção.
+     * A coleção não deve ser alterada durante o percurso.
+     * @param provider Refere-se ao fornecedor.
+     * @param element  Refere-se aos negócios do fornecedor.
+     */
+    @Override
+    public void forEachByProvider(final IProvider provider, final Consumer<? super IAcquisition> element) {
+        tree.forEachByProvider(provider, element);
+    }
+
+    /**
+     * Método responsável por percorrer pelos negócios de dada oferta de dado fornecedor, sem ordem definida.
+     * O custo é proporcional à quantidade de negócios do fornecedor ou da oferta, e não ao tamanho da coleção.
+     * A coleção não deve ser alterada durante o percurso.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @param element  Refere-se aos negócios da oferta.
+     */
+    @Override
+    public void forEachByOffer(final IProvider provider, final IOfferVisible offer,
+            final Consumer<? super IAcquisition> element) {
+        tree.forEachByOffer(provider, offer, element);
+    }
+
+    /**
+     * Método responsável por declarar os índices secundários, que nesta coleção são mantidos pela árvore.
+     */
+    @Override
+    protected void declareIndexes() {
+    }
+
+}
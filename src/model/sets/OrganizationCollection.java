@@ -21,7 +21,10 @@ package model.sets;
 
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
+import exceptions.NullObjectException;
+import java.util.function.Consumer;
 import model.organizations.IOrganizationEditable;
+import model.organizations.IOrganizationVisible;
 import model.territories.City;
 import model.territories.Neighborhood;
 import model.territories.Street;
@@ -31,11 +34,15 @@ import model.territories.Street;
  * @author Everton Bruno Silva dos Santos.
  * @param <T> Refere-se ao tipo de organização.
  */
-public class OrganizationCollection<T> extends Collection<String, T> implements IOrganizationCollection<T> {
+public class OrganizationCollection<T> extends IndexedCollection<String, T> implements IOrganizationCollection<T> {
     /**
      * Refere-se ao número de série da classe.
      */
     private static final long serialVersionUID = -2995525010502554207L;
+    /**
+     * Refere-se ao nome do índice das organizações por cidade.
+     */
+    private static final String CITY_INDEX = "city";
 
     /**
      * Método responsável por alterar a rua da organização.
@@ -46,32 +53,8 @@ public class OrganizationCollection<T> extends Collection<String, T> implements
      */
     @Override
     public void setStreet(final Comparable<String> key, final Street newStreet) throws ElementNotFoundException, KeyUsedException {
-        final IOrganizationEditable organizationInCurrentState = (IOrganizationEditable) super.search(key);
-        try {
-            final IOrganizationEditable organizationInNewState = (IOrganizationEditable) super.search(
-                    organizationInCurrentState.previewKey(newStreet));
-            if (!organizationInCurrentState.equals(organizationInNewState)) {
-                throw new KeyUsedException(organizationInNewState);
-            } else {
-                redefineKey(organizationInCurrentState, newStreet);
-            }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(organizationInCurrentState, newStreet);
-        }
-    }
-
-    /**
-     * Método responsável por efetuar a redefinição de rua de uma organização.
-     * @param organizationInCurrentState Refere-se a organização em seu atual estado.
-     * @param newStreet                  Refere-se a nova rua da organização.
-     * @throws ElementNotFoundException Exceção lançada no caso da organização não ser encontrada.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outra organização.
-     */
-    private void redefineKey(final IOrganizationEditable organizationInCurrentState, final Street newStreet)
-            throws ElementNotFoundException, KeyUsedException {
-        super.remove(organizationInCurrentState.getKey());
-        organizationInCurrentState.setStreet(newStreet);
-        super.insert((T) organizationInCurrentState);
+        final IOrganizationEditable organization = (IOrganizationEditable) super.search(key);
+        move(key, organization.previewKey(newStreet), element -> organization.setStreet(newStreet));
     }
 
     /**
@@ -84,69 +67,73 @@ public class OrganizationCollection<T> extends Collection<String, T> implements
     @Override
     public void setNeighborhood(final Comparable<String> key, final Neighborhood newNeighborhood)
             throws ElementNotFoundException, KeyUsedException {
-        final IOrganizationEditable organizationInCurrentState = (IOrganizationEditable) super.search(key);
-        try {
-            final IOrganizationEditable organizationInNewState = (IOrganizationEditable) super.search(
-                    organizationInCurrentState.previewKey(newNeighborhood));
-            if (!organizationInCurrentState.equals(organizationInNewState)) {
-                throw new KeyUsedException(organizationInNewState);
-            } else {
-                redefineKey(organizationInCurrentState, newNeighborhood);
-            }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(organizationInCurrentState, newNeighborhood);
-        }
+        final IOrganizationEditable organization = (IOrganizationEditable) super.search(key);
+        move(key, organization.previewKey(newNeighborhood), element -> organization.setNeighborhood(newNeighborhood));
     }
 
     /**
-     * Método responsável por efetuar a redefinição de bairro de uma organização.
-     * @param organizationInCurrentState Refere-se a organização em seu atual estado.
-     * @param newNeighborhood            Refere-se ao novo bairro da organização.
+     * Método responsável por alterar a cidade da organização.
+     * @param key     Refere-se a chave da organização.
+     * @param newCity Refere-se a nova cidade da organização.
      * @throws ElementNotFoundException Exceção lançada no caso da organização não ser encontrada.
      * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outra organização.
      */
-    private void redefineKey(final IOrganizationEditable organizationInCurrentState,
-            final Neighborhood newNeighborhood) throws ElementNotFoundException, KeyUsedException {
-        super.remove(organizationInCurrentState.getKey());
-        organizationInCurrentState.setNeighborhood(newNeighborhood);
-        super.insert((T) organizationInCurrentState);
+    @Override
+    public void setCity(final Comparable<String> key, final City newCity) throws ElementNotFoundException, KeyUsedException {
+        final IOrganizationEditable organization = (IOrganizationEditable) super.search(key);
+        move(key, organization.previewKey(newCity), element -> organization.setCity(newCity));
     }
 
     /**
-     * Método responsável por alterar a cidade da organização.
-     * @param key     Refere-se a chave da organização.
-     * @param newCity Refere-se a nova cidade da organização.
+     * Método responsável por alterar nome, rua, bairro e cidade da organização de uma só vez.
+     * A chave final é verificada uma única vez e a organização é reposicionada uma única vez.
+     * @param key             Refere-se a chave da organização.
+     * @param newName         Refere-se ao novo nome da organização.
+     * @param newStreet       Refere-se a nova rua da organização.
+     * @param newNeighborhood Refere-se ao novo bairro da organização.
+     * @param newCity         Refere-se a nova cidade da organização.
      * @throws ElementNotFoundException Exceção lançada no caso da organização não ser encontrada.
      * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outra organização.
+     * @throws NullObjectException      Exceção lançada em caso de nome nulo.
      */
     @Override
-    public void setCity(final Comparable<String> key, final City newCity) throws ElementNotFoundException, KeyUsedException {
-        final IOrganizationEditable organizationInCurrentState = (IOrganizationEditable) super.search(key);
-        try {
-            final IOrganizationEditable organizationInNewState = (IOrganizationEditable) super.search(
-                    organizationInCurrentState.previewKey(newCity));
-            if (!organizationInCurrentState.equals(organizationInNewState)) {
-                throw new KeyUsedException(organizationInNewState);
-            } else {
-                redefineKey(organizationInCurrentState, newCity);
+    public void update(final Comparable<String> key, final String newName, final Street newStreet,
+            final Neighborhood newNeighborhood, final City newCity)
+            throws ElementNotFoundException, KeyUsedException, NullObjectException {
+        final IOrganizationEditable organization = (IOrganizationEditable) super.search(key);
+        move(key, organization.previewKey(newName, newStreet, newNeighborhood, newCity), element -> {
+            try {
+                organization.setKey(newName);
+            } catch (final NullObjectException ex) {
+                throw new IllegalStateException(ex);
             }
-        } catch (final ElementNotFoundException ex) {
-            redefineKey(organizationInCurrentState, newCity);
-        }
+            organization.setStreet(newStreet);
+            organization.setNeighborhood(newNeighborhood);
+            organization.setCity(newCity);
+        });
     }
 
     /**
-     * Método responsável por efetuar a redefinição de cidade de uma organização.
-     * @param organizationInCurrentState Refere-se a organização em seu atual estado.
-     * @param newCity                    Refere-se a nova cidade da organização.
-     * @throws ElementNotFoundException Exceção lançada no caso da organização não ser encontrada.
-     * @throws KeyUsedException         Exceção lançada no caso da chave estar em uso por outra organização.
+     * Método responsável por percorrer pelas organizações de dada cidade, sem ordem definida.
+     * O custo é proporcional à quantidade de organizações da cidade, e não ao tamanho da coleção.
+     * A coleção não deve ser alterada durante o percurso.
+     * @param city         Refere-se a cidade.
+     * @param organization Refere-se as organizações da cidade.
      */
-    private void redefineKey(final IOrganizationEditable organizationInCurrentState, final City newCity)
-            throws ElementNotFoundException, KeyUsedException {
-        super.remove(organizationInCurrentState.getKey());
-        organizationInCurrentState.setCity(newCity);
-        super.insert((T) organizationInCurrentState);
+    @Override
+    public void forEachByCity(final City city, final Consumer<? super T> organization) {
+        forEachByIndex(CITY_INDEX, city.toString().toLowerCase(), organization);
+    }
+
+    /**
+     * Método responsável por declarar o índice das organizações por cidade, ordenado pelo nome da cidade.
+     * Os nomes são comparados em letras minúsculas, como nas chaves das organizações.
+     */
+    @Override
+    protected void declareIndexes() {
+        addIndex(CITY_INDEX, organization -> {
+            return ((IOrganizationVisible) organization).getCity().toString().toLowerCase();
+        }, false, true);
     }
 
-}
\ No newline at end of file
+}
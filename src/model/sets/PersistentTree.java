@@ -0,0 +1,1044 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Classe responsável por comportar-se como árvore persistente.
+ * Os nós são imutáveis: cada inserção ou remoção copia apenas os O(log n) nós do caminho alterado
+ * e compartilha o restante com as versões anteriores, de modo que capturar uma versão custa O(1).
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada na árvore.
+ * @param <E> Refere-se ao tipo de elemento armazenado na árvore.
+ */
+public class PersistentTree<K, E> implements ITree<K, E> {
+    /**
+     * Refere-se ao número de série da classe.
+     */
+    private static final long serialVersionUID = 4629371053648231977L;
+    /**
+     * Refere-se ao nó raiz da versão atual da árvore.
+     */
+    private transient Node<K, E> root;
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore persistente.
+     */
+    public PersistentTree() {
+        this.root = null;
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore persistente a partir de dada versão.
+     * @param root Refere-se ao nó raiz da versão.
+     */
+    private PersistentTree(final Node<K, E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Método responsável por retornar cópia imutável em conteúdo da versão atual da árvore.
+     * A cópia compartilha todos os nós com a árvore e não é afetada por alterações posteriores nesta.
+     * @return Retorna cópia da versão atual da árvore.
+     */
+    public PersistentTree<K, E> snapshot() {
+        return new PersistentTree<>(root);
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos na árvore.
+     * @return Retorna quantidade de elementos contidos na árvore.
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Método responsável por indicar se a árvore está vazia.
+     * @return Retorna indicativo de que a árvore está vazia.
+     */
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Método responsável por indicar se determinado elemento está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna indicativo de que a árvore contém o eventual elemento.
+     */
+    @Override
+    public boolean isContains(final Comparable<K> key) {
+        return search(key, root) != null;
+    }
+
+    /**
+     * Método responsável por buscar dado elemento que está contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna elemento se contido na árvore.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public E search(final Comparable<K> key) throws ElementNotFoundException {
+        final Node<K, E> node = search(key, root);
+        if (node == null) {
+            throw new ElementNotFoundException();
+        } else {
+            return node.element;
+        }
+    }
+
+    /**
+     * Método responsável por buscar o nó de dada chave.
+     * @param key         Refere-se a chave do elemento.
+     * @param currentNode Refere-se ao nó atual da busca.
+     * @return Retorna nó se contido na árvore, do contrário retorna referência nula.
+     */
+    private Node<K, E> search(final Comparable<K> key, final Node<K, E> currentNode) {
+        if (currentNode == null) {
+            return null;
+        } else {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                return currentNode;
+            } else if (comparisonResult > 0) {
+                return search(key, currentNode.sonOnTheLeft);
+            } else {
+                return search(key, currentNode.sonOnTheRight);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public int rank(final Comparable<K> key) throws ElementNotFoundException {
+        int position = 0;
+        Node<K, E> currentNode = root;
+        while (currentNode != null) {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                return position + size(currentNode.sonOnTheLeft);
+            } else if (comparisonResult > 0) {
+                currentNode = currentNode.sonOnTheLeft;
+            } else {
+                position += size(currentNode.sonOnTheLeft) + 1;
+                currentNode = currentNode.sonOnTheRight;
+            }
+        }
+        throw new ElementNotFoundException();
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não existir na árvore.
+     */
+    @Override
+    public E select(final int index) throws ElementNotFoundException {
+        if (index < 0 || index >= size(root)) {
+            throw new ElementNotFoundException();
+        }
+        int remaining = index;
+        Node<K, E> currentNode = root;
+        while (true) {
+            final int sizeOnTheLeft = size(currentNode.sonOnTheLeft);
+            if (remaining == sizeOnTheLeft) {
+                return currentNode.element;
+            } else if (remaining < sizeOnTheLeft) {
+                currentNode = currentNode.sonOnTheLeft;
+            } else {
+                remaining -= sizeOnTheLeft + 1;
+                currentNode = currentNode.sonOnTheRight;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por remover dado elemento contido na árvore.
+     * @param key Refere-se a chave do elemento.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public void remove(final Comparable<K> key) throws ElementNotFoundException {
+        root = remove(key, root);
+    }
+
+    /**
+     * Método responsável por remover dado elemento contido em dada subárvore, copiando o caminho alterado.
+     * @param key         Refere-se a chave do elemento.
+     * @param currentNode Refere-se ao nó atual da remoção.
+     * @return Retorna nova raiz da subárvore.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    private Node<K, E> remove(final Comparable<K> key, final Node<K, E> currentNode) throws ElementNotFoundException {
+        if (currentNode == null) {
+            throw new ElementNotFoundException();
+        } else {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult > 0) {
+                return balance(currentNode.key, currentNode.element, remove(key, currentNode.sonOnTheLeft), currentNode.sonOnTheRight);
+            } else if (comparisonResult < 0) {
+                return balance(currentNode.key, currentNode.element, currentNode.sonOnTheLeft, remove(key, currentNode.sonOnTheRight));
+            } else {
+                return unlink(currentNode);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar a subárvore que substitui dado nó removido, copiando o caminho alterado.
+     * @param currentNode Refere-se ao nó removido.
+     * @return Retorna nova raiz da subárvore sem o nó removido.
+     */
+    private Node<K, E> unlink(final Node<K, E> currentNode) {
+        if (currentNode.sonOnTheLeft == null) {
+            return currentNode.sonOnTheRight;
+        } else if (currentNode.sonOnTheRight == null) {
+            return currentNode.sonOnTheLeft;
+        } else {
+            Node<K, E> successor = currentNode.sonOnTheRight;
+            while (successor.sonOnTheLeft != null) {
+                successor = successor.sonOnTheLeft;
+            }
+            return balance(successor.key, successor.element, currentNode.sonOnTheLeft, removeFirst(currentNode.sonOnTheRight));
+        }
+    }
+
+    /**
+     * Método responsável por remover o menor elemento de dada subárvore, copiando o caminho alterado.
+     * @param currentNode Refere-se ao nó atual da remoção.
+     * @return Retorna nova raiz da subárvore.
+     */
+    private Node<K, E> removeFirst(final Node<K, E> currentNode) {
+        if (currentNode.sonOnTheLeft == null) {
+            return currentNode.sonOnTheRight;
+        } else {
+            return balance(currentNode.key, currentNode.element, removeFirst(currentNode.sonOnTheLeft), currentNode.sonOnTheRight);
+        }
+    }
+
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * Os elementos mantidos são coletados em ordem e uma nova versão perfeitamente balanceada é construída.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        final ArrayList<Comparable<K>> keys = new ArrayList<>();
+        final ArrayList<E> elements = new ArrayList<>();
+        retain(filter, keys, elements, root);
+        if (keys.size() == size()) {
+            return false;
+        } else {
+            root = build(keys, elements, 0, keys.size());
+            return true;
+        }
+    }
+
+    /**
+     * Método responsável por coletar em ordem crescente os elementos de dada subárvore que não satisfazem dado critério.
+     * @param filter      Refere-se ao critério de remoção.
+     * @param keys        Refere-se as chaves mantidas.
+     * @param elements    Refere-se aos elementos mantidos.
+     * @param currentNode Refere-se ao nó atual do percurso.
+     */
+    private void retain(final Predicate<? super E> filter, final ArrayList<Comparable<K>> keys,
+            final ArrayList<E> elements, final Node<K, E> currentNode) {
+        if (currentNode != null) {
+            retain(filter, keys, elements, currentNode.sonOnTheLeft);
+            if (!filter.test(currentNode.element)) {
+                keys.add(currentNode.key);
+                elements.add(currentNode.element);
+            }
+            retain(filter, keys, elements, currentNode.sonOnTheRight);
+        }
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @throws KeyUsedException Exceção lançada no caso da chave do elemento estar em uso.
+     */
+    @Override
+    public void insert(final Comparable<K> key, final E element) throws KeyUsedException {
+        root = insert(key, element, root);
+    }
+
+    /**
+     * Método responsável por inserir dado elemento em dada subárvore, copiando o caminho alterado.
+     * @param key         Refere-se a chave do elemento.
+     * @param element     Refere-se ao elemento.
+     * @param currentNode Refere-se ao nó atual da inserção.
+     * @return Retorna nova raiz da subárvore.
+     * @throws KeyUsedException Exceção lançada no caso da chave do elemento estar em uso.
+     */
+    private Node<K, E> insert(final Comparable<K> key, final E element, final Node<K, E> currentNode) throws KeyUsedException {
+        if (currentNode == null) {
+            return new Node<>(key, element, null, null);
+        } else {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                throw new KeyUsedException(currentNode.element);
+            } else if (comparisonResult > 0) {
+                return balance(currentNode.key, currentNode.element, insert(key, element, currentNode.sonOnTheLeft), currentNode.sonOnTheRight);
+            } else {
+                return balance(currentNode.key, currentNode.element, currentNode.sonOnTheLeft, insert(key, element, currentNode.sonOnTheRight));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em uma única descida na árvore.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    @Override
+    public E compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping) {
+        final Object[] newElement = new Object[1];
+        root = compute(key, remapping, newElement, root);
+        return (E) newElement[0];
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em dada subárvore, copiando o caminho alterado.
+     * Se nada for alterado, a subárvore original é preservada sem cópias.
+     * @param key         Refere-se a chave do elemento.
+     * @param remapping   Refere-se a função que fornece o novo elemento.
+     * @param newElement  Refere-se ao recipiente do elemento que passou a ocupar a chave.
+     * @param currentNode Refere-se ao nó atual da descida.
+     * @return Retorna nova raiz da subárvore.
+     */
+    private Node<K, E> compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping,
+            final Object[] newElement, final Node<K, E> currentNode) {
+        if (currentNode == null) {
+            newElement[0] = remapping.apply(null);
+            return newElement[0] == null ? null : new Node<>(key, (E) newElement[0], null, null);
+        } else {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                newElement[0] = remapping.apply(currentNode.element);
+                if (newElement[0] == null) {
+                    return unlink(currentNode);
+                } else if (newElement[0] == currentNode.element) {
+                    return currentNode;
+                } else {
+                    return new Node<>(currentNode.key, (E) newElement[0], currentNode.sonOnTheLeft, currentNode.sonOnTheRight);
+                }
+            } else if (comparisonResult > 0) {
+                final Node<K, E> sonOnTheLeft = compute(key, remapping, newElement, currentNode.sonOnTheLeft);
+                return sonOnTheLeft == currentNode.sonOnTheLeft ? currentNode
+                        : balance(currentNode.key, currentNode.element, sonOnTheLeft, currentNode.sonOnTheRight);
+            } else {
+                final Node<K, E> sonOnTheRight = compute(key, remapping, newElement, currentNode.sonOnTheRight);
+                return sonOnTheRight == currentNode.sonOnTheRight ? currentNode
+                        : balance(currentNode.key, currentNode.element, currentNode.sonOnTheLeft, sonOnTheRight);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore ou, se a chave estiver em uso,
+     * combiná-lo ao elemento existente, sem lançar exceção.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    @Override
+    public E merge(final Comparable<K> key, final E element, final BiFunction<? super E, ? super E, ? extends E> remapping) {
+        return compute(key, currentElement -> currentElement == null ? element : remapping.apply(currentElement, element));
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore somente se a chave estiver livre, sem lançar exceção.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    @Override
+    public E putIfAbsent(final Comparable<K> key, final E element) {
+        final Object[] currentElement = new Object[1];
+        compute(key, oldElement -> {
+            currentElement[0] = oldElement;
+            return oldElement == null ? element : oldElement;
+        });
+        return (E) currentElement[0];
+    }
+
+    /**
+     * Método responsável por mover o elemento de dada chave para outra chave, em no máximo duas descidas na árvore.
+     * A primeira descida apenas localiza o elemento; a segunda resolve a colisão na nova chave antes de desligá-lo
+     * da chave atual, de modo que uma mudança recusada preserva a versão atual sem cópias.
+     * @param oldKey      Refere-se a chave atual do elemento.
+     * @param newKey      Refere-se a função que fornece a nova chave a partir do elemento.
+     * @param onCollision Refere-se a função que resolve a colisão com o elemento existente.
+     * @return Retorna elemento que passou a ocupar a nova chave, ou referência nula se a chave atual estiver livre
+     *         ou a mudança for recusada.
+     */
+    @Override
+    public E rekey(final Comparable<K> oldKey, final Function<? super E, ? extends Comparable<K>> newKey,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision) {
+        final Node<K, E> oldNode = search(oldKey, root);
+        if (oldNode == null) {
+            return null;
+        }
+        final Comparable<K> movedKey = newKey.apply(oldNode.element);
+        if (oldKey.compareTo((K) movedKey) == 0) {
+            return oldNode.element;
+        }
+        final Object[] newElement = new Object[1];
+        root = move(oldKey, movedKey, oldNode.element, onCollision, newElement, root);
+        return (E) newElement[0];
+    }
+
+    /**
+     * Método responsável por mover dado elemento entre duas chaves de dada subárvore em uma única descida,
+     * copiando o caminho alterado. Enquanto as duas chaves seguem o mesmo caminho a descida é compartilhada;
+     * no nó em que os caminhos se separam, a nova chave é resolvida primeiro e a chave atual só é removida
+     * se a mudança não for recusada.
+     * @param oldKey       Refere-se a chave atual do elemento.
+     * @param newKey       Refere-se a nova chave do elemento.
+     * @param movedElement Refere-se ao elemento movido.
+     * @param onCollision  Refere-se a função que resolve a colisão com o elemento existente.
+     * @param newElement   Refere-se ao recipiente do elemento que passou a ocupar a nova chave.
+     * @param currentNode  Refere-se ao nó atual da descida.
+     * @return Retorna nova raiz da subárvore, ou a própria subárvore se a mudança for recusada.
+     */
+    private Node<K, E> move(final Comparable<K> oldKey, final Comparable<K> newKey, final E movedElement,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision, final Object[] newElement, final Node<K, E> currentNode) {
+        final int oldComparison = currentNode.key.compareTo((K) oldKey);
+        final int newComparison = currentNode.key.compareTo((K) newKey);
+        if (oldComparison > 0 && newComparison > 0) {
+            final Node<K, E> sonOnTheLeft = move(oldKey, newKey, movedElement, onCollision, newElement, currentNode.sonOnTheLeft);
+            return sonOnTheLeft == currentNode.sonOnTheLeft ? currentNode
+                    : balance(currentNode.key, currentNode.element, sonOnTheLeft, currentNode.sonOnTheRight);
+        } else if (oldComparison < 0 && newComparison < 0) {
+            final Node<K, E> sonOnTheRight = move(oldKey, newKey, movedElement, onCollision, newElement, currentNode.sonOnTheRight);
+            return sonOnTheRight == currentNode.sonOnTheRight ? currentNode
+                    : balance(currentNode.key, currentNode.element, currentNode.sonOnTheLeft, sonOnTheRight);
+        }
+        final boolean[] refused = new boolean[1];
+        final Function<E, E> remapping = element -> {
+            if (element == null) {
+                return movedElement;
+            }
+            final E combinedElement = onCollision.apply(element, movedElement);
+            refused[0] = combinedElement == null;
+            return refused[0] ? element : combinedElement;
+        };
+        E element = currentNode.element;
+        Node<K, E> sonOnTheLeft = currentNode.sonOnTheLeft;
+        Node<K, E> sonOnTheRight = currentNode.sonOnTheRight;
+        if (newComparison == 0) {
+            element = remapping.apply(element);
+            newElement[0] = element;
+        } else if (newComparison > 0) {
+            sonOnTheLeft = compute(newKey, remapping, newElement, sonOnTheLeft);
+        } else {
+            sonOnTheRight = compute(newKey, remapping, newElement, sonOnTheRight);
+        }
+        if (refused[0]) {
+            newElement[0] = null;
+            return currentNode;
+        } else if (oldComparison == 0) {
+            return unlink(new Node<>(currentNode.key, element, sonOnTheLeft, sonOnTheRight));
+        } else if (oldComparison > 0) {
+            sonOnTheLeft = compute(oldKey, oldElement -> null, new Object[1], sonOnTheLeft);
+        } else {
+            sonOnTheRight = compute(oldKey, oldElement -> null, new Object[1], sonOnTheRight);
+        }
+        return balance(currentNode.key, element, sonOnTheLeft, sonOnTheRight);
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da árvore por dados elementos.
+     * Se os elementos já estiverem em ordem crescente de chave, a árvore é construída perfeitamente
+     * balanceada em tempo linear, do contrário são ordenados antes da construção.
+     * @param elements Refere-se aos elementos.
+     * @param key      Refere-se a função que fornece a chave de cada elemento.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    @Override
+    public void buildFromSorted(final Iterator<? extends E> elements, final Function<? super E, ? extends Comparable<K>> key) throws KeyUsedException {
+        final Tree<K, E> sorted = new Tree<>();
+        sorted.buildFromSorted(elements, key);
+        final ArrayList<Comparable<K>> keys = new ArrayList<>(sorted.size());
+        final ArrayList<E> values = new ArrayList<>(sorted.size());
+        sorted.forEach(false, element -> {
+            keys.add(key.apply(element));
+            values.add(element);
+        });
+        root = build(keys, values, 0, keys.size());
+    }
+
+    /**
+     * Método responsável por construir subárvore perfeitamente balanceada a partir de chaves ordenadas.
+     * @param keys     Refere-se as chaves em ordem crescente.
+     * @param elements Refere-se aos elementos correspondentes às chaves.
+     * @param begin    Refere-se a posição inicial, inclusiva.
+     * @param end      Refere-se a posição final, exclusiva.
+     * @return Retorna nó raiz da subárvore construída.
+     */
+    private Node<K, E> build(final ArrayList<Comparable<K>> keys, final ArrayList<E> elements, final int begin, final int end) {
+        if (begin >= end) {
+            return null;
+        } else {
+            final int middle = (begin + end) >>> 1;
+            return new Node<>(keys.get(middle), elements.get(middle), build(keys, elements, begin, middle), build(keys, elements, middle + 1, end));
+        }
+    }
+
+    /**
+     * Método responsável por percorrer por todos os elementos contidos na árvore.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos na árvore.
+     */
+    @Override
+    public void forEach(final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(null, null, reverse, element, root);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * Subárvores inteiramente fora do intervalo não são visitadas.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void forEachInRange(final Comparable<K> from, final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(from, to, reverse, element, root);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * @param from        Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to          Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse     Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element     Refere-se aos elementos contidos no intervalo.
+     * @param currentNode Refere-se ao nó atual da recursão.
+     */
+    private void forEachInRange(final Comparable<K> from, final Comparable<K> to, final boolean reverse, final Consumer<? super E> element, final Node<K, E> currentNode) {
+        if (currentNode != null) {
+            final boolean aboveFrom = from == null || currentNode.key.compareTo((K) from) >= 0;
+            final boolean belowTo = to == null || currentNode.key.compareTo((K) to) < 0;
+            if (reverse) {
+                if (belowTo) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheRight);
+                }
+                if (aboveFrom && belowTo) {
+                    element.accept(currentNode.element);
+                }
+                if (aboveFrom) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheLeft);
+                }
+            } else {
+                if (aboveFrom) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheLeft);
+                }
+                if (aboveFrom && belowTo) {
+                    element.accept(currentNode.element);
+                }
+                if (belowTo) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheRight);
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void headRange(final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(null, to, reverse, element, root);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void tailRange(final Comparable<K> from, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(from, null, reverse, element, root);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E floor(final Comparable<K> key) throws ElementNotFoundException {
+        Node<K, E> candidate = null;
+        Node<K, E> currentNode = root;
+        while (currentNode != null) {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                return currentNode.element;
+            } else if (comparisonResult > 0) {
+                currentNode = currentNode.sonOnTheLeft;
+            } else {
+                candidate = currentNode;
+                currentNode = currentNode.sonOnTheRight;
+            }
+        }
+        if (candidate == null) {
+            throw new ElementNotFoundException();
+        } else {
+            return candidate.element;
+        }
+    }
+
+    /**
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E ceiling(final Comparable<K> key) throws ElementNotFoundException {
+        Node<K, E> candidate = null;
+        Node<K, E> currentNode = root;
+        while (currentNode != null) {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                return currentNode.element;
+            } else if (comparisonResult < 0) {
+                currentNode = currentNode.sonOnTheRight;
+            } else {
+                candidate = currentNode;
+                currentNode = currentNode.sonOnTheLeft;
+            }
+        }
+        if (candidate == null) {
+            throw new ElementNotFoundException();
+        } else {
+            return candidate.element;
+        }
+    }
+
+    /**
+     * Método responsável por retornar iterador dos elementos da versão atual da árvore.
+     * Alterações posteriores na árvore não afetam o percurso.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na árvore.
+     */
+    @Override
+    public Iterator<E> iterator(final boolean reverse) {
+        return new Cursor<>(root, reverse);
+    }
+
+    /**
+     * Método responsável por retornar divisor dos elementos da versão atual da árvore em ordem crescente.
+     * Alterações posteriores na árvore não afetam o percurso.
+     * @return Retorna divisor dos elementos contidos na árvore.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Cursor<>(root, false);
+    }
+
+    /**
+     * Método responsável por gravar a árvore em um fluxo de objetos.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException Exceção lançada em caso de problemas no acesso ao fluxo.
+     */
+    private void writeObject(final ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(size(root));
+        writeNodes(stream, root);
+    }
+
+    /**
+     * Método responsável por gravar em ordem crescente as chaves e os elementos de dada subárvore.
+     * @param stream      Refere-se ao fluxo de objetos.
+     * @param currentNode Refere-se ao nó atual da recursão.
+     * @throws IOException Exceção lançada em caso de problemas no acesso ao fluxo.
+     */
+    private void writeNodes(final ObjectOutputStream stream, final Node<K, E> currentNode) throws IOException {
+        if (currentNode != null) {
+            writeNodes(stream, currentNode.sonOnTheLeft);
+            stream.writeObject(currentNode.key);
+            stream.writeObject(currentNode.element);
+            writeNodes(stream, currentNode.sonOnTheRight);
+        }
+    }
+
+    /**
+     * Método responsável por restaurar a árvore a partir de um fluxo de objetos.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException            Exceção lançada em caso de problemas no acesso ao fluxo.
+     * @throws ClassNotFoundException Exceção lançada em caso de não haver uma classe contida no fluxo.
+     */
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        final int count = stream.readInt();
+        final ArrayList<Comparable<K>> keys = new ArrayList<>(count);
+        final ArrayList<E> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add((Comparable<K>) stream.readObject());
+            elements.add((E) stream.readObject());
+        }
+        root = build(keys, elements, 0, count);
+    }
+
+    /**
+     * Método responsável por retornar a altura de dada subárvore.
+     * @param currentNode Refere-se ao nó raiz da subárvore.
+     * @return Retorna altura da subárvore.
+     */
+    private static int height(final Node<?, ?> currentNode) {
+        return currentNode == null ? 0 : currentNode.height;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de elementos contidos em dada subárvore.
+     * @param currentNode Refere-se ao nó raiz da subárvore.
+     * @return Retorna quantidade de elementos contidos na subárvore.
+     */
+    private static int size(final Node<?, ?> currentNode) {
+        return currentNode == null ? 0 : currentNode.size;
+    }
+
+    /**
+     * Método responsável por criar nó balanceado a partir de dados filhos cujas alturas diferem em até dois.
+     * Quando necessário, a rotação é aplicada diretamente na criação dos novos nós, sem alterar os existentes.
+     * @param key           Refere-se a chave do nó.
+     * @param element       Refere-se ao elemento do nó.
+     * @param sonOnTheLeft  Refere-se ao filho à esquerda.
+     * @param sonOnTheRight Refere-se ao filho à direita.
+     * @return Retorna nó raiz da subárvore balanceada.
+     */
+    private Node<K, E> balance(final Comparable<K> key, final E element, final Node<K, E> sonOnTheLeft, final Node<K, E> sonOnTheRight) {
+        if (height(sonOnTheLeft) > height(sonOnTheRight) + 1) {
+            final Node<K, E> left = sonOnTheLeft;
+            if (height(left.sonOnTheLeft) >= height(left.sonOnTheRight)) {
+                return new Node<>(left.key, left.element, left.sonOnTheLeft, new Node<>(key, element, left.sonOnTheRight, sonOnTheRight));
+            } else {
+                final Node<K, E> middle = left.sonOnTheRight;
+                return new Node<>(middle.key, middle.element,
+                        new Node<>(left.key, left.element, left.sonOnTheLeft, middle.sonOnTheLeft),
+                        new Node<>(key, element, middle.sonOnTheRight, sonOnTheRight));
+            }
+        } else if (height(sonOnTheRight) > height(sonOnTheLeft) + 1) {
+            final Node<K, E> right = sonOnTheRight;
+            if (height(right.sonOnTheRight) >= height(right.sonOnTheLeft)) {
+                return new Node<>(right.key, right.element, new Node<>(key, element, sonOnTheLeft, right.sonOnTheLeft), right.sonOnTheRight);
+            } else {
+                final Node<K, E> middle = right.sonOnTheLeft;
+                return new Node<>(middle.key, middle.element,
+                        new Node<>(key, element, sonOnTheLeft, middle.sonOnTheLeft),
+                        new Node<>(right.key, right.element, middle.sonOnTheRight, right.sonOnTheRight));
+            }
+        } else {
+            return new Node<>(key, element, sonOnTheLeft, sonOnTheRight);
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como cursor de percurso iterativo de uma versão da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <K> Refere-se ao tipo de chave usada na árvore.
+     * @param <E> Refere-se ao tipo de elemento armazenado na árvore.
+     */
+    private static class Cursor<K, E> implements Iterator<E>, Spliterator<E> {
+        /**
+         * Refere-se ao nó raiz da versão percorrida.
+         */
+        private final Node<K, E> root;
+        /**
+         * Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private final boolean reverse;
+        /**
+         * Refere-se a pilha de nós pendentes, cujo topo é o próximo elemento.
+         */
+        private final Object[] stack;
+        /**
+         * Refere-se a quantidade de nós contidos na pilha.
+         */
+        private int top;
+        /**
+         * Refere-se a posição do próximo elemento do percurso.
+         */
+        private int index;
+        /**
+         * Refere-se a posição que encerra o percurso.
+         */
+        private final int fence;
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor posicionado no primeiro elemento.
+         * @param root    Refere-se ao nó raiz da versão percorrida.
+         * @param reverse Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private Cursor(final Node<K, E> root, final boolean reverse) {
+            this.root = root;
+            this.reverse = reverse;
+            this.stack = new Object[height(root)];
+            this.top = 0;
+            this.index = 0;
+            this.fence = size(root);
+            pushPath(root);
+        }
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor que assume parte de outro percurso.
+         * @param cursor Refere-se ao cursor cujo estado é copiado.
+         * @param fence  Refere-se a posição que encerra o percurso.
+         */
+        private Cursor(final Cursor<K, E> cursor, final int fence) {
+            this.root = cursor.root;
+            this.reverse = cursor.reverse;
+            this.stack = cursor.stack.clone();
+            this.top = cursor.top;
+            this.index = cursor.index;
+            this.fence = fence;
+        }
+
+        /**
+         * Método responsável por retornar o filho visitado antes de dado nó.
+         * @param currentNode Refere-se ao nó atual.
+         * @return Retorna filho visitado antes do nó.
+         */
+        private Node<K, E> before(final Node<K, E> currentNode) {
+            return reverse ? currentNode.sonOnTheRight : currentNode.sonOnTheLeft;
+        }
+
+        /**
+         * Método responsável por retornar o filho visitado depois de dado nó.
+         * @param currentNode Refere-se ao nó atual.
+         * @return Retorna filho visitado depois do nó.
+         */
+        private Node<K, E> after(final Node<K, E> currentNode) {
+            return reverse ? currentNode.sonOnTheLeft : currentNode.sonOnTheRight;
+        }
+
+        /**
+         * Método responsável por empilhar o caminho até o primeiro elemento de dada subárvore.
+         * @param currentNode Refere-se ao nó raiz da subárvore.
+         */
+        private void pushPath(Node<K, E> currentNode) {
+            while (currentNode != null) {
+                stack[top++] = currentNode;
+                currentNode = before(currentNode);
+            }
+        }
+
+        /**
+         * Método responsável por reposicionar o cursor em dada posição do percurso.
+         * @param position Refere-se a nova posição do cursor.
+         */
+        private void moveTo(final int position) {
+            top = 0;
+            index = position;
+            int remaining = position;
+            Node<K, E> currentNode = root;
+            while (currentNode != null) {
+                final int sizeBefore = size(before(currentNode));
+                if (remaining < sizeBefore) {
+                    stack[top++] = currentNode;
+                    currentNode = before(currentNode);
+                } else if (remaining == sizeBefore) {
+                    stack[top++] = currentNode;
+                    currentNode = null;
+                } else {
+                    remaining -= sizeBefore + 1;
+                    currentNode = after(currentNode);
+                }
+            }
+        }
+
+        /**
+         * Método responsável por indicar se há elementos a percorrer.
+         * @return Retorna indicativo de que há elementos a percorrer.
+         */
+        @Override
+        public boolean hasNext() {
+            return index < fence;
+        }
+
+        /**
+         * Método responsável por retornar o próximo elemento do percurso.
+         * @return Retorna próximo elemento do percurso.
+         */
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Node<K, E> currentNode = (Node<K, E>) stack[--top];
+            pushPath(after(currentNode));
+            index++;
+            return currentNode.element;
+        }
+
+        /**
+         * Método responsável por consumir o próximo elemento do percurso, se houver.
+         * @param action Refere-se a ação aplicada ao elemento.
+         * @return Retorna indicativo de que havia elemento a consumir.
+         */
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            if (hasNext()) {
+                action.accept(next());
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        /**
+         * Método responsável por consumir todos os elementos restantes do percurso.
+         * @param action Refere-se a ação aplicada a cada elemento.
+         */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            while (hasNext()) {
+                action.accept(next());
+            }
+        }
+
+        /**
+         * Método responsável por dividir o percurso, cedendo sua primeira metade a um novo cursor.
+         * @return Retorna cursor da primeira metade ou referência nula se não houver o que dividir.
+         */
+        @Override
+        public Spliterator<E> trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (reverse || middle <= index) {
+                return null;
+            } else {
+                final Cursor<K, E> prefix = new Cursor<>(this, middle);
+                moveTo(middle);
+                return prefix;
+            }
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de elementos restantes no percurso.
+         * @return Retorna quantidade de elementos restantes.
+         */
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        /**
+         * Método responsável por retornar as características do percurso.
+         * @return Retorna características do percurso.
+         */
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como nó imutável de árvore persistente.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <K> Refere-se ao tipo de chave usada no nó.
+     * @param <E> Refere-se ao tipo de elemento armazenado no nó.
+     */
+    private static final class Node<K, E> {
+        /**
+         * Refere-se a chave do nó.
+         */
+        private final Comparable<K> key;
+        /**
+         * Refere-se ao elemento do nó.
+         */
+        private final E element;
+        /**
+         * Refere-se a altura da subárvore cuja raiz é o nó.
+         */
+        private final int height;
+        /**
+         * Refere-se a quantidade de elementos da subárvore cuja raiz é o nó.
+         */
+        private final int size;
+        /**
+         * Refere-se ao filho à esquerda do nó.
+         */
+        private final Node<K, E> sonOnTheLeft;
+        /**
+         * Refere-se ao filho à direita do nó.
+         */
+        private final Node<K, E> sonOnTheRight;
+
+        /**
+         * Construtor responsável pelo instanciamento do nó.
+         * @param key           Refere-se a chave do nó.
+         * @param element       Refere-se ao elemento do nó.
+         * @param sonOnTheLeft  Refere-se ao filho à esquerda.
+         * @param sonOnTheRight Refere-se ao filho à direita.
+         */
+        private Node(final Comparable<K> key, final E element, final Node<K, E> sonOnTheLeft, final Node<K, E> sonOnTheRight) {
+            this.key = key;
+            this.element = element;
+            this.sonOnTheLeft = sonOnTheLeft;
+            this.sonOnTheRight = sonOnTheRight;
+            this.height = Math.max(height(sonOnTheLeft), height(sonOnTheRight)) + 1;
+            this.size = size(sonOnTheLeft) + size(sonOnTheRight) + 1;
+        }
+
+    }
+
+}
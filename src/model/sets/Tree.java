@@ -21,8 +21,20 @@ package model.sets;
 
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Classe responsável por comportar-se como árvore.
@@ -35,6 +47,13 @@ public class Tree<K, E> implements ITree<K, E> {
      * Refere-se ao número de série da classe.
      */
     private static final long serialVersionUID = -5226384390486923525L;
+    /**
+     * Refere-se aos campos gravados em fluxo de objetos, sendo a raiz mantida para leitura de registros antigos.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("root", Tree.Node.class),
+        new ObjectStreamField("count", int.class)
+    };
     /**
      * Refere-se ao nó raiz da árvore.
      */
@@ -57,16 +76,12 @@ public class Tree<K, E> implements ITree<K, E> {
     }
 
     /**
-     * Método responsável por retornar a quantidade de elementos contidos na árvore.
-     * @param currentNode Refere-se ao nó atual da contagem.
-     * @return Retorna quantidade de elementos contidos na árvore.
+     * Método responsável por retornar a quantidade de elementos contidos em dada subárvore.
+     * @param currentNode Refere-se ao nó raiz da subárvore.
+     * @return Retorna quantidade de elementos contidos na subárvore.
      */
     private int size(final Node currentNode) {
-        if (currentNode == null) {
-            return 0;
-        } else {
-            return size(currentNode.sonOnTheLeft) + size(currentNode.sonOnTheRight) + 1;
-        }
+        return currentNode == null ? 0 : currentNode.size;
     }
 
     /**
@@ -133,6 +148,71 @@ public class Tree<K, E> implements ITree<K, E> {
         }
     }
 
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key Refere-se a chave do elemento.
+     * @return Retorna posição do elemento, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    @Override
+    public int rank(final Comparable<K> key) throws ElementNotFoundException {
+        return rank(key, root);
+    }
+
+    /**
+     * Método responsável por retornar a posição de dado elemento na ordem crescente das chaves.
+     * @param key         Refere-se a chave do elemento.
+     * @param currentNode Refere-se ao nó atual da busca.
+     * @return Retorna posição do elemento na subárvore, iniciada em zero.
+     * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+     */
+    private int rank(final Comparable<K> key, final Node currentNode) throws ElementNotFoundException {
+        if (currentNode == null) {
+            throw new ElementNotFoundException();
+        } else {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                return size(currentNode.sonOnTheLeft);
+            } else if (comparisonResult > 0) {
+                return rank(key, currentNode.sonOnTheLeft);
+            } else {
+                return size(currentNode.sonOnTheLeft) + 1 + rank(key, currentNode.sonOnTheRight);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index Refere-se a posição do elemento, iniciada em zero.
+     * @return Retorna elemento que ocupa a posição.
+     * @throws ElementNotFoundException Exceção lançada no caso da posição não ser ocupada por nenhum elemento.
+     */
+    @Override
+    public E select(final int index) throws ElementNotFoundException {
+        if (index < 0 || index >= size()) {
+            throw new ElementNotFoundException();
+        } else {
+            return select(index, root);
+        }
+    }
+
+    /**
+     * Método responsável por retornar o elemento que ocupa dada posição na ordem crescente das chaves.
+     * @param index       Refere-se a posição do elemento na subárvore, iniciada em zero.
+     * @param currentNode Refere-se ao nó atual da busca.
+     * @return Retorna elemento que ocupa a posição.
+     */
+    private E select(final int index, final Node currentNode) {
+        final int sizeOnTheLeft = size(currentNode.sonOnTheLeft);
+        if (index == sizeOnTheLeft) {
+            return currentNode.element;
+        } else if (index < sizeOnTheLeft) {
+            return select(index, currentNode.sonOnTheLeft);
+        } else {
+            return select(index - sizeOnTheLeft - 1, currentNode.sonOnTheRight);
+        }
+    }
+
     /**
      * Método responsável por remover dado elemento que está contido na árvore.
      * @param key Refere-se a chave do elemento.
@@ -187,6 +267,44 @@ public class Tree<K, E> implements ITree<K, E> {
         }
     }
 
+    /**
+     * Método responsável por remover todos os elementos que satisfazem dado critério.
+     * Os elementos mantidos são coletados em ordem e a árvore é reconstruída perfeitamente balanceada.
+     * @param filter Refere-se ao critério de remoção.
+     * @return Retorna indicativo de que algum elemento foi removido.
+     */
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        final ArrayList<Object> keys = new ArrayList<>();
+        final ArrayList<Object> elements = new ArrayList<>();
+        retain(filter, keys, elements, root);
+        if (keys.size() == size()) {
+            return false;
+        } else {
+            root = build(keys.toArray(), elements.toArray(), 0, keys.size());
+            return true;
+        }
+    }
+
+    /**
+     * Método responsável por coletar em ordem crescente os elementos de dada subárvore que não satisfazem dado critério.
+     * @param filter      Refere-se ao critério de remoção.
+     * @param keys        Refere-se as chaves mantidas.
+     * @param elements    Refere-se aos elementos mantidos.
+     * @param currentNode Refere-se ao nó atual do percurso.
+     */
+    private void retain(final Predicate<? super E> filter, final ArrayList<Object> keys,
+            final ArrayList<Object> elements, final Node currentNode) {
+        if (currentNode != null) {
+            retain(filter, keys, elements, currentNode.sonOnTheLeft);
+            if (!filter.test(currentNode.element)) {
+                keys.add(currentNode.key);
+                elements.add(currentNode.element);
+            }
+            retain(filter, keys, elements, currentNode.sonOnTheRight);
+        }
+    }
+
     /**
      * Método responsável por inserir dado elemento na árvore.
      * @param key     Refere-se a chave do elemento.
@@ -222,6 +340,229 @@ public class Tree<K, E> implements ITree<K, E> {
         }
     }
 
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em uma única descida na árvore.
+     * @param key       Refere-se a chave do elemento.
+     * @param remapping Refere-se a função que fornece o novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave, ou referência nula se a chave ficou livre.
+     */
+    @Override
+    public E compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping) {
+        final Object[] newElement = new Object[1];
+        root = compute(key, remapping, newElement, root);
+        return (E) newElement[0];
+    }
+
+    /**
+     * Método responsável por recalcular o elemento associado a dada chave em dada subárvore.
+     * @param key         Refere-se a chave do elemento.
+     * @param remapping   Refere-se a função que fornece o novo elemento.
+     * @param newElement  Refere-se ao recipiente do elemento que passou a ocupar a chave.
+     * @param currentNode Refere-se ao nó atual da descida.
+     * @return Retorna nó raiz da subárvore reconstruida.
+     */
+    private Node compute(final Comparable<K> key, final Function<? super E, ? extends E> remapping,
+            final Object[] newElement, final Node currentNode) {
+        if (currentNode == null) {
+            newElement[0] = remapping.apply(null);
+            return newElement[0] == null ? null : new Node(key, (E) newElement[0]);
+        } else {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                newElement[0] = remapping.apply(currentNode.element);
+                if (newElement[0] == null) {
+                    return remove(key, currentNode);
+                } else {
+                    currentNode.element = (E) newElement[0];
+                    return currentNode;
+                }
+            } else if (comparisonResult > 0) {
+                currentNode.sonOnTheLeft = compute(key, remapping, newElement, currentNode.sonOnTheLeft);
+            } else {
+                currentNode.sonOnTheRight = compute(key, remapping, newElement, currentNode.sonOnTheRight);
+            }
+            return adjustHeight(currentNode);
+        }
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore ou, se a chave estiver em uso,
+     * combiná-lo ao elemento existente, sem lançar exceção.
+     * @param key       Refere-se a chave do elemento.
+     * @param element   Refere-se ao elemento.
+     * @param remapping Refere-se a função que combina o elemento existente ao novo elemento.
+     * @return Retorna elemento que passou a ocupar a chave.
+     */
+    @Override
+    public E merge(final Comparable<K> key, final E element, final BiFunction<? super E, ? super E, ? extends E> remapping) {
+        return compute(key, currentElement -> currentElement == null ? element : remapping.apply(currentElement, element));
+    }
+
+    /**
+     * Método responsável por inserir dado elemento na árvore somente se a chave estiver livre, sem lançar exceção.
+     * @param key     Refere-se a chave do elemento.
+     * @param element Refere-se ao elemento.
+     * @return Retorna elemento que já ocupava a chave, ou referência nula se o elemento foi inserido.
+     */
+    @Override
+    public E putIfAbsent(final Comparable<K> key, final E element) {
+        final Object[] currentElement = new Object[1];
+        compute(key, oldElement -> {
+            currentElement[0] = oldElement;
+            return oldElement == null ? element : oldElement;
+        });
+        return (E) currentElement[0];
+    }
+
+    /**
+     * Método responsável por mover o elemento de dada chave para outra chave, em no máximo duas descidas na árvore.
+     * A primeira descida apenas localiza o elemento; a segunda resolve a colisão na nova chave antes de desligá-lo
+     * da chave atual, de modo que uma mudança recusada não altera a árvore.
+     * @param oldKey      Refere-se a chave atual do elemento.
+     * @param newKey      Refere-se a função que fornece a nova chave a partir do elemento.
+     * @param onCollision Refere-se a função que resolve a colisão com o elemento existente.
+     * @return Retorna elemento que passou a ocupar a nova chave, ou referência nula se a chave atual estiver livre
+     *         ou a mudança for recusada.
+     */
+    @Override
+    public E rekey(final Comparable<K> oldKey, final Function<? super E, ? extends Comparable<K>> newKey,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision) {
+        final E movedElement = search(oldKey, root);
+        if (movedElement == null) {
+            return null;
+        }
+        final Comparable<K> movedKey = newKey.apply(movedElement);
+        if (oldKey.compareTo((K) movedKey) == 0) {
+            return movedElement;
+        }
+        final Object[] newElement = new Object[1];
+        root = move(oldKey, movedKey, movedElement, onCollision, newElement, root);
+        return (E) newElement[0];
+    }
+
+    /**
+     * Método responsável por mover dado elemento entre duas chaves de dada subárvore em uma única descida.
+     * Enquanto as duas chaves seguem o mesmo caminho a descida é compartilhada; no nó em que os caminhos se separam,
+     * a nova chave é resolvida primeiro e a chave atual só é removida se a mudança não for recusada.
+     * @param oldKey       Refere-se a chave atual do elemento.
+     * @param newKey       Refere-se a nova chave do elemento.
+     * @param movedElement Refere-se ao elemento movido.
+     * @param onCollision  Refere-se a função que resolve a colisão com o elemento existente.
+     * @param newElement   Refere-se ao recipiente do elemento que passou a ocupar a nova chave.
+     * @param currentNode  Refere-se ao nó atual da descida.
+     * @return Retorna nó raiz da subárvore reconstruida.
+     */
+    private Node move(final Comparable<K> oldKey, final Comparable<K> newKey, final E movedElement,
+            final BiFunction<? super E, ? super E, ? extends E> onCollision, final Object[] newElement, final Node currentNode) {
+        final int oldComparison = currentNode.key.compareTo((K) oldKey);
+        final int newComparison = currentNode.key.compareTo((K) newKey);
+        if (oldComparison > 0 && newComparison > 0) {
+            currentNode.sonOnTheLeft = move(oldKey, newKey, movedElement, onCollision, newElement, currentNode.sonOnTheLeft);
+            return adjustHeight(currentNode);
+        } else if (oldComparison < 0 && newComparison < 0) {
+            currentNode.sonOnTheRight = move(oldKey, newKey, movedElement, onCollision, newElement, currentNode.sonOnTheRight);
+            return adjustHeight(currentNode);
+        }
+        final boolean[] refused = new boolean[1];
+        final Function<E, E> remapping = element -> {
+            if (element == null) {
+                return movedElement;
+            }
+            final E combinedElement = onCollision.apply(element, movedElement);
+            refused[0] = combinedElement == null;
+            return refused[0] ? element : combinedElement;
+        };
+        if (newComparison == 0) {
+            newElement[0] = remapping.apply(currentNode.element);
+            currentNode.element = (E) newElement[0];
+        } else if (newComparison > 0) {
+            currentNode.sonOnTheLeft = compute(newKey, remapping, newElement, currentNode.sonOnTheLeft);
+        } else {
+            currentNode.sonOnTheRight = compute(newKey, remapping, newElement, currentNode.sonOnTheRight);
+        }
+        if (refused[0]) {
+            newElement[0] = null;
+        } else if (oldComparison == 0) {
+            return remove(oldKey, currentNode);
+        } else if (oldComparison > 0) {
+            currentNode.sonOnTheLeft = remove(oldKey, currentNode.sonOnTheLeft);
+        } else {
+            currentNode.sonOnTheRight = remove(oldKey, currentNode.sonOnTheRight);
+        }
+        return adjustHeight(currentNode);
+    }
+
+    /**
+     * Método responsável por substituir o conteúdo da árvore por dados elementos.
+     * Se os elementos já estiverem em ordem crescente de chave, a árvore é construída perfeitamente
+     * balanceada em tempo linear, do contrário são ordenados antes da construção.
+     * @param elements Refere-se aos elementos.
+     * @param key      Refere-se a função que fornece a chave de cada elemento.
+     * @throws KeyUsedException Exceção lançada no caso de dois elementos possuírem a mesma chave.
+     */
+    @Override
+    public void buildFromSorted(final Iterator<? extends E> elements, final Function<? super E, ? extends Comparable<K>> key) throws KeyUsedException {
+        final ArrayList<E> elementList = new ArrayList<>();
+        final ArrayList<Comparable<K>> keyList = new ArrayList<>();
+        boolean sorted = true;
+        while (elements.hasNext()) {
+            final E element = elements.next();
+            final Comparable<K> currentKey = key.apply(element);
+            if (!keyList.isEmpty()) {
+                final int comparisonResult = keyList.get(keyList.size() - 1).compareTo((K) currentKey);
+                if (comparisonResult == 0) {
+                    throw new KeyUsedException(elementList.get(elementList.size() - 1));
+                } else if (comparisonResult > 0) {
+                    sorted = false;
+                }
+            }
+            elementList.add(element);
+            keyList.add(currentKey);
+        }
+        final int count = keyList.size();
+        final Object[] keys = new Object[count];
+        final Object[] values = new Object[count];
+        if (sorted) {
+            keyList.toArray(keys);
+            elementList.toArray(values);
+        } else {
+            final Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) -> keyList.get(first).compareTo((K) keyList.get(second)));
+            for (int i = 0; i < count; i++) {
+                keys[i] = keyList.get(order[i]);
+                values[i] = elementList.get(order[i]);
+                if (i > 0 && ((Comparable<K>) keys[i - 1]).compareTo((K) keys[i]) == 0) {
+                    throw new KeyUsedException(values[i - 1]);
+                }
+            }
+        }
+        root = build(keys, values, 0, count);
+    }
+
+    /**
+     * Método responsável por construir subárvore perfeitamente balanceada a partir de chaves ordenadas.
+     * @param keys     Refere-se as chaves em ordem crescente.
+     * @param elements Refere-se aos elementos correspondentes às chaves.
+     * @param begin    Refere-se a posição inicial, inclusiva.
+     * @param end      Refere-se a posição final, exclusiva.
+     * @return Retorna nó raiz da subárvore construída.
+     */
+    private Node build(final Object[] keys, final Object[] elements, final int begin, final int end) {
+        if (begin >= end) {
+            return null;
+        } else {
+            final int middle = (begin + end) >>> 1;
+            final Node currentNode = new Node((Comparable<K>) keys[middle], (E) elements[middle]);
+            currentNode.sonOnTheLeft = build(keys, elements, begin, middle);
+            currentNode.sonOnTheRight = build(keys, elements, middle + 1, end);
+            update(currentNode);
+            return currentNode;
+        }
+    }
+
     /**
      * Método responsável por percorrer por todos os elementos contidos na árvore.
      * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
@@ -263,26 +604,262 @@ public class Tree<K, E> implements ITree<K, E> {
     }
 
     /**
-     * Método responsável por calcular a altura da árvore.
-     * @param currentNode Refere-se ao nó atual da contagem.
-     * @return Retorna altura da árvore.
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * Subárvores inteiramente fora do intervalo não são visitadas.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to      Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void forEachInRange(final Comparable<K> from, final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(from, to, reverse, element, root);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves pertencem a dado intervalo.
+     * @param from        Refere-se a chave inicial do intervalo, inclusiva, ou referência nula para não limitá-lo.
+     * @param to          Refere-se a chave final do intervalo, exclusiva, ou referência nula para não limitá-lo.
+     * @param reverse     Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element     Refere-se aos elementos contidos no intervalo.
+     * @param currentNode Refere-se ao nó atual da recursão.
+     */
+    private void forEachInRange(final Comparable<K> from, final Comparable<K> to, final boolean reverse, final Consumer<? super E> element, final Node currentNode) {
+        if (currentNode != null) {
+            final boolean aboveFrom = from == null || currentNode.key.compareTo((K) from) >= 0;
+            final boolean belowTo = to == null || currentNode.key.compareTo((K) to) < 0;
+            if (reverse) {
+                if (belowTo) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheRight);
+                }
+                if (aboveFrom && belowTo) {
+                    element.accept(currentNode.element);
+                }
+                if (aboveFrom) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheLeft);
+                }
+            } else {
+                if (aboveFrom) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheLeft);
+                }
+                if (aboveFrom && belowTo) {
+                    element.accept(currentNode.element);
+                }
+                if (belowTo) {
+                    forEachInRange(from, to, reverse, element, currentNode.sonOnTheRight);
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são menores que dada chave.
+     * @param to      Refere-se a chave final do intervalo, exclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
+     */
+    @Override
+    public void headRange(final Comparable<K> to, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(null, to, reverse, element, root);
+    }
+
+    /**
+     * Método responsável por percorrer pelos elementos cujas chaves são maiores ou iguais a dada chave.
+     * @param from    Refere-se a chave inicial do intervalo, inclusiva.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @param element Refere-se aos elementos contidos no intervalo.
      */
-    private int calculateHeight(final Node currentNode) {
+    @Override
+    public void tailRange(final Comparable<K> from, final boolean reverse, final Consumer<? super E> element) {
+        forEachInRange(from, null, reverse, element, root);
+    }
+
+    /**
+     * Método responsável por retornar o elemento de maior chave menor ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de maior chave menor ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E floor(final Comparable<K> key) throws ElementNotFoundException {
+        final Node node = floor(key, root);
+        if (node == null) {
+            throw new ElementNotFoundException();
+        } else {
+            return node.element;
+        }
+    }
+
+    /**
+     * Método responsável por retornar o nó de maior chave menor ou igual a dada chave.
+     * @param key         Refere-se a chave de referência.
+     * @param currentNode Refere-se ao nó atual da busca.
+     * @return Retorna nó encontrado, do contrário retorna referência nula.
+     */
+    private Node floor(final Comparable<K> key, final Node currentNode) {
         if (currentNode == null) {
-            return 0;
+            return null;
         } else {
-            return Math.max(1 + calculateHeight(currentNode.sonOnTheLeft),
-                    1 + calculateHeight(currentNode.sonOnTheRight));
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                return currentNode;
+            } else if (comparisonResult > 0) {
+                return floor(key, currentNode.sonOnTheLeft);
+            } else {
+                final Node node = floor(key, currentNode.sonOnTheRight);
+                return node == null ? currentNode : node;
+            }
         }
     }
 
     /**
-     * Método responsável por calcular o balanceamento da árvore.
+     * Método responsável por retornar o elemento de menor chave maior ou igual a dada chave.
+     * @param key Refere-se a chave de referência.
+     * @return Retorna elemento de menor chave maior ou igual a chave de referência.
+     * @throws ElementNotFoundException Exceção lançada no caso de não haver tal elemento.
+     */
+    @Override
+    public E ceiling(final Comparable<K> key) throws ElementNotFoundException {
+        final Node node = ceiling(key, root);
+        if (node == null) {
+            throw new ElementNotFoundException();
+        } else {
+            return node.element;
+        }
+    }
+
+    /**
+     * Método responsável por retornar o nó de menor chave maior ou igual a dada chave.
+     * @param key         Refere-se a chave de referência.
+     * @param currentNode Refere-se ao nó atual da busca.
+     * @return Retorna nó encontrado, do contrário retorna referência nula.
+     */
+    private Node ceiling(final Comparable<K> key, final Node currentNode) {
+        if (currentNode == null) {
+            return null;
+        } else {
+            final int comparisonResult = currentNode.key.compareTo((K) key);
+            if (comparisonResult == 0) {
+                return currentNode;
+            } else if (comparisonResult < 0) {
+                return ceiling(key, currentNode.sonOnTheRight);
+            } else {
+                final Node node = ceiling(key, currentNode.sonOnTheLeft);
+                return node == null ? currentNode : node;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar iterador dos elementos contidos na árvore.
+     * @param reverse Refere-se a indicativo de que deve-se percorrer em ordem reversa.
+     * @return Retorna iterador dos elementos contidos na árvore.
+     */
+    @Override
+    public Iterator<E> iterator(final boolean reverse) {
+        return new Cursor(reverse);
+    }
+
+    /**
+     * Método responsável por retornar divisor dos elementos contidos na árvore em ordem crescente.
+     * @return Retorna divisor dos elementos contidos na árvore.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Cursor(false);
+    }
+
+    /**
+     * Método responsável por recalcular as alturas e quantidades armazenadas em todos os nós da árvore.
+     * @param currentNode Refere-se ao nó atual do recálculo.
+     */
+    private void recalculate(final Node currentNode) {
+        if (currentNode != null) {
+            recalculate(currentNode.sonOnTheLeft);
+            recalculate(currentNode.sonOnTheRight);
+            update(currentNode);
+        }
+    }
+
+    /**
+     * Método responsável por gravar a árvore em um fluxo de objetos.
+     * Os elementos são gravados em ordem crescente, acompanhados de suas chaves, de modo que a
+     * restauração reconstrói a árvore em tempo linear.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException Exceção lançada em caso de problemas no acesso ao fluxo.
+     */
+    private void writeObject(final ObjectOutputStream stream) throws IOException {
+        final ObjectOutputStream.PutField fields = stream.putFields();
+        fields.put("root", null);
+        fields.put("count", size(root));
+        stream.writeFields();
+        writeNodes(stream, root);
+    }
+
+    /**
+     * Método responsável por gravar em ordem crescente as chaves e os elementos de dada subárvore.
+     * @param stream      Refere-se ao fluxo de objetos.
      * @param currentNode Refere-se ao nó atual da recursão.
+     * @throws IOException Exceção lançada em caso de problemas no acesso ao fluxo.
+     */
+    private void writeNodes(final ObjectOutputStream stream, final Node currentNode) throws IOException {
+        if (currentNode != null) {
+            writeNodes(stream, currentNode.sonOnTheLeft);
+            stream.writeObject(currentNode.key);
+            stream.writeObject(currentNode.element);
+            writeNodes(stream, currentNode.sonOnTheRight);
+        }
+    }
+
+    /**
+     * Método responsável por restaurar a árvore a partir de um fluxo de objetos.
+     * Registros gravados com os nós encadeados têm altura e quantidade recalculadas.
+     * @param stream Refere-se ao fluxo de objetos.
+     * @throws IOException            Exceção lançada em caso de problemas no acesso ao fluxo.
+     * @throws ClassNotFoundException Exceção lançada em caso de não haver uma classe contida no fluxo.
+     */
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = stream.readFields();
+        final int count = fields.get("count", -1);
+        if (count < 0) {
+            root = (Node) fields.get("root", null);
+            recalculate(root);
+        } else {
+            final Object[] keys = new Object[count];
+            final Object[] elements = new Object[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = stream.readObject();
+                elements[i] = stream.readObject();
+            }
+            root = build(keys, elements, 0, count);
+        }
+    }
+
+    /**
+     * Método responsável por retornar a altura de dada subárvore.
+     * @param currentNode Refere-se ao nó raiz da subárvore.
+     * @return Retorna altura da subárvore.
+     */
+    private int height(final Node currentNode) {
+        return currentNode == null ? 0 : currentNode.height;
+    }
+
+    /**
+     * Método responsável por atualizar a altura e a quantidade armazenadas em dado nó a partir de seus filhos.
+     * @param currentNode Refere-se ao nó atual da atualização.
+     */
+    private void update(final Node currentNode) {
+        currentNode.height = Math.max(height(currentNode.sonOnTheLeft), height(currentNode.sonOnTheRight)) + 1;
+        currentNode.size = size(currentNode.sonOnTheLeft) + size(currentNode.sonOnTheRight) + 1;
+    }
+
+    /**
+     * Método responsável por calcular o balanceamento de dado nó.
+     * @param currentNode Refere-se ao nó atual do cálculo.
+     * @return Retorna balanceamento do nó.
      */
-    private void calculateBalance(final Node currentNode) {
-        currentNode.balancing = (calculateHeight(currentNode.sonOnTheRight)
-                - calculateHeight(currentNode.sonOnTheLeft));
+    private int calculateBalance(final Node currentNode) {
+        return height(currentNode.sonOnTheRight) - height(currentNode.sonOnTheLeft);
     }
 
     /**
@@ -291,15 +868,16 @@ public class Tree<K, E> implements ITree<K, E> {
      * @return Retorna nó raiz da árvore reconstruida com altura ajustada.
      */
     private Node adjustHeight(final Node currentNode) {
-        calculateBalance(currentNode);
-        if (currentNode.balancing <= -2) {
-            if (currentNode.balancing * currentNode.sonOnTheLeft.balancing > 0) {
+        update(currentNode);
+        final int balancing = calculateBalance(currentNode);
+        if (balancing <= -2) {
+            if (calculateBalance(currentNode.sonOnTheLeft) <= 0) {
                 return simpleRotationLeft(currentNode.sonOnTheLeft, currentNode);
             } else {
                 return doubleRotationLeft(currentNode.sonOnTheLeft, currentNode);
             }
-        } else if (currentNode.balancing >= 2) {
-            if (currentNode.balancing * currentNode.sonOnTheRight.balancing > 0) {
+        } else if (balancing >= 2) {
+            if (calculateBalance(currentNode.sonOnTheRight) >= 0) {
                 return simpleRotationRight(currentNode.sonOnTheRight, currentNode);
             } else {
                 return doubleRotationRight(currentNode.sonOnTheRight, currentNode);
@@ -317,6 +895,8 @@ public class Tree<K, E> implements ITree<K, E> {
     private Node simpleRotationLeft(final Node newRoot, final Node oldRoot) {
         oldRoot.sonOnTheLeft = newRoot.sonOnTheRight;
         newRoot.sonOnTheRight = oldRoot;
+        update(oldRoot);
+        update(newRoot);
         return newRoot;
     }
 
@@ -329,6 +909,8 @@ public class Tree<K, E> implements ITree<K, E> {
     private Node simpleRotationRight(final Node newRoot, final Node oldRoot) {
         oldRoot.sonOnTheRight = newRoot.sonOnTheLeft;
         newRoot.sonOnTheLeft = oldRoot;
+        update(oldRoot);
+        update(newRoot);
         return newRoot;
     }
 
@@ -342,6 +924,7 @@ public class Tree<K, E> implements ITree<K, E> {
         oldRoot.sonOnTheLeft = sonOnTheLeft.sonOnTheRight;
         sonOnTheLeft.sonOnTheRight = oldRoot.sonOnTheLeft.sonOnTheLeft;
         oldRoot.sonOnTheLeft.sonOnTheLeft = sonOnTheLeft;
+        update(sonOnTheLeft);
         return simpleRotationLeft(oldRoot.sonOnTheLeft, oldRoot);
     }
 
@@ -355,9 +938,203 @@ public class Tree<K, E> implements ITree<K, E> {
         oldRoot.sonOnTheRight = sonOnTheRight.sonOnTheLeft;
         sonOnTheRight.sonOnTheLeft = oldRoot.sonOnTheRight.sonOnTheRight;
         oldRoot.sonOnTheRight.sonOnTheRight = sonOnTheRight;
+        update(sonOnTheRight);
         return simpleRotationRight(oldRoot.sonOnTheRight, oldRoot);
     }
 
+    /**
+     * Classe responsável por comportar-se como cursor de percurso iterativo da árvore.
+     * O cursor guarda apenas o caminho até o próximo elemento, de modo que cada avanço
+     * visita somente os nós necessários e a divisão do percurso custa O(log n).
+     * @author Everton Bruno Silva dos Santos.
+     */
+    private class Cursor implements Iterator<E>, Spliterator<E> {
+        /**
+         * Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private final boolean reverse;
+        /**
+         * Refere-se a pilha de nós pendentes, cujo topo é o próximo elemento.
+         */
+        private Object[] stack;
+        /**
+         * Refere-se a quantidade de nós contidos na pilha.
+         */
+        private int top;
+        /**
+         * Refere-se a posição do próximo elemento do percurso.
+         */
+        private int index;
+        /**
+         * Refere-se a posição que encerra o percurso.
+         */
+        private final int fence;
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor posicionado no primeiro elemento.
+         * @param reverse Refere-se a indicativo de que o percurso ocorre em ordem reversa.
+         */
+        private Cursor(final boolean reverse) {
+            this.reverse = reverse;
+            this.stack = new Object[height(root)];
+            this.top = 0;
+            this.index = 0;
+            this.fence = size(root);
+            pushPath(root);
+        }
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor que assume parte de outro percurso.
+         * @param cursor Refere-se ao cursor cujo estado é copiado.
+         * @param fence  Refere-se a posição que encerra o percurso.
+         */
+        private Cursor(final Cursor cursor, final int fence) {
+            this.reverse = cursor.reverse;
+            this.stack = cursor.stack.clone();
+            this.top = cursor.top;
+            this.index = cursor.index;
+            this.fence = fence;
+        }
+
+        /**
+         * Método responsável por retornar o filho visitado antes de dado nó.
+         * @param currentNode Refere-se ao nó atual.
+         * @return Retorna filho visitado antes do nó.
+         */
+        private Node before(final Node currentNode) {
+            return reverse ? currentNode.sonOnTheRight : currentNode.sonOnTheLeft;
+        }
+
+        /**
+         * Método responsável por retornar o filho visitado depois de dado nó.
+         * @param currentNode Refere-se ao nó atual.
+         * @return Retorna filho visitado depois do nó.
+         */
+        private Node after(final Node currentNode) {
+            return reverse ? currentNode.sonOnTheLeft : currentNode.sonOnTheRight;
+        }
+
+        /**
+         * Método responsável por empilhar o caminho até o primeiro elemento de dada subárvore.
+         * @param currentNode Refere-se ao nó raiz da subárvore.
+         */
+        private void pushPath(Node currentNode) {
+            while (currentNode != null) {
+                stack[top++] = currentNode;
+                currentNode = before(currentNode);
+            }
+        }
+
+        /**
+         * Método responsável por reposicionar o cursor em dada posição do percurso.
+         * @param position Refere-se a nova posição do cursor.
+         */
+        private void moveTo(final int position) {
+            top = 0;
+            index = position;
+            int remaining = position;
+            Node currentNode = root;
+            while (currentNode != null) {
+                final int sizeBefore = size(before(currentNode));
+                if (remaining < sizeBefore) {
+                    stack[top++] = currentNode;
+                    currentNode = before(currentNode);
+                } else if (remaining == sizeBefore) {
+                    stack[top++] = currentNode;
+                    currentNode = null;
+                } else {
+                    remaining -= sizeBefore + 1;
+                    currentNode = after(currentNode);
+                }
+            }
+        }
+
+        /**
+         * Método responsável por indicar se há elementos a percorrer.
+         * @return Retorna indicativo de que há elementos a percorrer.
+         */
+        @Override
+        public boolean hasNext() {
+            return index < fence;
+        }
+
+        /**
+         * Método responsável por retornar o próximo elemento do percurso.
+         * @return Retorna próximo elemento do percurso.
+         */
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Node currentNode = (Node) stack[--top];
+            pushPath(after(currentNode));
+            index++;
+            return currentNode.element;
+        }
+
+        /**
+         * Método responsável por consumir o próximo elemento do percurso, se houver.
+         * @param action Refere-se a ação aplicada ao elemento.
+         * @return Retorna indicativo de que havia elemento a consumir.
+         */
+        @Override
+        public boolean tryAdvance(final Consumer<? super E> action) {
+            if (hasNext()) {
+                action.accept(next());
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        /**
+         * Método responsável por consumir todos os elementos restantes do percurso.
+         * @param action Refere-se a ação aplicada a cada elemento.
+         */
+        @Override
+        public void forEachRemaining(final Consumer<? super E> action) {
+            while (hasNext()) {
+                action.accept(next());
+            }
+        }
+
+        /**
+         * Método responsável por dividir o percurso, cedendo sua primeira metade a um novo cursor.
+         * @return Retorna cursor da primeira metade ou referência nula se não houver o que dividir.
+         */
+        @Override
+        public Spliterator<E> trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (reverse || middle <= index) {
+                return null;
+            } else {
+                final Cursor prefix = new Cursor(this, middle);
+                moveTo(middle);
+                return prefix;
+            }
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de elementos restantes no percurso.
+         * @return Retorna quantidade de elementos restantes.
+         */
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        /**
+         * Método responsável por retornar as características do percurso.
+         * @return Retorna características do percurso.
+         */
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+    }
+
     /**
      * Classe responsável por comportar-se como nó de árvore.
      * @author Everton Bruno Silva dos Santos.
@@ -376,9 +1153,13 @@ public class Tree<K, E> implements ITree<K, E> {
          */
         private E element;
         /**
-         * Refere-se ao balanceamento do nó.
+         * Refere-se a altura da subárvore cuja raiz é o nó.
+         */
+        private int height;
+        /**
+         * Refere-se a quantidade de elementos da subárvore cuja raiz é o nó.
          */
-        private int balancing;
+        private int size;
         /**
          * Refere-se ao filho a esquerda do nó.
          */
@@ -396,7 +1177,8 @@ public class Tree<K, E> implements ITree<K, E> {
         private Node(final Comparable<K> key, final E element) {
             this.key = key;
             this.element = element;
-            this.balancing = 0;
+            this.height = 1;
+            this.size = 1;
             this.sonOnTheLeft = null;
             this.sonOnTheRight = null;
         }
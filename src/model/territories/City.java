@@ -20,6 +20,7 @@
 package model.territories;
 
 import exceptions.NullObjectException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import util.Filter;
 
@@ -32,6 +33,10 @@ public class City implements Serializable {
      * Refere-se ao número de série da classe.
      */
     private static final long serialVersionUID = -646593384974705269L;
+    /**
+     * Refere-se ao repositório de instâncias compartilhadas.
+     */
+    private static final TerritoryPool<City> POOL = new TerritoryPool<>();
     /**
      * Refere-se ao nome da cidade.
      */
@@ -47,6 +52,27 @@ public class City implements Serializable {
         this.name = name;
     }
 
+    /**
+     * Método responsável por retornar a instância compartilhada de cidade de dado nome.
+     * @param name Refere-se ao nome da cidade.
+     * @return Retorna instância compartilhada de cidade.
+     * @throws NullObjectException Exceção lançada em caso de nome de cidade nulo.
+     */
+    public static City valueOf(final String name) throws NullObjectException {
+        Filter.nullObject(name);
+        final City city = POOL.get(name);
+        return city == null ? POOL.intern(name, new City(name)) : city;
+    }
+
+    /**
+     * Método responsável por substituir a cidade lida de fluxo de objetos pela instância compartilhada.
+     * @return Retorna instância compartilhada de cidade.
+     * @throws ObjectStreamException Exceção lançada em caso de problemas no fluxo de objetos.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return POOL.intern(name, this);
+    }
+
     /**
      * Método responsável por retornar o nome da cidade.
      * @return Retorna nome da cidade.
@@ -20,6 +20,7 @@
 package model.territories;
 
 import exceptions.NullObjectException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import util.Filter;
 
@@ -32,6 +33,10 @@ public class Neighborhood implements Serializable {
      * Refere-se ao número de série da classe.
      */
     private static final long serialVersionUID = -1970407300868458193L;
+    /**
+     * Refere-se ao repositório de instâncias compartilhadas.
+     */
+    private static final TerritoryPool<Neighborhood> POOL = new TerritoryPool<>();
     /**
      * Refere-se ao nome do bairro.
      */
@@ -47,6 +52,27 @@ public class Neighborhood implements Serializable {
         this.name = name;
     }
 
+    /**
+     * Método responsável por retornar a instância compartilhada de bairro de dado nome.
+     * @param name Refere-se ao nome do bairro.
+     * @return Retorna instância compartilhada de bairro.
+     * @throws NullObjectException Exceção lançada em caso de nome de bairro nulo.
+     */
+    public static Neighborhood valueOf(final String name) throws NullObjectException {
+        Filter.nullObject(name);
+        final Neighborhood neighborhood = POOL.get(name);
+        return neighborhood == null ? POOL.intern(name, new Neighborhood(name)) : neighborhood;
+    }
+
+    /**
+     * Método responsável por substituir o bairro lido de fluxo de objetos pela instância compartilhada.
+     * @return Retorna instância compartilhada de bairro.
+     * @throws ObjectStreamException Exceção lançada em caso de problemas no fluxo de objetos.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return POOL.intern(name, this);
+    }
+
     /**
      * Método responsável por retornar o nome do bairro.
      * @return Retorna nome do bairro.
@@ -20,6 +20,7 @@
 package model.territories;
 
 import exceptions.NullObjectException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import util.Filter;
 
@@ -32,6 +33,10 @@ public class Street implements Serializable {
      * Refere-se ao número de série da classe.
      */
     private static final long serialVersionUID = 4632318692274167268L;
+    /**
+     * Refere-se ao repositório de instâncias compartilhadas.
+     */
+    private static final TerritoryPool<Street> POOL = new TerritoryPool<>();
     /**
      * Refere-se ao nome da rua.
      */
@@ -47,6 +52,27 @@ public class Street implements Serializable {
         this.name = name;
     }
 
+    /**
+     * Método responsável por retornar a instância compartilhada de rua de dado nome.
+     * @param name Refere-se ao nome da rua.
+     * @return Retorna instância compartilhada de rua.
+     * @throws NullObjectException Exceção lançada em caso de nome de rua nulo.
+     */
+    public static Street valueOf(final String name) throws NullObjectException {
+        Filter.nullObject(name);
+        final Street street = POOL.get(name);
+        return street == null ? POOL.intern(name, new Street(name)) : street;
+    }
+
+    /**
+     * Método responsável por substituir a rua lida de fluxo de objetos pela instância compartilhada.
+     * @return Retorna instância compartilhada de rua.
+     * @throws ObjectStreamException Exceção lançada em caso de problemas no fluxo de objetos.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return POOL.intern(name, this);
+    }
+
     /**
      * Método responsável por retornar o nome da rua.
      * @return Retorna nome da rua.
@@ -0,0 +1,73 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.territories;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Classe responsável por comportar-se como repositório de territórios compartilhados.
+ * Cada nome corresponde a uma única instância enquanto esta estiver em uso, de modo que territórios
+ * de mesmo nome são comparáveis por identidade e seus nomes são armazenados uma única vez.
+ * As entradas são mantidas por referências fracas e descartadas quando o território deixa de ser usado.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <T> Refere-se ao tipo de território.
+ */
+final class TerritoryPool<T> {
+    /**
+     * Refere-se aos territórios compartilhados, indexados pelo próprio nome que mantêm.
+     */
+    private final WeakHashMap<String, WeakReference<T>> territories;
+
+    /**
+     * Construtor responsável pelo instanciamento do repositório de territórios.
+     */
+    TerritoryPool() {
+        territories = new WeakHashMap<>();
+    }
+
+    /**
+     * Método responsável por retornar o território compartilhado de dado nome.
+     * @param name Refere-se ao nome do território.
+     * @return Retorna território compartilhado, ou referência nula se não houver.
+     */
+    synchronized T get(final String name) {
+        final WeakReference<T> reference = territories.get(name);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Método responsável por retornar o território compartilhado de dado nome, registrando dado território se preciso.
+     * O nome deve ser o mesmo objeto mantido pelo território, pois é ele que mantém a entrada no repositório.
+     * @param name      Refere-se ao nome do território.
+     * @param territory Refere-se ao território registrado se não houver um compartilhado.
+     * @return Retorna território compartilhado.
+     */
+    synchronized T intern(final String name, final T territory) {
+        final T sharedTerritory = get(name);
+        if (sharedTerritory != null) {
+            return sharedTerritory;
+        }
+        territories.remove(name);
+        territories.put(name, new WeakReference<>(territory));
+        return territory;
+    }
+
+}
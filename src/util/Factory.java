@@ -32,6 +32,11 @@ import model.offers.IOfferVisible;
 import model.offers.Income;
 import model.organizations.IProvider;
 import model.organizations.Provider;
+import model.sets.Collection;
+import model.sets.ConcurrentTree;
+import model.sets.ICollection;
+import model.sets.ITree;
+import model.sets.Tree;
 import model.territories.City;
 import model.territories.Neighborhood;
 import model.territories.Street;
@@ -44,33 +49,33 @@ import view.managers.FileDialog;
 public abstract class Factory {
 
     /**
-     * Método responsável por gerar instância de rua.
+     * Método responsável por retornar instância compartilhada de rua.
      * @param name Refere-se ao nome da rua.
      * @return Retorna instância de rua.
      * @throws NullObjectException Exceção lançada em caso de nome de rua nulo.
      */
     public static Street street(final String name) throws NullObjectException {
-        return new Street(name);
+        return Street.valueOf(name);
     }
 
     /**
-     * Método responsável por gerar instância de bairro.
+     * Método responsável por retornar instância compartilhada de bairro.
      * @param name Refere-se ao nome do bairro.
      * @return Retorna instância de bairro.
      * @throws NullObjectException Exceção lançada em caso de nome de bairro nulo.
      */
     public static Neighborhood neighborhood(final String name) throws NullObjectException {
-        return new Neighborhood(name);
+        return Neighborhood.valueOf(name);
     }
 
     /**
-     * Método responsável por gerar instância de cidade.
+     * Método responsável por retornar instância compartilhada de cidade.
      * @param name Refere-se ao nome da cidade.
      * @return Retorna instância de cidade.
      * @throws NullObjectException Exceção lançada em caso de nome de cidade nulo.
      */
     public static City city(final String name) throws NullObjectException {
-        return new City(name);
+        return City.valueOf(name);
     }
 
     /**
@@ -142,6 +147,28 @@ public abstract class Factory {
             final String amount, final Date date) throws NullObjectException, IntegerValueInvalidException {
         return new Acquisition(provider, offer, Converter.toInteger(amount), date);
     }
+
+    /**
+     * Método responsável por gerar instância de árvore.
+     * @param <K>        Refere-se ao tipo de chave usada na árvore.
+     * @param <E>        Refere-se ao tipo de elemento armazenado na árvore.
+     * @param concurrent Refere-se a indicativo de que a árvore será acessada por múltiplas linhas de execução.
+     * @return Retorna instância de árvore.
+     */
+    public static <K, E> ITree<K, E> tree(final boolean concurrent) {
+        return concurrent ? new ConcurrentTree<>() : new Tree<>();
+    }
+
+    /**
+     * Método responsável por gerar instância de coleção.
+     * @param <K>        Refere-se ao tipo de chave usada na coleção.
+     * @param <E>        Refere-se ao tipo de elemento armazenado na coleção.
+     * @param concurrent Refere-se a indicativo de que a coleção será acessada por múltiplas linhas de execução.
+     * @return Retorna instância de coleção.
+     */
+    public static <K, E> ICollection<K, E> collection(final boolean concurrent) {
+        return new Collection<>(tree(concurrent));
+    }
     
     
     /**
@@ -113,21 +113,25 @@ public class AcquisitionManager extends javax.swing.JDialog {
      */
     private void editAcquisition() throws NullObjectException, DoubleValueInvalidException, ElementNotFoundException,
             IntegerValueInvalidException, DateInvalidException {
-        boolean wasChanged = false;
-        if (!textValue.getText().equals(Double.toString(acquisition.getOffer().getValue()))) {
-            final double value = Converter.toDouble(textValue.getText());
-            Record.getInstance().getAcquisitionCollection().setUnitaryValue(acquisition.getKey(), value);
-            wasChanged = true;
-        }
-        if (!textAmount.getText().equals(Integer.toString(acquisition.getAmount()))) {
-            final int amount = Converter.toInteger(textAmount.getText());
-            Record.getInstance().getAcquisitionCollection().setAmount(acquisition.getKey(), amount);
-            wasChanged = true;
-        }
-        if (!textDate.getText().equals(acquisition.getDate().toString())) {
-            Record.getInstance().getAcquisitionCollection().setDate(acquisition.getKey(),
-                    Factory.date(textDate.getText()));
-            wasChanged = true;
+        final boolean valueChanged = !textValue.getText().equals(Double.toString(acquisition.getOffer().getValue()));
+        final boolean amountChanged = !textAmount.getText().equals(Integer.toString(acquisition.getAmount()));
+        final boolean dateChanged = !textDate.getText().equals(acquisition.getDate().toString());
+        final double value = valueChanged ? Converter.toDouble(textValue.getText()) : 0;
+        final int amount = amountChanged ? Converter.toInteger(textAmount.getText()) : 0;
+        final Date date = dateChanged ? Factory.date(textDate.getText()) : null;
+        final boolean wasChanged = valueChanged || amountChanged || dateChanged;
+        if (wasChanged) {
+            Record.getInstance().getAcquisitionCollection().update(acquisition.getKey(), business -> {
+                if (valueChanged) {
+                    business.setUnitaryValue(value);
+                }
+                if (amountChanged) {
+                    business.setAmount(amount);
+                }
+                if (dateChanged) {
+                    business.setDate(date);
+                }
+            });
         }
         if (wasChanged) {
             ViewControl.setWasChanged(false);
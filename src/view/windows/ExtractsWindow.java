@@ -20,15 +20,12 @@
 package view.windows;
 
 import control.Record;
-import exceptions.KeyUsedException;
-import exceptions.NullObjectException;
 import javax.swing.SwingConstants;
 import javax.swing.table.DefaultTableModel;
-import model.business.IAcquisition;
-import model.sets.ITree;
-import model.sets.Tree;
+import model.business.AcquisitionKey;
+import model.sets.BusinessColumns;
 import util.Converter;
-import util.IElement;
+import util.Date;
 import view.managers.ViewControl;
 
 /**
@@ -61,67 +58,78 @@ public class ExtractsWindow extends javax.swing.JDialog {
     }
 
     /**
-     * Método responsável por atualizar a janela de extratos com árvore de extratos.
-     * @param tree Refere-se a árvore de extratos.
+     * Método responsável por atualizar a janela de extratos agrupando as aquisições por período.
+     * @param divisor Refere-se ao divisor que agrupa as datas das aquisições.
      */
-    private void updateWindow(final ITree<String, Extract> tree) {
+    private void updateWindow(final int divisor) {
+        updateWindow(Record.getInstance().getAcquisitionCollection().getColumns(), divisor);
+    }
+
+    /**
+     * Método responsável por atualizar a janela de extratos com os totais diários do mês atual.
+     * Apenas as aquisições do mês são percorridas, pois suas chaves formam um intervalo contíguo.
+     */
+    private void updateWindowForCurrentMonth() {
+        final Date today = new Date();
+        final int month = today.getYear() * BusinessColumns.YEAR + today.getMonth() * BusinessColumns.MONTH;
+        updateWindow(new BusinessColumns(Record.getInstance().getAcquisitionCollection(),
+                AcquisitionKey.startOfDay(month + 1), AcquisitionKey.endOfDay(month + 31)), BusinessColumns.DAY);
+    }
+
+    /**
+     * Método responsável por atualizar a janela de extratos agrupando por período as aquisições de dado espelho.
+     * @param columns Refere-se ao espelho colunar das aquisições.
+     * @param divisor Refere-se ao divisor que agrupa as datas das aquisições.
+     */
+    private void updateWindow(final BusinessColumns columns, final int divisor) {
         ViewControl.clear(instance.table);
         final DefaultTableModel model = (DefaultTableModel) table.getModel();
-        tree.forEach(true, extract -> {
-            model.addRow(new Object[] { extract.period, extract.getPositiveValue(),
-                    extract.getNegativeValue(), extract.getTotalValue() });
+        columns.forEachPeriod(divisor, true, (period, positiveCents, negativeCents) -> {
+            model.addRow(new Object[] { toPeriod(period * divisor, divisor), toValue(positiveCents),
+                    toValue(negativeCents), toValue(positiveCents + negativeCents) });
         });
     }
 
     /**
-     * Método responsável por preencher árvore de extratos por dia.
-     * @param tree Refere-se a árvore.
-     * @return Retorna árvore preenchida.
+     * Método responsável por converter em string o período de dada data.
+     * @param date    Refere-se a data no formato aaaammdd.
+     * @param divisor Refere-se ao divisor que agrupa as datas.
+     * @return Retorna período em string.
      */
-    private ITree<String, Extract> forDay(final ITree<String, Extract> tree) {
-        Record.getInstance().getAcquisitionCollection().forEach(true, acquisition -> {
-            final Extract extract = new DailyExtract(acquisition);
-            try {
-                tree.insert(extract.key, extract);
-            } catch (final KeyUsedException ex) {
-                ((Extract) ex.getElement()).add(acquisition);
-            }
-        });
-        return tree;
+    private String toPeriod(final int date, final int divisor) {
+        final String year = toString(date / BusinessColumns.YEAR);
+        final String month = toString(date / BusinessColumns.MONTH % 100);
+        switch (divisor) {
+            case BusinessColumns.YEAR:
+                return year;
+            case BusinessColumns.MONTH:
+                return month + "/" + year;
+            default:
+                return toString(date % 100) + "/" + month + "/" + year;
+        }
     }
 
     /**
-     * Método responsável por preencher árvore de extratos por mês.
-     * @param tree Refere-se a árvore.
-     * @return Retorna árvore preenchida.
+     * Método responsável por converter em string valores em centavos.
+     * @param cents Refere-se ao valor em centavos.
+     * @return Retorna valor em string.
      */
-    private ITree<String, Extract> forMonth(final ITree<String, Extract> tree) {
-        Record.getInstance().getAcquisitionCollection().forEach(true, acquisition -> {
-            final Extract extract = new MonthlyExtract(acquisition);
-            try {
-                tree.insert(extract.key, extract);
-            } catch (final KeyUsedException ex) {
-                ((Extract) ex.getElement()).add(acquisition);
-            }
-        });
-        return tree;
+    private String toValue(final long cents) {
+        return Converter.toString(cents / 100.0);
     }
 
     /**
-     * Método responsável por preencher árvore de extratos por ano.
-     * @param tree Refere-se a árvore.
-     * @return Retorna árvore preenchida.
+     * Método responsável por converter em string números inteiros contidos em datas.
+     * @param n Refere-se ao número inteiro.
+     * @return Retorna número inteiro com dois ou mais caracteres em string.
      */
-    private ITree<String, Extract> forYear(final ITree<String, Extract> tree) {
-        Record.getInstance().getAcquisitionCollection().forEach(true, acquisition -> {
-            final Extract extract = new AnnualExtract(acquisition);
-            try {
-                tree.insert(extract.key, extract);
-            } catch (final KeyUsedException ex) {
-                ((Extract) ex.getElement()).add(acquisition);
-            }
-        });
-        return tree;
+    private String toString(final int n) {
+        final String numberStr = Converter.toString(n);
+        if (numberStr.length() < 2) {
+            return "0" + numberStr;
+        } else {
+            return numberStr;
+        }
     }
 
     /**
@@ -129,7 +137,7 @@ public class ExtractsWindow extends javax.swing.JDialog {
      */
     public static void showModal() {
         createInstance();
-        instance.updateWindow(instance.forMonth(new Tree<>()));
+        instance.updateWindow(BusinessColumns.MONTH);
         instance.setVisible(true);
     }
 
@@ -150,6 +158,7 @@ public class ExtractsWindow extends javax.swing.JDialog {
         rBtnOptForDay = new javax.swing.JRadioButtonMenuItem();
         rBtnOptForMonth = new javax.swing.JRadioButtonMenuItem();
         rBtnOptForYear = new javax.swing.JRadioButtonMenuItem();
+        rBtnOptForCurrentMonth = new javax.swing.JRadioButtonMenuItem();
         buttonGroup = new javax.swing.ButtonGroup();
         scrollPane = new javax.swing.JScrollPane();
         table = new javax.swing.JTable();
@@ -182,6 +191,15 @@ public class ExtractsWindow extends javax.swing.JDialog {
         });
         popupMenu.add(rBtnOptForYear);
 
+        buttonGroup.add(rBtnOptForCurrentMonth);
+        rBtnOptForCurrentMonth.setText("Exibir mês atual");
+        rBtnOptForCurrentMonth.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(final java.awt.event.ActionEvent evt) {
+                rBtnOptForCurrentMonthActionPerformed(evt);
+            }
+        });
+        popupMenu.add(rBtnOptForCurrentMonth);
+
         setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
         setTitle("Extratos");
         setIconImage(java.awt.Toolkit.getDefaultToolkit().getImage(getClass().getResource("/icons/x48/SDSFinance.png")));
@@ -240,239 +258,25 @@ public class ExtractsWindow extends javax.swing.JDialog {
     }//GEN-LAST:event_tableMouseReleased
 
     private void rBtnOptForDayActionPerformed(final java.awt.event.ActionEvent evt) {//GEN-FIRST:event_rBtnOptForDayActionPerformed
-        updateWindow(forDay(new Tree<>()));
+        updateWindow(BusinessColumns.DAY);
     }//GEN-LAST:event_rBtnOptForDayActionPerformed
 
     private void rBtnOptForMonthActionPerformed(final java.awt.event.ActionEvent evt) {//GEN-FIRST:event_rBtnOptForMonthActionPerformed
-        updateWindow(forMonth(new Tree<>()));
+        updateWindow(BusinessColumns.MONTH);
     }//GEN-LAST:event_rBtnOptForMonthActionPerformed
 
     private void rBtnOptForYearActionPerformed(final java.awt.event.ActionEvent evt) {//GEN-FIRST:event_rBtnOptForYearActionPerformed
-        updateWindow(forYear(new Tree<>()));
+        updateWindow(BusinessColumns.YEAR);
     }//GEN-LAST:event_rBtnOptForYearActionPerformed
 
-    /**
-     * Classe responsável por comportar-se como extrato.
-     * @author Everton Bruno Silva dos Santos.
-     */
-    private abstract class Extract implements IElement<String> {
-        /**
-         * Refere-se ao número de série da classe.
-         */
-        private static final long serialVersionUID = -5641931943828987451L;
-        /**
-         * Refere-se ao valor positivo contido no extrato.
-         */
-        private double positiveValue;
-        /**
-         * Refere-se ao valor negativo contido no extrato.
-         */
-        private double positiveNegative;
-        /**
-         * Refere-se a chave do extrato.
-         */
-        private final String key;
-        /**
-         * Refere-se ao período do extrato.
-         */
-        private final String period;
-
-        /**
-         * Construtor responsável pelo instanciamento do extrato num contexto diário.
-         * @param value Refere-se ao valor do extrato.
-         * @param day   Refere-se ao dia do extrato.
-         * @param month Refere-se ao mês do extrato.
-         * @param year  Refere-se ao ano do extrato.
-         */
-        private Extract(final double value, final int day, final int month, final int year) {
-            positiveValue = 0;
-            positiveNegative = 0;
-            key = toString(year) + toString(month) + toString(day);
-            period = toString(day) + "/" + toString(month) + "/" + toString(year);
-            add(value);
-        }
-
-        /**
-         * Construtor responsável pelo instanciamento do extrato num contexto mensal.
-         * @param value Refere-se ao valor do extrato.
-         * @param month Refere-se ao mês do extrato.
-         * @param year  Refere-se ao ano do extrato.
-         */
-        private Extract(final double value, final int month, final int year) {
-            positiveValue = 0;
-            positiveNegative = 0;
-            key = toString(year) + toString(month);
-            period = toString(month) + "/" + toString(year);
-            add(value);
-        }
-
-        /**
-         * Construtor responsável pelo instanciamento do extrato num contexto anual.
-         * @param value Refere-se ao valor do extrato.
-         * @param year  Refere-se ao ano do extrato.
-         */
-        private Extract(final double value, final int year) {
-            positiveValue = 0;
-            positiveNegative = 0;
-            key = toString(year);
-            period = toString(year);
-            add(value);
-        }
-
-        /**
-         * Método responsável por adicionar novos valores ao extrato.
-         * @param value Refere-se ao novo valor.
-         */
-        private void add(final double value) {
-            if (value > 0) {
-                positiveValue += value;
-            } else {
-                positiveNegative += value;
-            }
-        }
-
-        /**
-         * Método responsável por adicionar novos valores ao extrato.
-         * @param acquisition Refere-se a aquisição que contém em sí o novo valor.
-         */
-        private void add(final IAcquisition acquisition) {
-            add(acquisition.getTotalValue());
-        }
-
-        /**
-         * Método responsável por retornar o valor positivo contido no extrato.
-         * @return Retorna valor positivo contido no extrato.
-         */
-        private String getPositiveValue() {
-            return Converter.toString(positiveValue);
-        }
-
-        /**
-         * Método responsável por retornar o valor negativo contido no extrato.
-         * @return Retorna valor negativo contido no extrato.
-         */
-        private String getNegativeValue() {
-            return Converter.toString(positiveNegative);
-        }
-
-        /**
-         * Método responsável por retornar o valor total contido no extrato.
-         * @return Retorna valor total contido no extrato.
-         */
-        private String getTotalValue() {
-            return Converter.toString(positiveNegative + positiveValue);
-        }
-
-        /**
-         * Método responsável por retornar a chave do extrato.
-         * @return Retorna chave do extrato.
-         */
-        @Override
-        public Comparable<String> getKey() {
-            return key;
-        }
-
-        /**
-         * Método responsável por alterar a chave do extrato.
-         * @param key Refere-se a nova chave.
-         * @throws NullObjectException Exceção lançada no caso da chave ser nula.
-         */
-        @Override
-        public void setKey(final String key) throws NullObjectException {
-            throw new UnsupportedOperationException("Not supported yet.");
-        }
-
-        /**
-         * Método responsável por pré-visualizar a chave do extrato.
-         * @param key Refere-se a nova chave.
-         * @return Retorna pré-visualização do extrato.
-         * @throws NullObjectException Exceção lançada no caso da chave ser nula.
-         */
-        @Override
-        public Comparable<String> previewKey(final String key) throws NullObjectException {
-            throw new UnsupportedOperationException("Not supported yet.");
-        }
-
-        /**
-         * Método responsável por converter em string números inteiros contidos em datas.
-         * @param n Refere-se ao número inteiro.
-         * @return Retorna número inteiro com dois ou mais caracteres em string.
-         */
-        private String toString(final int n) {
-            final String numberStr = Converter.toString(n);
-            if (numberStr.length() < 2) {
-                return "0" + numberStr;
-            } else {
-                return numberStr;
-            }
-        }
-
-    }
-
-    /**
-     * Classe responsável por comportar-se como um extrato diário.
-     * @author Everton Bruno Silva dos Santos.
-     */
-    private class DailyExtract extends Extract {
-        /**
-         * Refere-se ao número de série da classe.
-         */
-        private static final long serialVersionUID = 3461139864061616895L;
-
-        /**
-         * Construtor responsável pelo instanciamento do extrato diário.
-         * @param acquisition Refere-se a aquisição.
-         */
-        public DailyExtract(final IAcquisition acquisition) {
-            super(acquisition.getTotalValue(), acquisition.getDate().getDay(),
-                    acquisition.getDate().getMonth(), acquisition.getDate().getYear());
-        }
-
-    }
-
-    /**
-     * Classe responsável por comportar-se como um extrato mensal.
-     * @author Everton Bruno Silva dos Santos.
-     */
-    private class MonthlyExtract extends Extract {
-        /**
-         * Refere-se ao número de série da classe.
-         */
-        private static final long serialVersionUID = -26880991967078194L;
-
-        /**
-         * Construtor responsável pelo instanciamento do extrato mensal.
-         * @param acquisition Refere-se a aquisição.
-         */
-        public MonthlyExtract(final IAcquisition acquisition) {
-            super(acquisition.getTotalValue(), acquisition.getDate().getMonth(), acquisition.getDate().getYear());
-        }
-
-    }
-
-    /**
-     * Classe responsável por comportar-se como um extrato anual.
-     * @author Everton Bruno Silva dos Santos.
-     */
-    private class AnnualExtract extends Extract {
-        /**
-         * Refere-se ao número de série da classe.
-         */
-        private static final long serialVersionUID = -7838158343627928326L;
-
-        /**
-         * Construtor responsável pelo instanciamento do extrato anual.
-         * @param acquisition Refere-se a aquisição.
-         */
-        public AnnualExtract(final IAcquisition acquisition) {
-            super(acquisition.getTotalValue(), acquisition.getDate().getYear());
-        }
-
-    }
+    private void rBtnOptForCurrentMonthActionPerformed(final java.awt.event.ActionEvent evt) {//GEN-FIRST:event_rBtnOptForCurrentMonthActionPerformed
+        updateWindowForCurrentMonth();
+    }//GEN-LAST:event_rBtnOptForCurrentMonthActionPerformed
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.ButtonGroup buttonGroup;
     private javax.swing.JPopupMenu popupMenu;
+    private javax.swing.JRadioButtonMenuItem rBtnOptForCurrentMonth;
     private javax.swing.JRadioButtonMenuItem rBtnOptForDay;
     private javax.swing.JRadioButtonMenuItem rBtnOptForMonth;
     private javax.swing.JRadioButtonMenuItem rBtnOptForYear;
@@ -24,6 +24,8 @@ import exceptions.ElementNotFoundException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Vector;
 import javax.swing.SwingConstants;
 import javax.swing.table.DefaultTableModel;
 import model.business.IAcquisition;
@@ -104,6 +106,8 @@ public class MainForm extends javax.swing.JFrame {
 
     /**
      * Método responsável por excluir uma lista de aquisições.
+     * As aquisições são removidas da coleção de uma só vez, e as linhas mantidas são compactadas em uma única
+     * passagem sobre os dados da tabela, que é notificada uma única vez, preservando a configuração das colunas.
      * @throws ElementNotFoundException Exceção lançada no caso das aquisições não terem sido encontradas.
      */
     private void removeAcquisitions() throws ElementNotFoundException {
@@ -111,13 +115,30 @@ public class MainForm extends javax.swing.JFrame {
         if (selectedRows.length > 0) {
             if (Show.questionMessage("Essa ação excluirá permanentemente todas as\n"
                     + "aquisições selecionadas. Deseja prosseguir?", "Não", "Sim")) {
-                IAcquisition acquisition;
-                for (final int row : selectedRows) {
-                    acquisition = (IAcquisition) table.getModel().getValueAt(row, 0);
-                    Record.getInstance().getAcquisitionCollection().remove(acquisition.getKey());
+                final DefaultTableModel model = (DefaultTableModel) table.getModel();
+                final boolean[] removedRows = new boolean[model.getRowCount()];
+                final ArrayList<Comparable<String>> keys = new ArrayList<>(selectedRows.length);
+                for (final int selectedRow : selectedRows) {
+                    final int modelRow = table.convertRowIndexToModel(selectedRow);
+                    removedRows[modelRow] = true;
+                    keys.add(((IAcquisition) model.getValueAt(modelRow, 0)).getKey());
                 }
+                final int removed = Record.getInstance().getAcquisitionCollection().removeAll(keys);
                 ViewControl.setWasChanged(false);
-                updateWindow();
+                if (removed < keys.size()) {
+                    updateWindow();
+                    throw new ElementNotFoundException();
+                }
+                @SuppressWarnings("unchecked")
+                final Vector<Vector<Object>> rows = (Vector<Vector<Object>>) (Vector<?>) model.getDataVector();
+                int keptRows = 0;
+                for (int i = 0; i < rows.size(); i++) {
+                    if (!removedRows[i]) {
+                        rows.set(keptRows++, rows.get(i));
+                    }
+                }
+                rows.setSize(keptRows);
+                model.fireTableDataChanged();
             }
         }
     }
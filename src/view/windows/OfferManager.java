@@ -99,10 +99,8 @@ public class OfferManager extends javax.swing.JDialog {
      */
     private void collectChanges(final SimpleStack<Comparable<String>> keysStackChanged) {
         if (keysStackChanged.isEmpty()) {
-            Record.getInstance().getAcquisitionCollection().forEach(true, element -> {
-                if (element.getProvider().equals(provider) && element.getOffer().getKey().equals(offer.getKey())) {
-                    keysStackChanged.push(element.getKey());
-                }
+            Record.getInstance().getAcquisitionCollection().forEachByOffer(provider, offer, element -> {
+                keysStackChanged.push(element.getKey());
             });
         }
     }
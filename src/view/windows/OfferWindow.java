@@ -23,7 +23,6 @@ import control.Record;
 import exceptions.ElementNotFoundException;
 import javax.swing.SwingConstants;
 import javax.swing.table.DefaultTableModel;
-import model.business.IAcquisition;
 import model.offers.IOfferVisible;
 import model.organizations.IProvider;
 import model.sets.SimpleStack;
@@ -159,17 +158,15 @@ public class OfferWindow extends javax.swing.JDialog {
      * @throws ElementNotFoundException Exceção lançada no caso das aquisições não terem sido encontradas.
      */
     private boolean removeAcquisitions(final IOfferVisible offer, boolean wasChanged) throws ElementNotFoundException {
-        final SimpleStack<IAcquisition> simpleStack = new SimpleStack<>();
-        Record.getInstance().getAcquisitionCollection().forEach(true, element -> {
-            if (element.getProvider().equals(provider) && element.getOffer().getKey().equals(offer.getKey())) {
-                simpleStack.push(element);
-            }
+        final SimpleStack<Comparable<String>> simpleStack = new SimpleStack<>();
+        Record.getInstance().getAcquisitionCollection().forEachByOffer(provider, offer, element -> {
+            simpleStack.push(element.getKey());
         });
         if (!wasChanged) {
             wasChanged = !simpleStack.isEmpty();
         }
         while (!simpleStack.isEmpty()) {
-            Record.getInstance().getAcquisitionCollection().remove(simpleStack.pop().getKey());
+            Record.getInstance().getAcquisitionCollection().remove(simpleStack.pop());
         }
         return wasChanged;
     }
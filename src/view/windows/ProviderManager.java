@@ -23,9 +23,7 @@ import control.Record;
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
 import exceptions.NullObjectException;
-import model.business.IAcquisition;
 import model.organizations.IProvider;
-import model.sets.SimpleStack;
 import model.territories.City;
 import model.territories.Neighborhood;
 import model.territories.Street;
@@ -81,136 +79,26 @@ public class ProviderManager extends javax.swing.JDialog {
         dispose();
     }
 
-    /**
-     * Método responsável por coletar alterações.
-     * @param keysStackChanged         Refere-se a pilha de chaves alteradas
-     * @param acquisitionsStackChanged Refere-se apilha de aquisições alteradas.
-     */
-    private void collectChanges(final SimpleStack<Comparable<String>> keysStackChanged,
-            final SimpleStack<IAcquisition> acquisitionsStackChanged) {
-        if (keysStackChanged.isEmpty() && acquisitionsStackChanged.isEmpty()) {
-            Record.getInstance().getAcquisitionCollection().forEach(true, element -> {
-                if (element.getProvider().equals(provider)) {
-                    keysStackChanged.push(element.getKey());
-                    acquisitionsStackChanged.push(element);
-                }
-            });
-        }
-    }
-
-    /**
-     * Método responsável por alterar a cidade de um fornecedor.
-     * @param keysStackChanged         Refere-se a pilha de chaves alteradas
-     * @param acquisitionsStackChanged Refere-se apilha de aquisições alteradas.
-     * @param wasChanged               Refere-se a informação de que o fornecedor foi modificado.
-     * @return Retorna informação de que o fornecedor foi modificado.
-     * @throws NullObjectException      Exceção lançada no caso de haver uma string nula.
-     * @throws ElementNotFoundException Exceção lançada no caso do fornecedor não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada em caso de haver um outro fornecedor com mesmo nome no mesmo local.
-     */
-    private boolean setCity(final SimpleStack<Comparable<String>> keysStackChanged,
-            final SimpleStack<IAcquisition> acquisitionsStackChanged, final boolean wasChanged)
-            throws NullObjectException, ElementNotFoundException, KeyUsedException {
-        if (!textCity.getText().equals(provider.getCity().toString())) {
-            collectChanges(keysStackChanged, acquisitionsStackChanged);
-            final City city = Factory.city(textCity.getText());
-            Record.getInstance().getProviderCollection().setCity(provider.getKey().toString(), city);
-            return true;
-        } else {
-            return wasChanged == true;
-        }
-    }
-
-    /**
-     * Método responsável por alterar o bairro de um fornecedor.
-     * @param keysStackChanged         Refere-se a pilha de chaves alteradas
-     * @param acquisitionsStackChanged Refere-se apilha de aquisições alteradas.
-     * @param wasChanged               Refere-se a informação de que o fornecedor foi modificado.
-     * @return Retorna informação de que o fornecedor foi modificado.
-     * @throws NullObjectException      Exceção lançada no caso de haver uma string nula.
-     * @throws ElementNotFoundException Exceção lançada no caso do fornecedor não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada em caso de haver um outro fornecedor com mesmo nome no mesmo local.
-     */
-    private boolean setNeighborhood(final SimpleStack<Comparable<String>> keysStackChanged,
-            final SimpleStack<IAcquisition> acquisitionsStackChanged, final boolean wasChanged)
-            throws NullObjectException, ElementNotFoundException, KeyUsedException {
-        if (!textNeighborhood.getText().equals(provider.getNeighborhood().toString())) {
-            collectChanges(keysStackChanged, acquisitionsStackChanged);
-            final Neighborhood neighborhood = Factory.neighborhood(textNeighborhood.getText());
-            Record.getInstance().getProviderCollection().setNeighborhood(provider.getKey().toString(), neighborhood);
-            return true;
-        } else {
-            return wasChanged == true;
-        }
-    }
-
-    /**
-     * Método responsável por alterar a rua de um fornecedor.
-     * @param keysStackChanged         Refere-se a pilha de chaves alteradas
-     * @param acquisitionsStackChanged Refere-se apilha de aquisições alteradas.
-     * @param wasChanged               Refere-se a informação de que o fornecedor foi modificado.
-     * @return Retorna informação de que o fornecedor foi modificado.
-     * @throws NullObjectException      Exceção lançada no caso de haver uma string nula.
-     * @throws ElementNotFoundException Exceção lançada no caso do fornecedor não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada em caso de haver um outro fornecedor com mesmo nome no mesmo local.
-     */
-    private boolean setStreet(final SimpleStack<Comparable<String>> keysStackChanged,
-            final SimpleStack<IAcquisition> acquisitionsStackChanged, final boolean wasChanged)
-            throws NullObjectException, ElementNotFoundException, KeyUsedException {
-        if (!textStreet.getText().equals(provider.getStreet().toString())) {
-            collectChanges(keysStackChanged, acquisitionsStackChanged);
-            final Street street = Factory.street(textStreet.getText());
-            Record.getInstance().getProviderCollection().setStreet(provider.getKey().toString(), street);
-            return true;
-        } else {
-            return wasChanged == true;
-        }
-    }
-
-    /**
-     * Método responsável por alterar o nome de um fornecedor.
-     * @param keysStackChanged         Refere-se a pilha de chaves alteradas
-     * @param acquisitionsStackChanged Refere-se apilha de aquisições alteradas.
-     * @param wasChanged               Refere-se a informação de que o fornecedor foi modificado.
-     * @return Retorna informação de que o fornecedor foi modificado.
-     * @throws NullObjectException      Exceção lançada no caso de haver uma string nula.
-     * @throws ElementNotFoundException Exceção lançada no caso do fornecedor não ser encontrado.
-     * @throws KeyUsedException         Exceção lançada em caso de haver um outro fornecedor com mesmo nome no mesmo local.
-     */
-    private boolean setName(final SimpleStack<Comparable<String>> keysStackChanged,
-            final SimpleStack<IAcquisition> acquisitionsStackChanged, final boolean wasChanged)
-            throws NullObjectException, ElementNotFoundException, KeyUsedException {
-        if (!textName.getText().equals(provider.toString())) {
-            collectChanges(keysStackChanged, acquisitionsStackChanged);
-            Record.getInstance().getProviderCollection().redefineKey(provider.getKey().toString(), textName.getText());
-            return true;
-        } else {
-            return wasChanged == true;
-        }
-    }
-
     /**
      * Método responsável por editar um fornecedor.
+     * Os campos alterados são aplicados de uma só vez, e as aquisições do fornecedor são reposicionadas uma única vez.
+     * Os territórios são compartilhados, de modo que as alterações são detectadas por identidade.
      * @throws NullObjectException      Exceção lançada no caso de haver uma string nula.
      * @throws ElementNotFoundException Exceção lançada no caso do fornecedor não ser encontrado.
      * @throws KeyUsedException         Exceção lançada em caso de haver um outro fornecedor com mesmo nome no mesmo local.
      */
     private void editProvider() throws NullObjectException, ElementNotFoundException, KeyUsedException {
-        boolean wasChanged = false;
-        final SimpleStack<Comparable<String>> keysStackChanged = new SimpleStack<>();
-        final SimpleStack<IAcquisition> acquisitionsStackChanged = new SimpleStack<>();
-        wasChanged = setCity(keysStackChanged, acquisitionsStackChanged, wasChanged);
-        wasChanged = setNeighborhood(keysStackChanged, acquisitionsStackChanged, wasChanged);
-        wasChanged = setStreet(keysStackChanged, acquisitionsStackChanged, wasChanged);
-        wasChanged = setName(keysStackChanged, acquisitionsStackChanged, wasChanged);
-        if (!keysStackChanged.isEmpty()) {
-            while (!keysStackChanged.isEmpty()) {
-                Record.getInstance().getAcquisitionCollection().remove(keysStackChanged.pop());
-                Record.getInstance().getAcquisitionCollection().insert(acquisitionsStackChanged.pop());
+        final City city = Factory.city(textCity.getText());
+        final Neighborhood neighborhood = Factory.neighborhood(textNeighborhood.getText());
+        final Street street = Factory.street(textStreet.getText());
+        final boolean nameChanged = !textName.getText().equals(provider.toString());
+        if (city != provider.getCity() || neighborhood != provider.getNeighborhood()
+                || street != provider.getStreet() || nameChanged) {
+            Record.getInstance().getProviderCollection().update(provider.getKey(), textName.getText(),
+                    street, neighborhood, city);
+            if (Record.getInstance().getAcquisitionCollection().rekeyAllForProvider(provider, provider)) {
+                MainForm.updateWindow();
             }
-            MainForm.updateWindow();
-        }
-        if (wasChanged) {
             ViewControl.setWasChanged(false);
             ProviderWindow.updateWindow();
         }
@@ -23,7 +23,6 @@ import control.Record;
 import exceptions.ElementNotFoundException;
 import javax.swing.SwingConstants;
 import javax.swing.table.DefaultTableModel;
-import model.business.IAcquisition;
 import model.organizations.IProvider;
 import model.sets.SimpleStack;
 import util.Converter;
@@ -85,17 +84,15 @@ public class ProviderWindow extends javax.swing.JDialog {
      * @throws ElementNotFoundException Exceção lançada no caso das aquisições não terem sido encontradas.
      */
     private boolean removeAcquisitions(final IProvider provider, boolean wasChanged) throws ElementNotFoundException {
-        final SimpleStack<IAcquisition> simpleStack = new SimpleStack<>();
-        Record.getInstance().getAcquisitionCollection().forEach(true, element -> {
-            if (element.getProvider().equals(provider)) {
-                simpleStack.push(element);
-            }
+        final SimpleStack<Comparable<String>> simpleStack = new SimpleStack<>();
+        Record.getInstance().getAcquisitionCollection().forEachByProvider(provider, element -> {
+            simpleStack.push(element.getKey());
         });
         if (!wasChanged) {
             wasChanged = !simpleStack.isEmpty();
         }
         while (!simpleStack.isEmpty()) {
-            Record.getInstance().getAcquisitionCollection().remove(simpleStack.pop().getKey());
+            Record.getInstance().getAcquisitionCollection().remove(simpleStack.pop());
         }
         return wasChanged;
     }
@@ -0,0 +1,155 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package control;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import model.business.Acquisition;
+import model.business.IAcquisition;
+import model.offers.Expense;
+import model.offers.Income;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.sets.BusinessCollection;
+import model.sets.IBusinessCollection;
+import model.sets.OffHeapBusinessCollection;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import util.Date;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Classe responsável por testar o registro.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class RecordTest {
+    /**
+     * Refere-se as aquisições armazenadas no heap.
+     */
+    private BusinessCollection<IAcquisition> collection;
+
+    /**
+     * Construtor responsável pelo instanciamento da classe de teste.
+     */
+    public RecordTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() throws Exception {
+        final IProvider provider = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+        collection = new BusinessCollection<>();
+        for (int i = 0; i < 1000; i++) {
+            collection.insert(new Acquisition(provider, i % 5 == 0 ? new Income("Venda" + i, 9) : new Expense("Oferta" + i, 1 + i % 7),
+                    1 + i % 3, new Date(1 + i % 28, 1 + i / 28 % 12, 2019 + i / 336)));
+        }
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Testa se as aquisições de um registro levado do heap para fora dele e restaurado no heap, inclusive após
+     * gravado em fluxo de objetos, tornam-se aquisições comuns equivalentes às originais e independentes das linhas.
+     * @throws Exception Exceção lançada em caso de falha na conversão, gravação ou restauração.
+     */
+    @Test
+    public void correctModeRoundTrip() throws Exception {
+        assumeFalse(Boolean.getBoolean("sdsfinance.offheap"));
+        final OffHeapBusinessCollection offHeapCollection = new OffHeapBusinessCollection(collection);
+        final IBusinessCollection<IAcquisition> heapCollection = toMode(offHeapCollection);
+        offHeapCollection.clear();
+        assertSameAcquisitions(collection, heapCollection);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(new OffHeapBusinessCollection(heapCollection));
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final OffHeapBusinessCollection savedCollection = (OffHeapBusinessCollection) input.readObject();
+            final IBusinessCollection<IAcquisition> loadedCollection = toMode(savedCollection);
+            savedCollection.clear();
+            assertSameAcquisitions(collection, loadedCollection);
+        }
+        final IAcquisition acquisition = heapCollection.select(0);
+        heapCollection.setAmount(acquisition.getKey(), 100);
+        assertEquals(100, acquisition.getAmount());
+        assertNotEquals(100, collection.select(0).getAmount());
+    }
+
+    /**
+     * Método responsável por adequar dada coleção ao modo de armazenamento em uso pelo registro.
+     * @param collection Refere-se a coleção de aquisições.
+     * @return Retorna coleção de aquisições no modo em uso.
+     * @throws Exception Exceção lançada em caso de falha na conversão.
+     */
+    private static IBusinessCollection<IAcquisition> toMode(final IBusinessCollection<IAcquisition> collection) throws Exception {
+        final Method toMode = Record.class.getDeclaredMethod("toMode", IBusinessCollection.class);
+        toMode.setAccessible(true);
+        return (IBusinessCollection<IAcquisition>) toMode.invoke(null, collection);
+    }
+
+    /**
+     * Método responsável por verificar que dada coleção contém aquisições comuns equivalentes às de outra coleção.
+     * @param expected Refere-se a coleção de referência.
+     * @param actual   Refere-se a coleção verificada.
+     */
+    private static void assertSameAcquisitions(final IBusinessCollection<IAcquisition> expected,
+            final IBusinessCollection<IAcquisition> actual) {
+        assertTrue(actual instanceof BusinessCollection);
+        assertFalse(actual instanceof OffHeapBusinessCollection);
+        final List<IAcquisition> expectedAcquisitions = new ArrayList<>();
+        final List<IAcquisition> actualAcquisitions = new ArrayList<>();
+        expected.forEach(false, expectedAcquisitions::add);
+        actual.forEach(false, actualAcquisitions::add);
+        assertEquals(expectedAcquisitions.size(), actualAcquisitions.size());
+        for (int i = 0; i < expectedAcquisitions.size(); i++) {
+            final IAcquisition expectedAcquisition = expectedAcquisitions.get(i);
+            final IAcquisition actualAcquisition = actualAcquisitions.get(i);
+            assertSame(Acquisition.class, actualAcquisition.getClass());
+            assertNotSame(expectedAcquisition, actualAcquisition);
+            assertEquals(expectedAcquisition.getKey().toString(), actualAcquisition.getKey().toString());
+            assertEquals(expectedAcquisition.getAmount(), actualAcquisition.getAmount());
+            assertEquals(expectedAcquisition.getTotalValue(), actualAcquisition.getTotalValue(), 0);
+            assertEquals(expectedAcquisition.getDate().toString(), actualAcquisition.getDate().toString());
+            assertEquals(expectedAcquisition.getProvider().toString(), actualAcquisition.getProvider().toString());
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.offers;
+
+import exceptions.DateInvalidException;
+import exceptions.NullObjectException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import model.business.Acquisition;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import org.junit.Test;
+import util.Date;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar o compartilhamento de versões de ofertas entre aquisições.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class OfferVersionsTest {
+
+    /**
+     * Testa se aquisições de mesma oferta e valor compartilham a versão e se alterações geram outra versão
+     * sem afetar a oferta original nem as demais aquisições.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     */
+    @Test
+    public void correctSharedVersions() throws NullObjectException, DateInvalidException {
+        final IProvider provider = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+        final Expense offer = new Expense("Arroz", 5);
+        final Acquisition first = new Acquisition(provider, offer, 1, new Date(1, 7, 2020));
+        final Acquisition second = new Acquisition(provider, offer, 2, new Date(2, 7, 2020));
+        assertSame(first.getOffer(), second.getOffer());
+        assertNotSame(offer, first.getOffer());
+        assertTrue(first.getOffer() instanceof IExpense);
+        second.setUnitaryValue(6);
+        assertEquals(-6, second.getOffer().getValue(), 0);
+        assertEquals(-5, first.getOffer().getValue(), 0);
+        assertEquals(-5, offer.getValue(), 0);
+        second.setUnitaryValue(5);
+        assertSame(first.getOffer(), second.getOffer());
+        second.setKey("Feijao");
+        assertEquals("Feijao", second.toString());
+        assertEquals("Arroz", first.toString());
+        assertEquals("Arroz", offer.toString());
+        assertSame(OfferVersions.of(new Income("Arroz", 5)), OfferVersions.of(new Income("Arroz", 5)));
+        assertNotSame(OfferVersions.of(new Income("Arroz", 5)), OfferVersions.of(offer));
+    }
+
+    /**
+     * Testa se as aquisições lidas de fluxo de objetos voltam a compartilhar as versões.
+     * @throws Exception Exceção lançada em caso de falha na gravação ou leitura.
+     */
+    @Test
+    public void correctReadObject() throws Exception {
+        final IProvider provider = new Provider("Padaria", new Street("Rua B"), new Neighborhood("Centro"), new City("Recife"));
+        final Acquisition acquisition = new Acquisition(provider, new Income("Pao", 0.5), 1, new Date(1, 7, 2020));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(Arrays.asList(acquisition, new Acquisition(provider, new Income("Pao", 0.5), 3,
+                    new Date(2, 7, 2020))));
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final List<Acquisition> acquisitions = (List<Acquisition>) input.readObject();
+            assertSame(acquisition.getOffer(), acquisitions.get(0).getOffer());
+            assertSame(acquisition.getOffer(), acquisitions.get(1).getOffer());
+        }
+    }
+
+    /**
+     * Testa se a versão compartilhada recusa alterações feitas diretamente, sem afetar as aquisições que a usam.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     */
+    @Test
+    public void incorrectSharedVersionChange() throws NullObjectException, DateInvalidException {
+        final IProvider provider = new Provider("Feira", new Street("Rua C"), new Neighborhood("Centro"), new City("Recife"));
+        final Acquisition acquisition = new Acquisition(provider, new Expense("Milho", 2), 1, new Date(1, 7, 2020));
+        final IOfferEditable version = (IOfferEditable) acquisition.getOffer();
+        try {
+            version.setValue(9);
+            fail("A versão compartilhada aceitou alteração de valor");
+        } catch (final UnsupportedOperationException ex) {
+            assertEquals(-2, acquisition.getOffer().getValue(), 0);
+        }
+        try {
+            version.setKey("Trigo");
+            fail("A versão compartilhada aceitou alteração de nome");
+        } catch (final UnsupportedOperationException ex) {
+            assertEquals("Milho", acquisition.toString());
+        }
+        final IOfferEditable copy = (IOfferEditable) version.duplicate();
+        copy.setValue(9);
+        assertEquals(-9, copy.getValue(), 0);
+    }
+
+    /**
+     * Testa se as versões que deixam de ser referenciadas são descartadas pelo repositório.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     */
+    @Test
+    public void correctReleasedVersions() throws NullObjectException {
+        final WeakReference<IOfferVisible> version = new WeakReference<>(OfferVersions.of(new Income("Aluguel", 700)));
+        for (int i = 0; i < 50 && version.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(version.get());
+        assertEquals(700, OfferVersions.of(new Income("Aluguel", 700)).getValue(), 0);
+    }
+
+}
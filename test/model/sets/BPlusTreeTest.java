@@ -0,0 +1,295 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.IntegerValueInvalidException;
+import exceptions.KeyUsedException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar árvore B+.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class BPlusTreeTest {
+    /**
+     * Refere-se a árvore B+.
+     */
+    private BPlusTree<Integer, Integer> tree;
+    
+    /**
+     * Construtor responsável pelo instanciamento da classe de teste.
+     */
+    public BPlusTreeTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+        tree = new BPlusTree<>();
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Testa operações aleatórias em comparação com a árvore convencional, para diversas ramificações.
+     * @throws IntegerValueInvalidException Exceção lançada em caso de ramificação inválida.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRandomOperations() throws IntegerValueInvalidException, KeyUsedException, ElementNotFoundException {
+        for (final int fanOut : new int[] {3, 4, 5, 8, 64}) {
+            final BPlusTree<Integer, Integer> bPlusTree = new BPlusTree<>(fanOut);
+            final Tree<Integer, Integer> reference = new Tree<>();
+            final Random random = new Random(fanOut);
+            for (int i = 0; i < 20000; i++) {
+                final Integer key = random.nextInt(3000);
+                if (reference.isContains(key)) {
+                    reference.remove(key);
+                    bPlusTree.remove(key);
+                } else {
+                    reference.insert(key, key);
+                    bPlusTree.insert(key, key);
+                }
+                assertEquals(reference.size(), bPlusTree.size());
+            }
+            assertSameContent(reference, bPlusTree);
+            for (Integer key = 0; key < 3000; key++) {
+                if (reference.isContains(key)) {
+                    bPlusTree.remove(key);
+                }
+            }
+            assertTrue(bPlusTree.isEmpty());
+            assertFalse(bPlusTree.iterator(true).hasNext());
+        }
+    }
+
+    /**
+     * Testa recálculos aleatórios, que inserem, substituem ou removem elementos, em comparação com a árvore convencional.
+     * @throws IntegerValueInvalidException Exceção lançada em caso de ramificação inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRandomCompute() throws IntegerValueInvalidException, ElementNotFoundException {
+        for (final int fanOut : new int[] {3, 4, 5, 8, 64}) {
+            final BPlusTree<Integer, Integer> bPlusTree = new BPlusTree<>(fanOut);
+            final Tree<Integer, Integer> reference = new Tree<>();
+            final Random random = new Random(fanOut);
+            for (int i = 0; i < 20000; i++) {
+                final Integer key = random.nextInt(3000);
+                final boolean keep = random.nextInt(3) == 0;
+                final Function<Integer, Integer> remapping = element -> element == null || keep ? key : null;
+                assertEquals(reference.compute(key, remapping), bPlusTree.compute(key, remapping));
+                assertEquals(reference.size(), bPlusTree.size());
+            }
+            assertSameContent(reference, bPlusTree);
+            for (Integer key = 0; key < 3000; key++) {
+                assertEquals(reference.putIfAbsent(key, key), bPlusTree.putIfAbsent(key, key));
+            }
+            assertSameContent(reference, bPlusTree);
+        }
+    }
+
+    /**
+     * Testa a remoção por critério em comparação com a árvore convencional, para diversas ramificações.
+     * @throws IntegerValueInvalidException Exceção lançada em caso de ramificação inválida.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRemoveIf() throws IntegerValueInvalidException, KeyUsedException, ElementNotFoundException {
+        for (final int fanOut : new int[] {3, 4, 5, 8, 64}) {
+            final BPlusTree<Integer, Integer> bPlusTree = new BPlusTree<>(fanOut);
+            final Tree<Integer, Integer> reference = new Tree<>();
+            for (Integer key = 0; key < 5000; key++) {
+                bPlusTree.insert(key, key);
+                reference.insert(key, key);
+            }
+            for (final int divisor : new int[] {7, 3, 2}) {
+                assertEquals(reference.removeIf(element -> element % divisor == 1),
+                        bPlusTree.removeIf(element -> element % divisor == 1));
+                assertSameContent(reference, bPlusTree);
+            }
+            for (Integer key = 0; key < 100; key++) {
+                assertEquals(reference.putIfAbsent(key, key), bPlusTree.putIfAbsent(key, key));
+            }
+            assertSameContent(reference, bPlusTree);
+        }
+    }
+
+    /**
+     * Testa a construção a partir de elementos ordenados e a restauração após gravação em fluxo de objetos.
+     * @throws Exception Exceção lançada em caso de falha na construção, gravação ou restauração.
+     */
+    @Test
+    public void correctBuildFromSortedAndSerialization() throws Exception {
+        final Tree<Integer, Integer> reference = new Tree<>();
+        final List<Integer> elements = new ArrayList<>();
+        for (Integer i = 0; i < 5000; i++) {
+            elements.add(i * 3);
+            reference.insert(i * 3, i * 3);
+        }
+        Collections.shuffle(elements, new Random(14072020));
+        final BPlusTree<Integer, Integer> built = new BPlusTree<>(5);
+        built.buildFromSorted(elements.iterator(), element -> element);
+        assertSameContent(reference, built);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(built);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final BPlusTree<Integer, Integer> copy = (BPlusTree<Integer, Integer>) input.readObject();
+            assertEquals(5, copy.getFanOut());
+            assertSameContent(reference, copy);
+            copy.insert(1, 1);
+            copy.remove(0);
+            assertEquals((Integer) 1, copy.select(0));
+        }
+    }
+
+    /**
+     * Testa lançamento de exceções de ramificação inválida, de chave usada e de elemento não encontrado.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    @Test
+    public void exceptions() throws KeyUsedException {
+        try {
+            new BPlusTree<Integer, Integer>(2);
+            fail("A ramificação inválida seguiu o fluxo.");
+        } catch (IntegerValueInvalidException ex) {
+            assertEquals("2", ex.getIntegerValueInvalid());
+        }
+        tree.insert((Integer) 1, 10);
+        try {
+            tree.insert((Integer) 1, 20);
+            fail("A inserção de chave usada seguiu o fluxo.");
+        } catch (KeyUsedException ex) {
+            assertEquals(10, ex.getElement());
+        }
+        try {
+            tree.remove((Integer) 2);
+            fail("A remoção de chave inexistente seguiu o fluxo.");
+        } catch (ElementNotFoundException ex) {
+            assertEquals(1, tree.size());
+        }
+    }
+
+    /**
+     * Método responsável por verificar se dadas árvores possuem o mesmo conteúdo em todas as consultas.
+     * @param reference Refere-se a árvore de referência.
+     * @param actual    Refere-se a árvore verificada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    private static void assertSameContent(final ITree<Integer, Integer> reference, final ITree<Integer, Integer> actual) throws ElementNotFoundException {
+        final List<Integer> expected = new ArrayList<>();
+        final List<Integer> found = new ArrayList<>();
+        reference.forEach(false, expected::add);
+        actual.forEach(false, found::add);
+        assertEquals(expected, found);
+        found.clear();
+        actual.forEach(true, found::add);
+        Collections.reverse(found);
+        assertEquals(expected, found);
+        found.clear();
+        final Iterator<Integer> iterator = actual.iterator(true);
+        while (iterator.hasNext()) {
+            found.add(0, iterator.next());
+        }
+        assertEquals(expected, found);
+        assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+                StreamSupport.stream(actual.spliterator(), true).mapToLong(Integer::longValue).sum());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, actual.rank(expected.get(i)));
+            assertEquals(expected.get(i), actual.select(i));
+        }
+        if (!expected.isEmpty()) {
+            final Integer middle = expected.get(expected.size() / 2);
+            final List<Integer> expectedRange = new ArrayList<>();
+            final List<Integer> foundRange = new ArrayList<>();
+            reference.forEachInRange(middle - 500, middle + 1, true, expectedRange::add);
+            actual.forEachInRange(middle - 500, middle + 1, true, foundRange::add);
+            assertEquals(expectedRange, foundRange);
+            expectedRange.clear();
+            foundRange.clear();
+            reference.tailRange(middle + 1, false, expectedRange::add);
+            actual.tailRange(middle + 1, false, foundRange::add);
+            assertEquals(expectedRange, foundRange);
+            for (int i = -1; i < expected.get(expected.size() - 1) + 2; i += 7) {
+                final Integer key = i;
+                assertEquals(bound(() -> reference.floor(key)), bound(() -> actual.floor(key)));
+                assertEquals(bound(() -> reference.ceiling(key)), bound(() -> actual.ceiling(key)));
+            }
+        }
+    }
+
+    /**
+     * Interface responsável por fornecer consulta que pode não encontrar elemento.
+     */
+    private interface Query {
+
+        /**
+         * Método responsável por realizar a consulta.
+         * @return Retorna elemento encontrado.
+         * @throws ElementNotFoundException Exceção lançada no caso do elemento não ser encontrado.
+         */
+        Integer run() throws ElementNotFoundException;
+
+    }
+
+    /**
+     * Método responsável por realizar dada consulta, trocando a ausência de elemento por referência nula.
+     * @param query Refere-se a consulta.
+     * @return Retorna elemento encontrado ou referência nula.
+     */
+    private static Integer bound(final Query query) {
+        try {
+            return query.run();
+        } catch (ElementNotFoundException ex) {
+            return null;
+        }
+    }
+    
+}
@@ -0,0 +1,383 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.DateInvalidException;
+import exceptions.ElementNotFoundException;
+import exceptions.NullObjectException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import model.business.Acquisition;
+import model.business.AcquisitionKey;
+import model.business.IAcquisition;
+import model.offers.Expense;
+import model.offers.IOfferVisible;
+import model.offers.Income;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import util.Date;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar coleção de negócios.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class BusinessCollectionTest {
+    /**
+     * Refere-se a coleção de aquisições.
+     */
+    private BusinessCollection<IAcquisition> collection;
+    /**
+     * Refere-se ao fornecedor das aquisições.
+     */
+    private IProvider provider;
+    
+    /**
+     * Construtor responsável pelo instanciamento da classe de teste.
+     */
+    public BusinessCollectionTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() throws NullObjectException {
+        collection = new BusinessCollection<>();
+        provider = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Testa se as aquisições são ordenadas pela data e se aquisições equivalentes somam suas quantidades.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctKeyOrderAndMerge() throws NullObjectException, DateInvalidException, ElementNotFoundException {
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 1, new Date(14, 6, 2020)));
+        collection.insert(new Acquisition(provider, new Income("Venda", 9), 1, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("ARROZ", 5), 4, new Date(3, 7, 2020)));
+        assertEquals(3, collection.size());
+        assertEquals(14, collection.select(0).getDate().getDay());
+        assertEquals(6, collection.select(1).getAmount());
+        assertEquals("Venda", collection.select(2).toString());
+        final IAcquisition acquisition = collection.select(1);
+        assertEquals("20200703mercadorecifecentrorua aarroz-5.0", acquisition.getKey().toString());
+        assertSame(acquisition, collection.search(acquisition.getKey()));
+        assertSame(acquisition, collection.search(
+                new Acquisition(provider, new Expense("arroz", 5), 1, new Date(3, 7, 2020)).getKey()));
+    }
+
+    /**
+     * Testa se os limites de chaves por data delimitam as aquisições de um período nas consultas por intervalo,
+     * tanto no heap quanto fora dele.
+     * @throws Exception Exceção lançada em caso de falha na consulta.
+     */
+    @Test
+    public void correctDateRange() throws Exception {
+        final IProvider bakery = new Provider("Padaria", new Street("Rua B"), new Neighborhood("Centro"), new City("Recife"));
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 1, new Date(30, 6, 2020)));
+        collection.insert(new Acquisition(bakery, new Expense("Pao", 1), 2, new Date(1, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Income("Venda", 9), 3, new Date(15, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("Feijao", 7), 4, new Date(31, 7, 2020)));
+        collection.insert(new Acquisition(bakery, new Expense("Bolo", 3), 5, new Date(1, 8, 2020)));
+        final List<Integer> amounts = new ArrayList<>();
+        collection.forEachInRange(AcquisitionKey.startOfDay(20200701), AcquisitionKey.endOfDay(20200731), false,
+                acquisition -> amounts.add(acquisition.getAmount()));
+        assertEquals(Arrays.asList(2, 3, 4), amounts);
+        amounts.clear();
+        collection.headRange(AcquisitionKey.startOfDay(20200701), true, acquisition -> amounts.add(acquisition.getAmount()));
+        assertEquals(Arrays.asList(1), amounts);
+        amounts.clear();
+        collection.tailRange(AcquisitionKey.endOfDay(20200731), false, acquisition -> amounts.add(acquisition.getAmount()));
+        assertEquals(Arrays.asList(5), amounts);
+        assertEquals(3, collection.ceiling(AcquisitionKey.startOfDay(20200702)).getAmount());
+        assertEquals(4, collection.floor(AcquisitionKey.endOfDay(20200731)).getAmount());
+        try {
+            collection.floor(AcquisitionKey.startOfDay(20200630));
+            fail("A busca encontrou aquisição anterior a primeira data");
+        } catch (final ElementNotFoundException ex) {
+            assertEquals(5, collection.size());
+        }
+        final OffHeapBusinessCollection offHeapCollection = new OffHeapBusinessCollection(collection);
+        amounts.clear();
+        offHeapCollection.forEachInRange(AcquisitionKey.startOfDay(20200701), AcquisitionKey.endOfDay(20200731), true,
+                acquisition -> amounts.add(acquisition.getAmount()));
+        assertEquals(Arrays.asList(4, 3, 2), amounts);
+        assertEquals(2, offHeapCollection.ceiling(AcquisitionKey.startOfDay(20200701)).getAmount());
+    }
+
+    /**
+     * Testa se a chave de aquisição recusa a comparação com chaves de outros tipos, cuja ordem não é compatível.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     */
+    @Test(expected = ClassCastException.class)
+    public void incorrectForeignKeyComparison() throws NullObjectException, DateInvalidException {
+        final Comparable<?> key = new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)).getKey();
+        ((Comparable<Object>) key).compareTo(key.toString());
+    }
+
+    /**
+     * Testa a alteração de chave por data e a restauração da coleção após gravada em fluxo de objetos.
+     * @throws Exception Exceção lançada em caso de falha na alteração, gravação ou restauração.
+     */
+    @Test
+    public void correctSetDateAndSerialization() throws Exception {
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("Feijao", 7), 1, new Date(1, 7, 2020)));
+        collection.setDate(collection.select(1).getKey(), new Date(30, 6, 2020));
+        assertEquals("Arroz", collection.select(0).toString());
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(collection);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final BusinessCollection<IAcquisition> copy = (BusinessCollection<IAcquisition>) input.readObject();
+            assertEquals(2, copy.size());
+            final IAcquisition acquisition = copy.select(1);
+            assertSame(acquisition, copy.search(acquisition.getKey()));
+            assertEquals("Feijao", acquisition.toString());
+        }
+    }
+
+    /**
+     * Testa se a alteração de data para a chave de outro negócio soma as quantidades e descarta o negócio alterado.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctSetDateMerge() throws NullObjectException, DateInvalidException, ElementNotFoundException {
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 3, new Date(1, 7, 2020)));
+        collection.setDate(collection.select(0).getKey(), new Date(3, 7, 2020));
+        assertEquals(1, collection.size());
+        assertEquals(5, collection.select(0).getAmount());
+        assertEquals(3, collection.select(0).getDate().getDay());
+    }
+
+    /**
+     * Testa se a inserção em lote soma as quantidades de aquisições equivalentes, dentro do lote e com a coleção.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctInsertAllMerge() throws NullObjectException, DateInvalidException, ElementNotFoundException {
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)));
+        collection.insertAll(Arrays.asList(
+                new Acquisition(provider, new Expense("Feijao", 7), 1, new Date(1, 7, 2020)),
+                new Acquisition(provider, new Expense("Arroz", 5), 3, new Date(3, 7, 2020)),
+                new Acquisition(provider, new Expense("Feijao", 7), 4, new Date(1, 7, 2020))));
+        assertEquals(2, collection.size());
+        assertEquals(5, collection.select(0).getAmount());
+        assertEquals(5, collection.select(1).getAmount());
+        assertEquals("Arroz", collection.select(1).toString());
+    }
+
+    /**
+     * Testa se o índice por fornecedor acompanha inserções, somas, trocas de fornecedor, remoções e restaurações.
+     * @throws Exception Exceção lançada em caso de falha nas alterações, gravação ou restauração.
+     */
+    @Test
+    public void correctProviderIndex() throws Exception {
+        final IProvider other = new Provider("Feira", new Street("Rua B"), new Neighborhood("Centro"), new City("Recife"));
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 1, new Date(3, 7, 2020)));
+        collection.insertAll(Arrays.asList(
+                new Acquisition(provider, new Expense("Feijao", 7), 1, new Date(1, 7, 2020)),
+                new Acquisition(other, new Expense("Arroz", 5), 4, new Date(3, 7, 2020)),
+                new Acquisition(other, new Expense("Arroz", 5), 1, new Date(3, 7, 2020))));
+        assertEquals(2, countByProvider(collection, provider));
+        assertEquals(1, countByProvider(collection, other));
+        collection.setProvider(new Acquisition(provider, new Expense("Arroz", 5), 1, new Date(3, 7, 2020)).getKey(), other);
+        assertEquals(1, countByProvider(collection, provider));
+        assertEquals(1, countByProvider(collection, other));
+        collection.forEachByProvider(other, acquisition -> assertEquals(8, acquisition.getAmount()));
+        collection.remove(collection.select(0).getKey());
+        assertEquals(0, countByProvider(collection, provider));
+        collection.insert(new Acquisition(provider, new Expense("Cafe", 3), 1, new Date(2, 7, 2020)));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(new Object[] {collection, provider});
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Object[] objects = (Object[]) input.readObject();
+            final BusinessCollection<IAcquisition> copy = (BusinessCollection<IAcquisition>) objects[0];
+            assertEquals(1, countByProvider(copy, (IProvider) objects[1]));
+        }
+        collection.removeIf(acquisition -> acquisition.getProvider() == other);
+        assertEquals(0, countByProvider(collection, other));
+        assertEquals(1, countByProvider(collection, provider));
+        collection.clear();
+        assertEquals(0, countByProvider(collection, provider));
+    }
+
+    /**
+     * Testa se o índice por oferta acompanha renomeações de oferta, alterações de valor e remoções.
+     * @throws Exception Exceção lançada em caso de falha nas alterações.
+     */
+    @Test
+    public void correctOfferIndex() throws Exception {
+        final Expense rice = new Expense("Arroz", 5);
+        final Expense beans = new Expense("Feijao", 7);
+        collection.insert(new Acquisition(provider, rice, 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, rice, 1, new Date(4, 7, 2020)));
+        collection.insert(new Acquisition(provider, beans, 1, new Date(3, 7, 2020)));
+        assertEquals(2, countByOffer(provider, rice));
+        assertEquals(1, countByOffer(provider, beans));
+        final Comparable<String> key = new Acquisition(provider, rice, 1, new Date(4, 7, 2020)).getKey();
+        collection.setUnitaryValue(key, 6);
+        assertEquals(2, countByOffer(provider, rice));
+        collection.redefineKey(new Acquisition(provider, rice, 1, new Date(3, 7, 2020)).getKey(), "Cevada");
+        assertEquals(1, countByOffer(provider, rice));
+        assertEquals(1, countByOffer(provider, new Expense("Cevada", 5)));
+        assertEquals(3, countByProvider(collection, provider));
+        collection.remove(new Acquisition(provider, beans, 1, new Date(3, 7, 2020)).getKey());
+        assertEquals(0, countByOffer(provider, beans));
+        assertEquals(0, countByOffer(new Provider("Feira", new Street("Rua B"), new Neighborhood("Centro"),
+                new City("Recife")), rice));
+    }
+
+    /**
+     * Testa o reposicionamento em lote dos negócios de um fornecedor alterado ou substituído.
+     * @throws Exception Exceção lançada em caso de falha nas alterações.
+     */
+    @Test
+    public void correctRekeyAllForProvider() throws Exception {
+        final IOrganizationCollection<IProvider> providers = new OrganizationCollection<>();
+        final IProvider other = new Provider("Feira", new Street("Rua B"), new Neighborhood("Centro"), new City("Recife"));
+        providers.insert(provider);
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("Feijao", 7), 1, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(other, new Expense("Arroz", 5), 4, new Date(3, 7, 2020)));
+        providers.setStreet(provider.getKey(), new Street("Rua C"));
+        assertFalse(collection.rekeyAllForProvider(new Provider("Bazar", new Street("Rua A"), new Neighborhood("Centro"),
+                new City("Recife")), other));
+        assertTrue(collection.rekeyAllForProvider(provider, provider));
+        assertEquals(3, collection.size());
+        assertEquals(2, collection.search(new Acquisition(provider, new Expense("Arroz", 5), 1,
+                new Date(3, 7, 2020)).getKey()).getAmount());
+        assertTrue(collection.rekeyAllForProvider(provider, other));
+        assertEquals(2, collection.size());
+        assertEquals(0, countByProvider(collection, provider));
+        assertEquals(2, countByProvider(collection, other));
+        assertEquals(6, collection.search(new Acquisition(other, new Expense("Arroz", 5), 1,
+                new Date(3, 7, 2020)).getKey()).getAmount());
+        assertEquals(1, countByOffer(other, new Expense("Feijao", 7)));
+    }
+
+    /**
+     * Testa a alteração conjunta de valor, quantidade e data, com reposicionamento único e soma na colisão.
+     * @throws Exception Exceção lançada em caso de falha nas alterações.
+     */
+    @Test
+    public void correctUpdate() throws Exception {
+        final IAcquisition target = new Acquisition(provider, new Expense("Arroz", 6), 4, new Date(5, 7, 2020));
+        final IAcquisition moved = new Acquisition(provider, new Expense("Arroz", 5), 1, new Date(3, 7, 2020));
+        collection.insert(target);
+        collection.insert(moved);
+        final Date date = new Date(5, 7, 2020);
+        assertSame(moved, collection.update(moved.getKey(), business -> business.setAmount(2)));
+        assertEquals(2, collection.size());
+        assertSame(target, collection.update(moved.getKey(), business -> {
+            business.setUnitaryValue(6);
+            business.setAmount(3);
+            business.setDate(date);
+        }));
+        assertEquals(1, collection.size());
+        assertEquals(7, collection.search(target.getKey()).getAmount());
+        assertEquals(1, countByProvider(collection, provider));
+    }
+
+    /**
+     * Método responsável por contar os negócios de dada oferta pelo índice da coleção.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @return Retorna quantidade de negócios da oferta.
+     */
+    private int countByOffer(final IProvider provider, final IOfferVisible offer) {
+        final int[] count = {0};
+        collection.forEachByOffer(provider, offer, acquisition -> {
+            assertEquals(offer.getKey(), acquisition.getOffer().getKey());
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Método responsável por contar os negócios de dado fornecedor pelo índice da coleção.
+     * @param collection Refere-se a coleção de negócios.
+     * @param provider   Refere-se ao fornecedor.
+     * @return Retorna quantidade de negócios do fornecedor.
+     */
+    private static int countByProvider(final BusinessCollection<IAcquisition> collection, final IProvider provider) {
+        final int[] count = {0};
+        collection.forEachByProvider(provider, acquisition -> {
+            assertSame(provider, acquisition.getProvider());
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Testa se a chave memorizada é reaproveitada e descartada após alterações na aquisição ou no fornecedor.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     */
+    @Test
+    public void correctMemoizedKeys() throws NullObjectException, DateInvalidException {
+        final Acquisition acquisition = new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020));
+        final Comparable<String> key = acquisition.getKey();
+        assertSame(key, acquisition.getKey());
+        acquisition.setDate(new Date(4, 7, 2020));
+        assertNotEquals(key, acquisition.getKey());
+        final Comparable<String> keyAfterDate = acquisition.getKey();
+        ((Provider) provider).setStreet(new Street("Rua B"));
+        assertEquals("20200704mercadorecifecentrorua barroz-5.0", acquisition.getKey().toString());
+        assertNotEquals(keyAfterDate, acquisition.getKey());
+    }
+    
+}
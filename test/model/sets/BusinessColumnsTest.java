@@ -0,0 +1,156 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.DateInvalidException;
+import exceptions.ElementNotFoundException;
+import exceptions.NullObjectException;
+import java.util.ArrayList;
+import java.util.List;
+import model.business.Acquisition;
+import model.business.AcquisitionKey;
+import model.business.IAcquisition;
+import model.offers.Expense;
+import model.offers.Income;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import org.junit.Before;
+import org.junit.Test;
+import util.Date;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar espelho colunar de coleção de negócios.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class BusinessColumnsTest {
+    /**
+     * Refere-se a coleção de aquisições.
+     */
+    private BusinessCollection<IAcquisition> collection;
+    /**
+     * Refere-se ao fornecedor mercado.
+     */
+    private IProvider market;
+    /**
+     * Refere-se ao fornecedor padaria.
+     */
+    private IProvider bakery;
+
+    @Before
+    public void setUp() throws NullObjectException, DateInvalidException {
+        collection = new BusinessCollection<>();
+        market = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+        bakery = new Provider("Padaria", new Street("Rua B"), new Neighborhood("Centro"), new City("Recife"));
+        collection.insert(new Acquisition(market, new Expense("Arroz", 5.1), 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(market, new Income("Venda", 9.99), 1, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(bakery, new Expense("Pao", 0.35), 10, new Date(14, 6, 2020)));
+        collection.insert(new Acquisition(market, new Expense("Arroz", 5.1), 1, new Date(1, 1, 2021)));
+    }
+
+    /**
+     * Testa se as linhas seguem a ordem de data e se fornecedores e ofertas são codificados em dicionários.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctColumns() throws NullObjectException, ElementNotFoundException {
+        final BusinessColumns columns = new BusinessColumns(collection);
+        assertEquals(4, columns.size());
+        assertEquals(20200614, columns.getDate(0));
+        assertEquals(20210101, columns.getDate(3));
+        assertSame(bakery, columns.getProvider(columns.getProviderId(0)));
+        assertEquals(-350, columns.getTotalCents(0));
+        assertEquals(-510, columns.getUnitaryCents(3));
+        assertEquals(columns.getOfferId(1), columns.getOfferId(3));
+        assertNotEquals(columns.getOfferId(1), columns.getOfferId(2));
+        final int rice = columns.offerId(market, collection.select(3).getOffer());
+        assertEquals("Arroz", columns.getOffer(rice).toString());
+        assertEquals(-1530, columns.totalCents(row -> columns.getOfferId(row) == rice));
+        assertEquals(-1530 + 999, columns.totalCents(market));
+        assertEquals(-1, columns.providerId(new Provider("Feira", new Street("Rua C"),
+                new Neighborhood("Centro"), new City("Recife"))));
+    }
+
+    /**
+     * Testa se os totais por período coincidem com a soma dos valores totais das aquisições.
+     */
+    @Test
+    public void correctForEachPeriod() {
+        final BusinessColumns columns = new BusinessColumns(collection);
+        final List<String> periods = new ArrayList<>();
+        columns.forEachPeriod(BusinessColumns.MONTH, true, (period, positiveCents, negativeCents) -> {
+            periods.add(period + ":" + positiveCents + ":" + negativeCents);
+        });
+        assertEquals("[202101:0:-510, 202007:999:-1020, 202006:0:-350]", periods.toString());
+        periods.clear();
+        columns.forEachPeriod(BusinessColumns.YEAR, false, (period, positiveCents, negativeCents) -> {
+            periods.add(period + ":" + positiveCents + ":" + negativeCents);
+        });
+        assertEquals("[2020:999:-1370, 2021:0:-510]", periods.toString());
+    }
+
+    /**
+     * Testa se o espelho de um intervalo de datas contém apenas as aquisições do intervalo.
+     */
+    @Test
+    public void correctColumnsInRange() {
+        final BusinessColumns columns = new BusinessColumns(collection, AcquisitionKey.startOfDay(20200701),
+                AcquisitionKey.endOfDay(20200731));
+        assertEquals(2, columns.size());
+        assertEquals(20200703, columns.getDate(0));
+        assertEquals(20200703, columns.getDate(1));
+        final List<String> periods = new ArrayList<>();
+        columns.forEachPeriod(BusinessColumns.DAY, false, (period, positiveCents, negativeCents) -> {
+            periods.add(period + ":" + positiveCents + ":" + negativeCents);
+        });
+        assertEquals("[20200703:999:-1020]", periods.toString());
+        assertEquals(0, new BusinessColumns(collection, AcquisitionKey.startOfDay(20200801),
+                AcquisitionKey.endOfDay(20200831)).size());
+    }
+
+    /**
+     * Testa se a coleção reaproveita o espelho enquanto não é alterada e o descarta a cada alteração.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctCachedColumns() throws NullObjectException, DateInvalidException, ElementNotFoundException {
+        final BusinessColumns columns = collection.getColumns();
+        assertSame(columns, collection.getColumns());
+        final Comparable<String> key = collection.select(0).getKey();
+        collection.setAmount(key, 20);
+        assertNotSame(columns, collection.getColumns());
+        assertEquals(-700, collection.getColumns().getTotalCents(0));
+        final BusinessColumns changedColumns = collection.getColumns();
+        collection.insert(new Acquisition(bakery, new Expense("Pao", 0.35), 1, new Date(14, 6, 2020)));
+        assertEquals(-735, collection.getColumns().getTotalCents(0));
+        assertNotSame(changedColumns, collection.getColumns());
+        collection.remove(key);
+        assertEquals(3, collection.getColumns().size());
+        collection.clear();
+        assertEquals(0, collection.getColumns().size());
+    }
+
+}
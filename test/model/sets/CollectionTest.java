@@ -22,6 +22,9 @@ package model.sets;
 import exceptions.ElementNotFoundException;
 import exceptions.KeyUsedException;
 import exceptions.NullObjectException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import model.offers.Expense;
 import model.offers.IExpense;
 import org.junit.After;
@@ -138,7 +141,34 @@ public class CollectionTest {
         assertEquals("bolacha", expenseOne.toString());
         assertEquals("escova", expenseTwo.toString());
     }
-    
+
+    /**
+     * Testa a redefinição de chave de elemento ausente e para chave nula, que não devem alterar a coleção.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção de elemento não encontrado.
+     */
+    @Test
+    public void incorrectRedefineKeyOfMissingElementOrToNull()
+            throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        IExpense expense = new Expense("Bolacha",3);
+        collection.insert(expense);
+        try {
+            collection.redefineKey(new Expense("Escova",4).getKey(), "Pasta");
+            fail("seguiu o fluxo de processamento");
+        } catch (ElementNotFoundException ex) {
+            assertEquals(1, collection.size());
+        }
+        try {
+            collection.redefineKey(expense.getKey(), null);
+            fail("seguiu o fluxo de processamento");
+        } catch (NullObjectException ex) {
+            assertEquals("Bolacha", expense.toString());
+            assertSame(expense, collection.search(expense.getKey()));
+            assertEquals(1, collection.size());
+        }
+    }
+
     /**
      * Testa o uso do forEach sem elemento inserido.
      */
@@ -197,4 +227,103 @@ public class CollectionTest {
         assertEquals(0, collection.size());
     }
     
+    /**
+     * Testa a posição e a seleção de elementos por posição na coleção.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção de elemento não encontrado.
+     */
+    @Test
+    public void correctRankAndSelect() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        collection.insert(new Expense("Cafe", 3));
+        collection.insert(new Expense("Arroz", 5));
+        collection.insert(new Expense("Bolacha", 2));
+        assertEquals(3, collection.size());
+        assertEquals(0, collection.rank("arroz-"));
+        assertEquals(2, collection.rank("cafe-"));
+        assertEquals("Bolacha", collection.select(1).toString());
+    }
+    
+    /**
+     * Testa os fluxos sequencial e paralelo sobre os elementos da coleção.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    @Test
+    public void correctStream() throws NullObjectException, KeyUsedException {
+        collection.insert(new Expense("Cafe", 3));
+        collection.insert(new Expense("Arroz", 5));
+        collection.insert(new Expense("Bolacha", 2));
+        assertEquals("Arroz", collection.stream().findFirst().get().toString());
+        assertEquals("Cafe", collection.iterator(true).next().toString());
+        assertEquals(-10, collection.parallelStream().mapToDouble(IExpense::getValue).sum(), 0.00);
+    }
+    
+    /**
+     * Testa o percurso por intervalo e a busca pelas chaves vizinhas na coleção.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção de elemento não encontrado.
+     */
+    @Test
+    public void correctRangeQueries() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        collection.insert(new Expense("Cafe", 3));
+        collection.insert(new Expense("Arroz", 5));
+        collection.insert(new Expense("Bolacha", 2));
+        final StringBuilder names = new StringBuilder();
+        collection.forEachInRange("b", "d", false, expense -> names.append(expense.toString()));
+        assertEquals("BolachaCafe", names.toString());
+        assertEquals("Bolacha", collection.floor("c").toString());
+        assertEquals("Cafe", collection.ceiling("c").toString());
+    }
+    
+    /**
+     * Testa a inserção em lote, sua intercalação aos elementos existentes e a recusa de chaves repetidas.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção de elemento não encontrado.
+     */
+    @Test
+    public void correctInsertAll() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        collection.insert(new Expense("Bolacha", 2));
+        collection.insertAll(Arrays.asList(new Expense("Feijao", 4), new Expense("Arroz", 5), new Expense("Cafe", 3)));
+        assertEquals(4, collection.size());
+        assertEquals("Arroz", collection.select(0).toString());
+        assertEquals("Feijao", collection.select(3).toString());
+        assertEquals(2, collection.rank("cafe-"));
+        try {
+            collection.insertAll(Arrays.asList(new Expense("Leite", 6), new Expense("CAFE", 1)));
+            fail("A inserção em lote de chave usada seguiu o fluxo.");
+        } catch (final KeyUsedException ex) {
+            assertEquals("Cafe", ex.getElement().toString());
+        }
+        assertEquals(4, collection.size());
+        assertFalse(collection.isContains("leite-"));
+    }
+
+    /**
+     * Testa a remoção em lote, tanto individual quanto por reconstrução, ignorando chaves ausentes.
+     * @throws NullObjectException Exceção lançada em caso de chave nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção de elemento não encontrado.
+     */
+    @Test
+    public void correctRemoveAll() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        for (int i = 0; i < 1000; i++) {
+            collection.insert(new Expense("Oferta" + (1000 + i), 5));
+        }
+        assertEquals(2, collection.removeAll(Arrays.asList(new Expense("Oferta1001", 5).getKey(),
+                new Expense("Oferta1002", 5).getKey(), new Expense("Ausente", 5).getKey())));
+        final List<Comparable<String>> keys = new ArrayList<>();
+        for (int i = 999; i >= 0; i -= 2) {
+            keys.add(new Expense("Oferta" + (1000 + i), 5).getKey());
+        }
+        assertEquals(499, collection.removeAll(keys));
+        assertEquals(499, collection.size());
+        assertEquals("Oferta1000", collection.select(0).toString());
+        assertEquals("Oferta1004", collection.select(1).toString());
+        assertFalse(collection.isContains(new Expense("Oferta1003", 5).getKey()));
+        assertEquals(0, collection.removeAll(keys));
+    }
+
 }
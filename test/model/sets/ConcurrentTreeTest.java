@@ -0,0 +1,121 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar árvore concorrente.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class ConcurrentTreeTest {
+    /**
+     * Refere-se a árvore concorrente.
+     */
+    private ConcurrentTree<Integer, Integer> tree;
+    
+    /**
+     * Construtor responsável pelo instanciamento da classe de teste.
+     */
+    public ConcurrentTreeTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+        tree = new ConcurrentTree<>();
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Testa inserções concorrentes enquanto leitores percorrem a árvore em ordem reversa.
+     * @throws InterruptedException Exceção lançada em caso de interrupção da espera.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test(timeout = 60000)
+    public void correctConcurrentInsertions() throws InterruptedException, ElementNotFoundException {
+        final int writers = 4;
+        final int perWriter = 2000;
+        final AtomicBoolean disordered = new AtomicBoolean(false);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final CountDownLatch done = new CountDownLatch(writers);
+        final List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perWriter; i++) {
+                        final Integer key = i * writers + writer;
+                        tree.insert(key, key);
+                    }
+                } catch (KeyUsedException ex) {
+                    failed.set(true);
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+        threads.add(new Thread(() -> {
+            while (done.getCount() > 0) {
+                final int[] previous = {Integer.MAX_VALUE};
+                tree.forEach(true, element -> {
+                    if (element >= previous[0]) {
+                        disordered.set(true);
+                    }
+                    previous[0] = element;
+                });
+            }
+        }));
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse("Houve inserção rejeitada.", failed.get());
+        assertFalse("O percurso reverso saiu de ordem.", disordered.get());
+        assertEquals(writers * perWriter, tree.size());
+        for (int i = 0; i < writers * perWriter; i++) {
+            assertEquals((Integer) i, tree.select(i));
+        }
+    }
+    
+}
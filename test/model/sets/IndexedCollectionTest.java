@@ -0,0 +1,234 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import exceptions.NullObjectException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import model.offers.Expense;
+import model.offers.IExpense;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar a coleção dotada de índices secundários.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class IndexedCollectionTest {
+    private IndexedCollection<String, IExpense> collection;
+    
+    public IndexedCollectionTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+        collection = new IndexedCollection<String, IExpense>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void declareIndexes() {
+                addIndex("initial", expense -> expense.toString().toLowerCase().charAt(0), false, true);
+                addIndex("value", IExpense::getValue, true, false);
+            }
+        };
+    }
+    
+    @After
+    public void tearDown() {
+    }
+    
+    /**
+     * Método de teste responsável por verificar os índices após inserções, remoções e redefinições de chave.
+     * @throws NullObjectException Exceção lançada em caso de string nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctIndexes() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        final IExpense bolacha = new Expense("Bolacha", 3);
+        collection.insert(bolacha);
+        collection.insert(new Expense("Biscoito", 5));
+        collection.insert(new Expense("Arroz", 7));
+        assertEquals("O índice não agrupou os elementos de mesma chave", 2, listByIndex('b').size());
+        assertSame("A busca por índice único não encontrou o elemento", bolacha, collection.searchByIndex("value", -3.0));
+        collection.redefineKey(bolacha.getKey(), "Café");
+        assertEquals("A redefinição de chave não retirou o elemento do índice", 1, listByIndex('b').size());
+        assertEquals("A redefinição de chave não incluiu o elemento no índice", Arrays.asList(bolacha), listByIndex('c'));
+        collection.remove(new Expense("Arroz", 7).getKey());
+        assertTrue("A remoção não retirou o elemento do índice", listByIndex('a').isEmpty());
+        final ArrayList<String> ordered = new ArrayList<>();
+        collection.forEachInIndex("initial", true, expense -> ordered.add(expense.toString()));
+        assertEquals("O índice ordenado não foi percorrido em ordem", Arrays.asList("Café", "Biscoito"), ordered);
+        collection.removeIf(expense -> expense.getValue() == -5);
+        assertTrue("A remoção por critério não retirou o elemento do índice", listByIndex('b').isEmpty());
+        collection.clear();
+        assertTrue("O esvaziamento não retirou o elemento do índice", listByIndex('c').isEmpty());
+    }
+
+    /**
+     * Método de teste responsável por verificar a recusa de chaves repetidas em índice único.
+     * @throws NullObjectException Exceção lançada em caso de string nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void incorrectUniqueIndex() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        final IExpense bolacha = new Expense("Bolacha", 3);
+        collection.insert(bolacha);
+        try {
+            collection.insert(new Expense("Biscoito", 3));
+            fail("O índice único aceitou chave repetida");
+        } catch (final KeyUsedException ex) {
+            assertSame("A exceção não indicou o elemento que usa a chave", bolacha, ex.getElement());
+        }
+        final IExpense biscoito = new Expense("Biscoito", 3);
+        assertNull("O recálculo aceitou chave repetida em índice único", collection.compute(biscoito.getKey(), expense -> biscoito));
+        assertFalse("O recálculo recusado alterou a coleção", collection.isContains(biscoito.getKey()));
+        final IExpense arroz = new Expense("Arroz", 4);
+        collection.insert(arroz);
+        final IExpense otherBolacha = new Expense("Bolacha", 4);
+        assertSame("O recálculo recusado não manteve o elemento atual", bolacha,
+                collection.compute(bolacha.getKey(), expense -> otherBolacha));
+        assertSame("O recálculo recusado alterou o índice", bolacha, collection.searchByIndex("value", -3.0));
+        assertSame("O recálculo recusado alterou o índice", arroz, collection.searchByIndex("value", -4.0));
+        final IExpense cafe = new Expense("Café", 3);
+        collection.compute(bolacha.getKey(), expense -> null);
+        collection.insert(cafe);
+        assertSame("A chave liberada no índice único não foi reaproveitada", cafe, collection.searchByIndex("value", -3.0));
+    }
+
+    /**
+     * Método de teste responsável por verificar a recusa de chaves repetidas em índice único na inserção em lote,
+     * tanto entre os elementos do lote quanto em relação aos elementos da coleção.
+     * @throws NullObjectException Exceção lançada em caso de string nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void incorrectUniqueIndexInBatch() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        final IExpense bolacha = new Expense("Bolacha", 3);
+        collection.insert(bolacha);
+        final IExpense arroz = new Expense("Arroz", 5);
+        try {
+            collection.insertAll(Arrays.asList(arroz, new Expense("Feijao", 5)));
+            fail("O índice único aceitou chave repetida dentro do lote");
+        } catch (final KeyUsedException ex) {
+            assertSame("A exceção não indicou o elemento que usa a chave", arroz, ex.getElement());
+        }
+        try {
+            collection.insertAll(Arrays.asList(new Expense("Cafe", 4), new Expense("Biscoito", 3)));
+            fail("O índice único aceitou chave em uso pela coleção");
+        } catch (final KeyUsedException ex) {
+            assertSame("A exceção não indicou o elemento que usa a chave", bolacha, ex.getElement());
+        }
+        assertEquals("O lote recusado alterou a coleção", 1, collection.size());
+        collection.insertAll(Arrays.asList(arroz, new Expense("Feijao", 6), new Expense("Cafe", 4)));
+        assertSame("O índice não acompanhou a inserção em lote", arroz, collection.searchByIndex("value", -5.0));
+        assertEquals("O índice não acompanhou a inserção em lote", 2, listByIndex('b').size() + listByIndex('a').size());
+    }
+
+    /**
+     * Método de teste responsável por verificar o índice por cidade da coleção de organizações.
+     * @throws NullObjectException Exceção lançada em caso de string nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctCityIndex() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        final IOrganizationCollection<IProvider> providers = new OrganizationCollection<>();
+        final IProvider mercado = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+        providers.insert(mercado);
+        providers.insert(new Provider("Feira", new Street("Rua B"), new Neighborhood("Centro"), new City("Olinda")));
+        final ArrayList<IProvider> found = new ArrayList<>();
+        providers.forEachByCity(new City("recife"), found::add);
+        assertEquals("O índice por cidade não encontrou a organização", Arrays.asList(mercado), found);
+        providers.setCity(mercado.getKey(), new City("Olinda"));
+        found.clear();
+        providers.forEachByCity(new City("Recife"), found::add);
+        assertTrue("A alteração de cidade não retirou a organização do índice", found.isEmpty());
+        providers.forEachByCity(new City("Olinda"), found::add);
+        assertEquals("A alteração de cidade não incluiu a organização no índice", 2, found.size());
+        providers.remove(mercado.getKey());
+        found.clear();
+        providers.forEachByCity(new City("Olinda"), found::add);
+        assertEquals("A remoção não retirou a organização do índice", 1, found.size());
+    }
+
+    /**
+     * Método de teste responsável por verificar a alteração conjunta dos campos de uma organização.
+     * @throws NullObjectException Exceção lançada em caso de string nula.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctOrganizationUpdate() throws NullObjectException, KeyUsedException, ElementNotFoundException {
+        final IOrganizationCollection<IProvider> providers = new OrganizationCollection<>();
+        final IProvider mercado = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+        final IProvider feira = new Provider("Feira", new Street("Rua B"), new Neighborhood("Boa Vista"), new City("Olinda"));
+        providers.insert(mercado);
+        providers.insert(feira);
+        try {
+            providers.update(mercado.getKey(), "Feira", new Street("Rua B"), new Neighborhood("Boa Vista"), new City("Olinda"));
+            fail("A alteração aceitou chave em uso por outra organização");
+        } catch (final KeyUsedException ex) {
+            assertSame("A exceção não indicou a organização que usa a chave", feira, ex.getElement());
+        }
+        assertEquals("A alteração recusada modificou a organização", "Recife", mercado.getCity().toString());
+        assertSame("A alteração recusada tirou a organização do lugar", mercado, providers.search(mercado.getKey()));
+        providers.update(mercado.getKey(), "Armazem", new Street("Rua C"), new Neighborhood("Boa Vista"), new City("Olinda"));
+        assertEquals("A alteração não renomeou a organização", "Armazem", mercado.toString());
+        assertSame("A organização não foi reposicionada", mercado, providers.select(0));
+        assertEquals("A organização não foi encontrada pela nova chave", 2, providers.size());
+        final ArrayList<IProvider> found = new ArrayList<>();
+        providers.forEachByCity(new City("Olinda"), found::add);
+        assertEquals("A alteração não atualizou o índice por cidade", 2, found.size());
+    }
+
+    /**
+     * Método responsável por listar os elementos cuja inicial é dada letra.
+     * @param initial Refere-se a inicial.
+     * @return Retorna elementos cuja inicial é dada letra.
+     */
+    private ArrayList<IExpense> listByIndex(final char initial) {
+        final ArrayList<IExpense> elements = new ArrayList<>();
+        collection.forEachByIndex("initial", initial, elements::add);
+        return elements;
+    }
+
+}
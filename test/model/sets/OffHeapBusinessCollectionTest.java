@@ -0,0 +1,262 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.DateInvalidException;
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import exceptions.NullObjectException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import model.business.Acquisition;
+import model.business.IAcquisition;
+import model.offers.Expense;
+import model.offers.Income;
+import model.organizations.IProvider;
+import model.organizations.Provider;
+import model.territories.City;
+import model.territories.Neighborhood;
+import model.territories.Street;
+import org.junit.Before;
+import org.junit.Test;
+import util.Date;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar coleção de aquisições armazenadas fora do heap.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class OffHeapBusinessCollectionTest {
+    /**
+     * Refere-se a coleção de aquisições.
+     */
+    private OffHeapBusinessCollection collection;
+    /**
+     * Refere-se ao fornecedor das aquisições.
+     */
+    private IProvider provider;
+
+    @Before
+    public void setUp() throws NullObjectException {
+        collection = new OffHeapBusinessCollection();
+        provider = new Provider("Mercado", new Street("Rua A"), new Neighborhood("Centro"), new City("Recife"));
+    }
+
+    /**
+     * Testa se as aquisições armazenadas mantêm ordem, chaves, soma de quantidades e alterações.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctInsertAndUpdate() throws NullObjectException, DateInvalidException, ElementNotFoundException {
+        final Acquisition rice = new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020));
+        collection.insert(rice);
+        collection.insert(new Acquisition(provider, new Income("Venda", 9), 1, new Date(14, 6, 2020)));
+        collection.insert(new Acquisition(provider, new Expense("ARROZ", 5), 4, new Date(3, 7, 2020)));
+        assertEquals(2, collection.size());
+        assertEquals(2, rice.getAmount());
+        final IAcquisition acquisition = collection.select(1);
+        assertNotSame(rice, acquisition);
+        assertEquals(rice.getKey(), acquisition.getKey());
+        assertEquals(6, acquisition.getAmount());
+        assertEquals(-30, acquisition.getTotalValue(), 0);
+        assertEquals("Arroz", acquisition.toString());
+        assertEquals(3, acquisition.getDate().getDay());
+        final Date date = new Date(1, 6, 2020);
+        collection.update(acquisition.getKey(), business -> {
+            business.setUnitaryValue(7);
+            business.setDate(date);
+        });
+        assertEquals(acquisition, collection.select(0));
+        assertEquals(-7, acquisition.getOffer().getValue(), 0);
+        assertEquals(-42, acquisition.getTotalValue(), 0);
+        assertEquals(acquisition, collection.search(acquisition.getKey()));
+        assertSame(acquisition.getKey(), acquisition.getKey());
+        assertSame(acquisition.getDate(), acquisition.getDate());
+        final List<IAcquisition> acquisitions = new ArrayList<>();
+        collection.forEachByProvider(provider, acquisitions::add);
+        assertEquals(2, acquisitions.size());
+        assertTrue(collection.offHeapSize() > 0);
+    }
+
+    /**
+     * Testa se as linhas descartadas são recuperadas sem alterar as aquisições mantidas
+     * e se a coleção é restaurada após gravada em fluxo de objetos.
+     * @throws Exception Exceção lançada em caso de falha na inserção, gravação ou restauração.
+     */
+    @Test
+    public void correctCompactionAndSerialization() throws Exception {
+        final List<IAcquisition> acquisitions = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            acquisitions.add(new Acquisition(provider, new Expense("Oferta" + i % 100, 1 + i % 7), 1 + i % 3,
+                    new Date(1 + i % 28, 1 + i / 28 % 12, 2000 + i / 336)));
+        }
+        collection.insertAll(acquisitions);
+        final long size = collection.offHeapSize();
+        assertTrue(size >= 20000 * 24);
+        collection.removeIf(acquisition -> acquisition.getAmount() != 3);
+        final IAcquisition kept = collection.select(collection.size() - 1);
+        final String keptKey = kept.getKey().toString();
+        final int keptAmount = kept.getAmount();
+        final int remaining = collection.size();
+        collection.insert(new Acquisition(provider, new Income("Venda", 9), 1, new Date(1, 1, 1999)));
+        assertTrue(collection.offHeapSize() < size);
+        assertEquals(remaining + 1, collection.size());
+        assertEquals(keptKey, kept.getKey().toString());
+        assertEquals(keptAmount, kept.getAmount());
+        assertEquals(keptAmount, collection.search(kept.getKey()).getAmount());
+        assertNotEquals(kept, collection.search(kept.getKey()));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(collection);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final OffHeapBusinessCollection copy = (OffHeapBusinessCollection) input.readObject();
+            assertEquals(collection.size(), copy.size());
+            assertEquals(keptKey, copy.select(copy.size() - 1).getKey().toString());
+            assertEquals("Venda", copy.select(0).toString());
+            assertTrue(copy.offHeapSize() > 0);
+        }
+    }
+
+    /**
+     * Testa se a redefinição de chave recusada por colisão mantém a aquisição com o conteúdo e na posição originais,
+     * inclusive quando ela é a única linha de seu bloco, e se a redefinição aceita a move para a nova posição.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    @Test
+    public void correctRefusedRedefinition() throws NullObjectException, DateInvalidException, ElementNotFoundException,
+            KeyUsedException {
+        final List<Acquisition> acquisitions = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            acquisitions.add(new Acquisition(provider, new Expense(String.format("Oferta%04d", i), 1), 1, new Date(3, 7, 2020)));
+        }
+        collection.insertAll(acquisitions);
+        assertRefused(acquisitions, 700, 100, 1200);
+        for (int i = 1; i < 1199; i++) {
+            collection.remove(acquisitions.get(i).getKey());
+        }
+        assertRefused(acquisitions, 1199, 0, 2);
+        assertRefused(acquisitions, 0, 1199, 2);
+        collection.redefineKey(acquisitions.get(1199).getKey(), "Oferta9999");
+        assertEquals("Oferta9999", collection.select(1).toString());
+        assertEquals(1, collection.rank(acquisitions.get(0).previewKey("Oferta9999")));
+        collection.redefineKey(acquisitions.get(0).getKey(), "Oferta5000");
+        assertEquals("Oferta5000", collection.select(0).toString());
+        assertEquals(2, collection.size());
+    }
+
+    /**
+     * Método responsável por verificar que a redefinição de chave de uma aquisição para a chave de outra é recusada
+     * sem alterar nenhuma das duas nem suas posições.
+     * @param acquisitions Refere-se as aquisições inseridas na coleção, em ordem crescente de chave.
+     * @param moved        Refere-se a posição da aquisição cuja chave seria redefinida.
+     * @param used         Refere-se a posição da aquisição que ocupa a nova chave.
+     * @param size         Refere-se a quantidade de aquisições da coleção.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    private void assertRefused(final List<Acquisition> acquisitions, final int moved, final int used, final int size)
+            throws NullObjectException, ElementNotFoundException {
+        final String movedName = acquisitions.get(moved).toString();
+        final String usedName = acquisitions.get(used).toString();
+        final IAcquisition acquisition = collection.search(acquisitions.get(moved).getKey());
+        final int rank = collection.rank(acquisition.getKey());
+        try {
+            collection.redefineKey(acquisition.getKey(), usedName);
+            fail();
+        } catch (final KeyUsedException ex) {
+            assertEquals(usedName, ex.getElement().toString());
+        }
+        assertEquals(size, collection.size());
+        assertEquals(movedName, acquisition.toString());
+        assertEquals(rank, collection.rank(acquisition.getKey()));
+        assertEquals(movedName, collection.select(rank).toString());
+        assertEquals(usedName, collection.search(acquisitions.get(used).getKey()).toString());
+        final List<String> names = new ArrayList<>();
+        collection.forEach(false, element -> names.add(element.toString()));
+        final List<String> sortedNames = new ArrayList<>(names);
+        sortedNames.sort(null);
+        assertEquals(sortedNames, names);
+    }
+
+    /**
+     * Testa se os percursos por fornecedor e por oferta acompanham inserções, alterações e remoções.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     * @throws DateInvalidException Exceção lançada em caso de data inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctIndexes() throws NullObjectException, DateInvalidException, ElementNotFoundException {
+        final IProvider bakery = new Provider("Padaria", new Street("Rua B"), new Neighborhood("Centro"), new City("Recife"));
+        final Expense bread = new Expense("Pao", 1);
+        collection.insert(new Acquisition(provider, new Expense("Arroz", 5), 2, new Date(3, 7, 2020)));
+        collection.insert(new Acquisition(provider, bread, 1, new Date(4, 7, 2020)));
+        collection.insert(new Acquisition(bakery, bread, 3, new Date(4, 7, 2020)));
+        collection.insert(new Acquisition(bakery, new Expense("PAO", 2), 1, new Date(5, 7, 2020)));
+        assertEquals(2, listByProvider(provider).size());
+        assertEquals(2, listByOffer(bakery, bread).size());
+        final IAcquisition rice = collection.select(0);
+        collection.setProvider(rice.getKey(), bakery);
+        assertEquals(1, listByProvider(provider).size());
+        assertEquals(3, listByProvider(bakery).size());
+        collection.setUnitaryValue(collection.select(1).getKey(), 3);
+        assertEquals(1, listByOffer(provider, bread).size());
+        collection.remove(collection.select(1).getKey());
+        assertTrue(listByOffer(provider, bread).isEmpty());
+        collection.removeIf(acquisition -> acquisition.getAmount() == 3);
+        assertEquals(Arrays.asList(collection.select(1)), listByOffer(bakery, bread));
+        collection.clear();
+        assertTrue(listByProvider(bakery).isEmpty());
+    }
+
+    /**
+     * Método responsável por listar as aquisições de dado fornecedor.
+     * @param provider Refere-se ao fornecedor.
+     * @return Retorna aquisições do fornecedor.
+     */
+    private List<IAcquisition> listByProvider(final IProvider provider) {
+        final List<IAcquisition> acquisitions = new ArrayList<>();
+        collection.forEachByProvider(provider, acquisitions::add);
+        return acquisitions;
+    }
+
+    /**
+     * Método responsável por listar as aquisições de dada oferta de dado fornecedor.
+     * @param provider Refere-se ao fornecedor.
+     * @param offer    Refere-se a oferta.
+     * @return Retorna aquisições da oferta.
+     */
+    private List<IAcquisition> listByOffer(final IProvider provider, final Expense offer) {
+        final List<IAcquisition> acquisitions = new ArrayList<>();
+        collection.forEachByOffer(provider, offer, acquisitions::add);
+        return acquisitions;
+    }
+
+}
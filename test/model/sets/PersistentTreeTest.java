@@ -0,0 +1,206 @@
+/*
+ * file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.sets;
+
+import exceptions.ElementNotFoundException;
+import exceptions.KeyUsedException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar árvore persistente.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class PersistentTreeTest {
+    /**
+     * Refere-se a árvore persistente.
+     */
+    private PersistentTree<Integer, String> tree;
+    /**
+     * Refere-se ao vetor de strings.
+     */
+    private String[] vector;
+    
+    /**
+     * Construtor responsável pelo instanciamento da classe de teste.
+     */
+    public PersistentTreeTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() throws KeyUsedException {
+        tree = new PersistentTree<>();
+        vector = new String[] {"A", "B", "C", "D", "E"};
+        for (Integer i = 0; i < vector.length; i++) {
+            tree.insert(i, vector[i]);
+        }
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Testa se a cópia de uma versão não é afetada por alterações posteriores na árvore.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctSnapshotIsolation() throws KeyUsedException, ElementNotFoundException {
+        final PersistentTree<Integer, String> snapshot = tree.snapshot();
+        tree.remove((Integer) 2);
+        tree.insert((Integer) 7, "H");
+        assertEquals(5, snapshot.size());
+        assertEquals("C", snapshot.search((Integer) 2));
+        assertFalse(snapshot.isContains((Integer) 7));
+        assertFalse(tree.isContains((Integer) 2));
+        assertEquals("H", tree.select(4));
+        snapshot.insert((Integer) 9, "J");
+        assertFalse(tree.isContains((Integer) 9));
+    }
+
+    /**
+     * Testa se as combinações e recálculos de elementos não afetam cópias anteriores da árvore.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctComputeSnapshotIsolation() throws ElementNotFoundException {
+        final PersistentTree<Integer, String> snapshot = tree.snapshot();
+        assertEquals("CC", tree.merge((Integer) 2, "C", (myElement, newElement) -> myElement + newElement));
+        assertNull(tree.compute((Integer) 0, element -> null));
+        assertEquals("B", tree.putIfAbsent((Integer) 1, "Z"));
+        assertNull(tree.putIfAbsent((Integer) 8, "I"));
+        assertEquals("C", snapshot.search((Integer) 2));
+        assertEquals("A", snapshot.search((Integer) 0));
+        assertFalse(snapshot.isContains((Integer) 8));
+        assertEquals(5, tree.size());
+        assertEquals("CC", tree.select(1));
+        assertEquals("I", tree.select(4));
+    }
+
+    /**
+     * Testa se o iterador percorre a versão existente no momento de sua criação.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctIteratorDuringChanges() throws ElementNotFoundException {
+        final Iterator<String> iterator = tree.iterator(false);
+        final StringBuilder elements = new StringBuilder();
+        while (iterator.hasNext()) {
+            elements.append(iterator.next());
+            tree.remove((Integer) (elements.length() - 1));
+        }
+        assertEquals("ABCDE", elements.toString());
+        assertTrue(tree.isEmpty());
+    }
+
+    /**
+     * Testa operações aleatórias em comparação com a árvore convencional.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRandomOperations() throws KeyUsedException, ElementNotFoundException {
+        final PersistentTree<Integer, Integer> persistent = new PersistentTree<>();
+        final Tree<Integer, Integer> reference = new Tree<>();
+        final Random random = new Random(14072020);
+        for (int i = 0; i < 20000; i++) {
+            final Integer key = random.nextInt(2000);
+            if (reference.isContains(key)) {
+                reference.remove(key);
+                persistent.remove(key);
+            } else {
+                reference.insert(key, key);
+                persistent.insert(key, key);
+            }
+        }
+        assertEquals(reference.size(), persistent.size());
+        final List<Integer> expected = new ArrayList<>();
+        final List<Integer> actual = new ArrayList<>();
+        reference.forEach(false, expected::add);
+        persistent.forEach(false, actual::add);
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, persistent.rank(expected.get(i)));
+            assertEquals(expected.get(i), persistent.select(i));
+        }
+        assertEquals(reference.floor(1000), persistent.floor(1000));
+        assertEquals(reference.ceiling(1000), persistent.ceiling(1000));
+    }
+
+    /**
+     * Testa lançamento de exceções de chave usada e de elemento não encontrado.
+     */
+    @Test
+    public void exceptions() {
+        try {
+            tree.insert((Integer) 0, "Z");
+            fail("A inserção de chave usada seguiu o fluxo.");
+        } catch (KeyUsedException ex) {
+            assertEquals("A", ex.getElement());
+        }
+        try {
+            tree.remove((Integer) 9);
+            fail("A remoção de chave inexistente seguiu o fluxo.");
+        } catch (ElementNotFoundException ex) {
+            assertEquals(5, tree.size());
+        }
+    }
+
+    /**
+     * Testa se a árvore é restaurada corretamente após gravada em fluxo de objetos.
+     * @throws Exception Exceção lançada em caso de falha na gravação ou restauração.
+     */
+    @Test
+    public void correctSerialization() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(tree);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final PersistentTree<Integer, String> copy = (PersistentTree<Integer, String>) input.readObject();
+            assertEquals(vector.length, copy.size());
+            for (int i = 0; i < vector.length; i++) {
+                assertEquals(vector[i], copy.select(i));
+            }
+        }
+    }
+    
+}
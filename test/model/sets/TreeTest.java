@@ -20,7 +20,23 @@
 package model.sets;
 
 import exceptions.ElementNotFoundException;
+import exceptions.IntegerValueInvalidException;
 import exceptions.KeyUsedException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.stream.StreamSupport;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -266,4 +282,478 @@ public class TreeTest {
         });
     }
     
+    /**
+     * Testa a posição e a seleção de elementos por posição após inserções e remoções.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRankAndSelect() throws KeyUsedException, ElementNotFoundException {
+        for (Integer i = vector.length - 1; i >= 0; i--) {
+            tree.insert(i, vector[i]);
+        }
+        for (int i = 0; i < vector.length; i++) {
+            assertEquals("A posição diverge", i, tree.rank((Integer) i));
+            assertEquals("A seleção diverge", vector[i], tree.select(i));
+        }
+        tree.remove((Integer) 1);
+        assertEquals(4, tree.size());
+        assertEquals(1, tree.rank((Integer) 2));
+        assertEquals("C", tree.select(1));
+    }
+
+    /**
+     * Testa a inserção, substituição, combinação e remoção de elementos sem lançamento de exceções.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctComputeAndMergeAndPutIfAbsent() throws ElementNotFoundException {
+        for (Integer i = 0; i < vector.length; i++) {
+            assertNull(tree.putIfAbsent(i, vector[i]));
+        }
+        assertEquals("A", tree.putIfAbsent((Integer) 0, "Z"));
+        assertEquals("A", tree.search((Integer) 0));
+        assertEquals("BB", tree.merge((Integer) 1, "B", (myElement, newElement) -> myElement + newElement));
+        assertEquals("F", tree.merge((Integer) 5, "F", (myElement, newElement) -> myElement + newElement));
+        assertEquals("C!", tree.compute((Integer) 2, element -> element + "!"));
+        assertNull(tree.compute((Integer) 3, element -> null));
+        assertNull(tree.compute((Integer) 9, element -> null));
+        assertEquals(5, tree.size());
+        assertFalse(tree.isContains((Integer) 3));
+        assertFalse(tree.isContains((Integer) 9));
+        assertEquals("BB", tree.select(1));
+        assertEquals("F", tree.select(4));
+    }
+
+    /**
+     * Testa a mudança de chave em todas as árvores, inclusive colisões aceitas e recusadas.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRekey() throws ElementNotFoundException {
+        final List<ITree<Integer, String>> trees = Arrays.asList(tree, new PersistentTree<>(),
+                new ConcurrentTree<>(), new BPlusTree<>());
+        for (final ITree<Integer, String> subTree : trees) {
+            for (Integer i = 0; i < 100; i++) {
+                subTree.putIfAbsent(i * 2, i.toString());
+            }
+            assertEquals("7", subTree.rekey(14, element -> 15, (usedElement, movedElement) -> null));
+            assertFalse(subTree.isContains((Integer) 14));
+            assertEquals(7, subTree.rank((Integer) 15));
+            assertNull(subTree.rekey(15, element -> 16, (usedElement, movedElement) -> null));
+            assertEquals("7", subTree.search((Integer) 15));
+            assertEquals("8", subTree.search((Integer) 16));
+            assertEquals("87", subTree.rekey(15, element -> 16, (usedElement, movedElement) -> usedElement + movedElement));
+            assertFalse(subTree.isContains((Integer) 15));
+            assertNull(subTree.rekey(15, element -> 17, (usedElement, movedElement) -> usedElement));
+            assertEquals("0", subTree.rekey(0, element -> 0, (usedElement, movedElement) -> null));
+            assertEquals(99, subTree.size());
+        }
+    }
+
+    /**
+     * Testa a recusa da mudança de chave em todas as árvores, que devem permanecer inalteradas
+     * e aplicar a função de nova chave uma única vez por mudança.
+     * @throws IntegerValueInvalidException Exceção lançada em caso de ramificação inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRefusedRekey() throws IntegerValueInvalidException, ElementNotFoundException {
+        final List<ITree<Integer, String>> trees = Arrays.asList(tree, new PersistentTree<>(),
+                new ConcurrentTree<>(), new BPlusTree<>(3), new BPlusTree<>());
+        for (final ITree<Integer, String> subTree : trees) {
+            for (Integer i = 0; i < 500; i++) {
+                subTree.putIfAbsent(i * 2, i.toString());
+            }
+            final List<String> elements = new ArrayList<>();
+            subTree.forEach(false, elements::add);
+            for (int i = 1; i < 500; i += 7) {
+                final Integer newKey = (i * 37 % 500) * 2;
+                final int[] calls = new int[1];
+                assertNull(subTree.rekey(i * 2, element -> {
+                    calls[0]++;
+                    return newKey;
+                }, (usedElement, movedElement) -> null));
+                assertEquals(1, calls[0]);
+            }
+            final List<String> elementsAfterRefusal = new ArrayList<>();
+            subTree.forEach(false, elementsAfterRefusal::add);
+            assertEquals(elements, elementsAfterRefusal);
+            for (Integer i = 0; i < 500; i++) {
+                assertEquals(i.toString(), subTree.search(i * 2));
+                assertEquals((int) i, subTree.rank(i * 2));
+            }
+        }
+    }
+
+    /**
+     * Testa mudanças de chave aleatórias, aceitas, combinadas ou recusadas, em comparação com um mapa ordenado,
+     * inclusive em árvores B+ de baixa ramificação, em que as chaves costumam estar em folhas distintas.
+     * @throws IntegerValueInvalidException Exceção lançada em caso de ramificação inválida.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRandomRekey() throws IntegerValueInvalidException, ElementNotFoundException {
+        final List<ITree<Integer, Integer>> trees = Arrays.asList(new Tree<>(), new PersistentTree<>(),
+                new BPlusTree<>(3), new BPlusTree<>(4), new BPlusTree<>(5), new BPlusTree<>(8));
+        for (final ITree<Integer, Integer> subTree : trees) {
+            final TreeMap<Integer, Integer> reference = new TreeMap<>();
+            final Random random = new Random(7);
+            for (int i = 0; i < 2000; i++) {
+                final Integer key = random.nextInt(4000);
+                subTree.putIfAbsent(key, key);
+                reference.putIfAbsent(key, key);
+            }
+            for (int i = 0; i < 20000; i++) {
+                final Integer oldKey = random.nextInt(4000);
+                final Integer newKey = random.nextInt(4000);
+                final int resolution = random.nextInt(3);
+                final BiFunction<Integer, Integer, Integer> onCollision = (usedElement, movedElement) ->
+                        resolution == 0 ? null : resolution == 1 ? usedElement : usedElement + movedElement;
+                final Integer movedElement = reference.get(oldKey);
+                Integer expected = movedElement;
+                if (movedElement != null && !oldKey.equals(newKey)) {
+                    final Integer usedElement = reference.get(newKey);
+                    expected = usedElement == null ? movedElement : onCollision.apply(usedElement, movedElement);
+                    if (expected != null) {
+                        reference.remove(oldKey);
+                        reference.put(newKey, expected);
+                    }
+                }
+                assertEquals(expected, subTree.rekey(oldKey, element -> newKey, onCollision));
+                assertEquals(reference.size(), subTree.size());
+            }
+            final List<Integer> elements = new ArrayList<>();
+            subTree.forEach(false, elements::add);
+            assertEquals(new ArrayList<>(reference.values()), elements);
+            int index = 0;
+            for (final Map.Entry<Integer, Integer> entry : reference.entrySet()) {
+                assertEquals(index++, subTree.rank(entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Testa a remoção por critério e a manutenção da ordem e das posições dos elementos restantes.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRemoveIf() throws KeyUsedException, ElementNotFoundException {
+        for (Integer i = 0; i < 1000; i++) {
+            tree.insert(i, i.toString());
+        }
+        assertFalse(tree.removeIf(element -> element.isEmpty()));
+        assertTrue(tree.removeIf(element -> Integer.parseInt(element) % 3 != 0));
+        assertEquals(334, tree.size());
+        for (int i = 0; i < tree.size(); i++) {
+            assertEquals(Integer.toString(i * 3), tree.select(i));
+            assertEquals(i, tree.rank(i * 3));
+        }
+        assertFalse(tree.isContains((Integer) 1));
+        tree.insert((Integer) 1, "1");
+        assertEquals(1, tree.rank((Integer) 1));
+        assertTrue(tree.removeIf(element -> true));
+        assertTrue(tree.isEmpty());
+    }
+
+    /**
+     * Testa lançamento de exceção de elemento não encontrado ao buscar posições inexistentes.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    @Test
+    public void elementNotFoundRankAndSelect() throws KeyUsedException {
+        tree.insert((Integer) 1, "one");
+        try {
+            tree.rank((Integer) 2);
+            fail("A posição de chave inexistente seguiu o fluxo.");
+        } catch (ElementNotFoundException ex) {
+            assertTrue(true);
+        }
+        try {
+            tree.select(1);
+            fail("A seleção de posição inexistente seguiu o fluxo.");
+        } catch (ElementNotFoundException ex) {
+            assertTrue(true);
+        }
+    }
+
+    /**
+     * Testa o percurso por iterador em ordem crescente, reversa e com interrupção antecipada.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    @Test
+    public void correctIterator() throws KeyUsedException {
+        for (Integer i = vector.length - 1; i >= 0; i--) {
+            tree.insert(i, vector[i]);
+        }
+        final Iterator<String> ascending = tree.iterator(false);
+        for (int i = 0; i < vector.length; i++) {
+            assertTrue(ascending.hasNext());
+            assertEquals(vector[i], ascending.next());
+        }
+        assertFalse(ascending.hasNext());
+        final Iterator<String> descending = tree.iterator(true);
+        for (int i = vector.length - 1; i >= 0; i--) {
+            assertEquals(vector[i], descending.next());
+        }
+        assertFalse(descending.hasNext());
+        assertEquals(vector[0], tree.iterator(false).next());
+        assertFalse(new Tree<Integer, String>().iterator(false).hasNext());
+    }
+
+    /**
+     * Testa se a divisão do percurso preserva todos os elementos em ordem.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    @Test
+    public void correctSpliterator() throws KeyUsedException {
+        final Tree<Integer, Integer> numbers = new Tree<>();
+        for (Integer i = 0; i < 1000; i++) {
+            numbers.insert(i, i);
+        }
+        final Spliterator<Integer> suffix = numbers.spliterator();
+        final Spliterator<Integer> prefix = suffix.trySplit();
+        assertEquals(500, prefix.estimateSize());
+        assertEquals(500, suffix.estimateSize());
+        final List<Integer> elements = new ArrayList<>();
+        prefix.forEachRemaining(elements::add);
+        suffix.forEachRemaining(elements::add);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((Integer) i, elements.get(i));
+        }
+        assertEquals(499500, StreamSupport.stream(numbers.spliterator(), true).mapToInt(Integer::intValue).sum());
+        assertEquals((Integer) 10, StreamSupport.stream(numbers.spliterator(), true).skip(10).findFirst().get());
+    }
+
+    /**
+     * Testa o percurso por intervalos de chaves e a busca pelas chaves vizinhas.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctRangeQueries() throws KeyUsedException, ElementNotFoundException {
+        final Tree<Integer, Integer> numbers = new Tree<>();
+        for (Integer i = 0; i < 100; i += 2) {
+            numbers.insert(i, i);
+        }
+        final List<Integer> elements = new ArrayList<>();
+        numbers.forEachInRange(10, 20, false, elements::add);
+        assertEquals(Arrays.asList(10, 12, 14, 16, 18), elements);
+        elements.clear();
+        numbers.forEachInRange(11, 19, true, elements::add);
+        assertEquals(Arrays.asList(18, 16, 14, 12), elements);
+        elements.clear();
+        numbers.headRange(5, false, elements::add);
+        assertEquals(Arrays.asList(0, 2, 4), elements);
+        elements.clear();
+        numbers.tailRange(95, false, elements::add);
+        assertEquals(Arrays.asList(96, 98), elements);
+        assertEquals((Integer) 10, numbers.floor(11));
+        assertEquals((Integer) 10, numbers.floor(10));
+        assertEquals((Integer) 12, numbers.ceiling(11));
+        assertEquals((Integer) 98, numbers.floor(1000));
+        try {
+            numbers.floor(-1);
+            fail("O piso inexistente seguiu o fluxo.");
+        } catch (ElementNotFoundException ex) {
+            assertTrue(true);
+        }
+        try {
+            numbers.ceiling(99);
+            fail("O teto inexistente seguiu o fluxo.");
+        } catch (ElementNotFoundException ex) {
+            assertTrue(true);
+        }
+    }
+
+    /**
+     * Testa a construção da árvore a partir de elementos ordenados e desordenados.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test
+    public void correctBuildFromSorted() throws KeyUsedException, ElementNotFoundException {
+        final Tree<Integer, Integer> numbers = new Tree<>();
+        final List<Integer> elements = new ArrayList<>();
+        for (Integer i = 0; i < 1023; i++) {
+            elements.add(i);
+        }
+        numbers.buildFromSorted(elements.iterator(), element -> element);
+        assertEquals(1023, numbers.size());
+        for (int i = 0; i < 1023; i++) {
+            assertEquals((Integer) i, numbers.select(i));
+        }
+        numbers.remove(500);
+        numbers.insert(500, 500);
+        assertEquals(1023, numbers.size());
+        tree.insert((Integer) 9, "nove");
+        tree.buildFromSorted(Arrays.asList(vector).iterator(), element -> "ABCDE".indexOf(element));
+        assertFalse(tree.isContains((Integer) 9));
+        for (int i = 0; i < vector.length; i++) {
+            assertEquals(vector[i], tree.select(i));
+        }
+    }
+
+    /**
+     * Testa lançamento de exceção de chave usada na construção a partir de elementos repetidos.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     */
+    @Test
+    public void keyUsedBuildFromSorted() throws KeyUsedException {
+        tree.insert((Integer) 9, "nove");
+        try {
+            tree.buildFromSorted(Arrays.asList("B", "A", "B").iterator(), element -> "ABCDE".indexOf(element));
+            fail("A construção com chave repetida seguiu o fluxo.");
+        } catch (KeyUsedException ex) {
+            assertEquals("B", ex.getElement());
+        }
+        assertEquals(1, tree.size());
+        assertTrue(tree.isContains((Integer) 9));
+    }
+
+    /**
+     * Testa se a árvore é restaurada corretamente após gravada em fluxo de objetos.
+     * @throws Exception Exceção lançada em caso de falha na gravação ou restauração.
+     */
+    @Test
+    public void correctSerialization() throws Exception {
+        for (Integer i = vector.length - 1; i >= 0; i--) {
+            tree.insert(i, vector[i]);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(tree);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Tree<Integer, String> copy = (Tree<Integer, String>) input.readObject();
+            assertEquals(vector.length, copy.size());
+            for (int i = 0; i < vector.length; i++) {
+                assertEquals(vector[i], copy.search((Integer) i));
+                assertEquals(i, copy.rank((Integer) i));
+            }
+        }
+    }
+
+    /**
+     * Testa se as alturas armazenadas nos nós coincidem com as alturas recalculadas após inserções
+     * e remoções aleatórias, incluindo remoções de nós com dois filhos e rotações em ambos os sentidos.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ElementNotFoundException Exceção lançada em caso de elemento não encontrado.
+     */
+    @Test(timeout = 60000)
+    public void correctCachedHeights() throws KeyUsedException, ElementNotFoundException, ReflectiveOperationException {
+        final Random random = new Random(14072020);
+        final Tree<Integer, Integer> randomTree = new Tree<>();
+        final List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 200000; i++) {
+            if (keys.isEmpty() || random.nextInt(3) > 0) {
+                final Integer key = random.nextInt();
+                if (!randomTree.isContains(key)) {
+                    randomTree.insert(key, key);
+                    keys.add(key);
+                }
+            } else {
+                final int index = random.nextInt(keys.size());
+                randomTree.remove(keys.get(index));
+                keys.set(index, keys.get(keys.size() - 1));
+                keys.remove(keys.size() - 1);
+            }
+            if (i % 20000 == 0) {
+                assertTrue("A altura armazenada diverge da recalculada.", isHeightConsistent(randomTree));
+            }
+        }
+        assertEquals(keys.size(), randomTree.size());
+        assertTrue("A altura armazenada diverge da recalculada.", isHeightConsistent(randomTree));
+        for (final Integer key : keys) {
+            randomTree.remove(key);
+        }
+        assertTrue(randomTree.isEmpty());
+        assertTrue(isHeightConsistent(randomTree));
+    }
+
+    /**
+     * Testa se inserções mantêm custo logarítmico com um milhão de elementos, comparando o tempo de inserção
+     * de um milhão de elementos ao de cem mil. Com custo logarítmico a razão fica próxima de dez vezes o
+     * acréscimo da altura; com custo linear por inserção, próxima de cem.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ReflectiveOperationException Exceção lançada em caso de falha no acesso aos nós.
+     */
+    @Test(timeout = 60000)
+    public void logarithmicCostWithOneMillionElements() throws KeyUsedException, ReflectiveOperationException {
+        final long smallTime = insertionTime(100000);
+        final long largeTime = insertionTime(1000000);
+        assertTrue("A inserção não teve custo logarítmico: " + smallTime + " ns para 10^5 e " + largeTime
+                + " ns para 10^6.", largeTime < 30 * smallTime);
+    }
+
+    /**
+     * Método responsável por medir o menor tempo de inserção de dada quantidade de chaves crescentes
+     * em uma árvore vazia, dentre algumas repetições.
+     * @param size Refere-se a quantidade de chaves.
+     * @return Retorna menor tempo de inserção em nanossegundos.
+     * @throws KeyUsedException Exceção lançada em caso de chave usada.
+     * @throws ReflectiveOperationException Exceção lançada em caso de falha no acesso aos nós.
+     */
+    private static long insertionTime(final int size) throws KeyUsedException, ReflectiveOperationException {
+        long bestTime = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            final Tree<Integer, Integer> timedTree = new Tree<>();
+            final long start = System.nanoTime();
+            for (int i = 0; i < size; i++) {
+                timedTree.insert(i, i);
+            }
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+            assertEquals(size, timedTree.size());
+            assertTrue("A altura armazenada diverge da recalculada.", isHeightConsistent(timedTree));
+        }
+        return bestTime;
+    }
+
+    /**
+     * Método responsável por verificar se as alturas armazenadas nos nós de dada árvore coincidem com as alturas
+     * recalculadas a partir das folhas e se cada nó está balanceado.
+     * @param checkedTree Refere-se a árvore verificada.
+     * @return Retorna indicativo de que as alturas armazenadas estão corretas e a árvore está balanceada.
+     * @throws ReflectiveOperationException Exceção lançada em caso de falha no acesso aos nós.
+     */
+    private static boolean isHeightConsistent(final Tree<?, ?> checkedTree) throws ReflectiveOperationException {
+        final Field root = Tree.class.getDeclaredField("root");
+        root.setAccessible(true);
+        return recalculateHeight(root.get(checkedTree)) >= 0;
+    }
+
+    /**
+     * Método responsável por recalcular a altura de dada subárvore, conferindo as alturas armazenadas.
+     * @param node Refere-se ao nó raiz da subárvore.
+     * @return Retorna altura recalculada, ou valor negativo se alguma altura armazenada divergir
+     *         ou algum nó estiver desbalanceado.
+     * @throws ReflectiveOperationException Exceção lançada em caso de falha no acesso aos nós.
+     */
+    private static int recalculateHeight(final Object node) throws ReflectiveOperationException {
+        if (node == null) {
+            return 0;
+        }
+        final int heightOnTheLeft = recalculateHeight(nodeField(node, "sonOnTheLeft"));
+        final int heightOnTheRight = recalculateHeight(nodeField(node, "sonOnTheRight"));
+        if (heightOnTheLeft < 0 || heightOnTheRight < 0 || Math.abs(heightOnTheRight - heightOnTheLeft) > 1) {
+            return -1;
+        }
+        final int currentHeight = Math.max(heightOnTheLeft, heightOnTheRight) + 1;
+        return currentHeight == (Integer) nodeField(node, "height") ? currentHeight : -1;
+    }
+
+    /**
+     * Método responsável por ler dado campo de um nó da árvore.
+     * @param node Refere-se ao nó.
+     * @param name Refere-se ao nome do campo.
+     * @return Retorna valor do campo.
+     * @throws ReflectiveOperationException Exceção lançada em caso de falha no acesso ao campo.
+     */
+    private static Object nodeField(final Object node, final String name) throws ReflectiveOperationException {
+        final Field field = node.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(node);
+    }
+
 }
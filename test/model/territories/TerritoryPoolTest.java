@@ -0,0 +1,81 @@
+/*
+ * This file is part of the SDSFinance Open Source Project.
+ * SDSFinance is licensed under the GNU GPLv3.
+ *
+ * Copyright (c) 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package model.territories;
+
+import exceptions.NullObjectException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por testar o compartilhamento de territórios.
+ * @author Everton Bruno Silva dos Santos.
+ */
+public class TerritoryPoolTest {
+
+    /**
+     * Testa se territórios de mesmo nome são a mesma instância e se os de nomes distintos não são.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     */
+    @Test
+    public void correctValueOf() throws NullObjectException {
+        final City city = City.valueOf("Recife");
+        assertSame(city, City.valueOf(new String("Recife")));
+        assertNotSame(city, City.valueOf("recife"));
+        assertSame(Street.valueOf("Rua A"), Street.valueOf("Rua A"));
+        assertSame(Neighborhood.valueOf("Centro"), Neighborhood.valueOf("Centro"));
+        assertNotSame(new City("Recife"), city);
+        assertEquals("Recife", city.toString());
+    }
+
+    /**
+     * Testa se nome nulo é recusado.
+     * @throws NullObjectException Exceção lançada em caso de nome nulo.
+     */
+    @Test(expected = NullObjectException.class)
+    public void incorrectValueOf() throws NullObjectException {
+        City.valueOf(null);
+    }
+
+    /**
+     * Testa se territórios lidos de fluxo de objetos são substituídos pelas instâncias compartilhadas.
+     * @throws Exception Exceção lançada em caso de falha na gravação ou leitura.
+     */
+    @Test
+    public void correctReadResolve() throws Exception {
+        final City city = City.valueOf("Olinda");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(Arrays.asList(new City("Olinda"), new Street("Rua B"), new Street("Rua B")));
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final List<?> territories = (List<?>) input.readObject();
+            assertSame(city, territories.get(0));
+            assertSame(Street.valueOf("Rua B"), territories.get(1));
+            assertSame(territories.get(1), territories.get(2));
+        }
+    }
+
+}